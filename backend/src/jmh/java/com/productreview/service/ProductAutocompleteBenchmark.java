@@ -0,0 +1,77 @@
+package com.productreview.service;
+
+import com.productreview.dto.ProductSuggestionDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Autocomplete lookups on an index of {@code products} names shaped like the load-test catalog
+ * ("Synthetic Pro Phone 123"), plus a review count update re-ranking the trie.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx3g")
+public class ProductAutocompleteBenchmark {
+
+    private static final String[] ADJECTIVES = {
+            "Pro", "Max", "Lite", "Classic", "Ultra", "Mini", "Plus", "Air", "Prime", "Smart", "Eco", "Studio"
+    };
+    private static final String[] NOUNS = {
+            "Phone", "Headphones", "Jacket", "Sneakers", "Blender", "Novel", "Backpack", "Lamp", "Watch",
+            "Speaker", "Tent", "Kettle", "Keyboard", "Hoodie", "Camera", "Puzzle", "Serum", "Bottle"
+    };
+
+    @Param({"1000000"})
+    public int products;
+
+    @Param({"s", "pro", "synthetic pro ph", "12345"})
+    public String query;
+
+    private ProductAutocomplete autocomplete;
+    private long[] ids;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        random = new Random(42);
+        ids = new long[products];
+        String[] names = new String[products];
+        long[] reviewCounts = new long[products];
+        for (int i = 0; i < products; i++) {
+            ids[i] = i + 1;
+            names[i] = "Synthetic " + ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " "
+                    + NOUNS[random.nextInt(NOUNS.length)] + " " + (i + 1);
+            reviewCounts[i] = random.nextInt(500);
+        }
+        autocomplete = new ProductAutocomplete(new DriverManagerDataSource(), null, Runnable::run);
+        autocomplete.load(ids, names, reviewCounts);
+    }
+
+    @Benchmark
+    public List<ProductSuggestionDTO> suggest() {
+        return autocomplete.suggest(query, 8);
+    }
+
+    @Benchmark
+    public void updateReviewCount() {
+        autocomplete.updateReviewCount(ids[random.nextInt(ids.length)], random.nextInt(500));
+    }
+}
@@ -0,0 +1,122 @@
+package com.productreview.service;
+
+import com.productreview.ProductReviewApplication;
+import com.productreview.dto.ProductDTO;
+import com.productreview.dto.ProductFacetsDTO;
+import com.productreview.spec.ProductSortKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listing pages from the database (JPA, H2 in memory) against {@link ProductReadModel}, and
+ * facet counts from the read model, on a
+ * synthetic catalog of {@code products} rows. A million rows in H2 needs the fork's 8 GB heap and
+ * a long seeding phase; pass {@code -p products=100000} for a quicker run.
+ * Hibernate's query cache is turned off so the JPA path runs its queries on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx8g")
+public class ProductListingBenchmark {
+
+    @Param({"1000000"})
+    public int products;
+
+    /**
+     * category: category filter only; filtered: category plus rating and price range;
+     * all: no filters.
+     */
+    @Param({"all", "category", "filtered"})
+    public String query;
+
+    @Param({"REVIEW_COUNT", "PRICE"})
+    public ProductSortKey sortKey;
+
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private ProductReadModel productReadModel;
+    private ProductFacetService productFacetService;
+    private String category;
+    private Integer minRating;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private int page;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // Command-line arguments, so they take precedence over application.properties.
+        context = new SpringApplicationBuilder(ProductReviewApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.profiles.active=dev,loadtest",
+                        "--loadtest.seed.products=" + products,
+                        "--loadtest.seed.reviews=" + products,
+                        "--llm.provider=stub",
+                        "--catalog.read-model.enabled=true",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.cache.use_query_cache=false",
+                        "--logging.level.root=WARN");
+        productService = context.getBean(ProductService.class);
+        productReadModel = context.getBean(ProductReadModel.class);
+        productFacetService = context.getBean(ProductFacetService.class);
+        if (productReadModel.size() == 0) {
+            throw new IllegalStateException("Read model did not load");
+        }
+        category = query.equals("all") ? null : "Books";
+        if (query.equals("filtered")) {
+            minRating = 3;
+            minPrice = new BigDecimal("20");
+            maxPrice = new BigDecimal("200");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<ProductDTO> jpa() {
+        int p = nextPage();
+        return productService.getAllProducts(PageRequest.of(p, 20, sortKey.toSort(Sort.Direction.DESC)),
+                category, null, minRating, minPrice, maxPrice);
+    }
+
+    @Benchmark
+    public Page<ProductDTO> readModel() {
+        return productReadModel.find(category, minRating, minPrice, maxPrice, sortKey, Sort.Direction.DESC, nextPage(), 20);
+    }
+
+    @Benchmark
+    public ProductFacetsDTO facets() {
+        return productFacetService.getFacets(category, null, minRating, minPrice, maxPrice);
+    }
+
+    private int nextPage() {
+        page = (page + 1) % 50;
+        return page;
+    }
+}
@@ -0,0 +1,57 @@
+package com.productreview.service;
+
+import com.productreview.dto.ProductDTO;
+import com.productreview.entity.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-product work done for every product in listing responses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductServiceBenchmark {
+
+    private ProductService productService;
+    private Product product;
+    private ProductService.Aggregate aggregate;
+
+    @Setup
+    public void setup() {
+        productService = new ProductService(null, null, null, new MissingIdCache());
+        product = new Product();
+        product.setId(42L);
+        product.setName("Samsung Galaxy S24");
+        product.setDescription("Flagship Android phone with AI features and stunning display.");
+        product.setCategory("Electronics");
+        product.setPrice(new BigDecimal("899.99"));
+        product.setImageUrls(List.of(
+                "https://images.unsplash.com/photo-1695048133142-1a20484d2569?w=800",
+                "https://images.unsplash.com/photo-1696446701796-da61225697cc?w=800",
+                "https://images.unsplash.com/photo-1592750475338-74b7b21085ab?w=800"));
+        product.setAverageRating(4.3);
+        product.setReviewCount(128L);
+        aggregate = new ProductService.Aggregate(4.2734, 128L);
+    }
+
+    @Benchmark
+    public ProductDTO convertToDTO() {
+        return productService.convertToDTO(product, aggregate);
+    }
+}
@@ -0,0 +1,67 @@
+package com.productreview.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.productreview.dto.ReviewSummaryDTO;
+import com.productreview.entity.Review;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReviewSummaryBenchmark {
+
+    private static final String[] COMMENTS = {
+            "Great battery life and fast performance. Highly recommend!",
+            "The camera is average and the price is too high for what you get.",
+            "Delivery was quick, packaging was fine. Easy to use.",
+            "Kargo çok hızlı geldi, kalite gayet iyi. Fiyatı biraz pahalı.",
+            "Stopped working after two weeks. Terrible build quality.",
+            "La batería dura poco pero el rendimiento es bueno."
+    };
+
+    @Param({"30", "100"})
+    public int reviewCount;
+
+    private GroqReviewSummaryService service;
+    private List<Review> reviews;
+    private Map<String, Long> topicCounts;
+
+    @Setup
+    public void setup() {
+        service = new GroqReviewSummaryService(null, null, new MissingIdCache(), null, null, new ObjectMapper());
+        Random random = new Random(7);
+        reviews = new ArrayList<>();
+        for (int i = 0; i < reviewCount; i++) {
+            Review r = new Review();
+            r.setId((long) i);
+            r.setComment(COMMENTS[random.nextInt(COMMENTS.length)]);
+            r.setRating(1 + random.nextInt(5));
+            reviews.add(r);
+        }
+        topicCounts = Map.of("battery", 41L, "performance", 30L, "price", 55L, "delivery", 12L, "camera", 9L);
+    }
+
+    @Benchmark
+    public ReviewSummaryDTO buildLocalSummary() {
+        return service.buildLocalSummary(reviews, topicCounts, "en");
+    }
+}
@@ -0,0 +1,45 @@
+package com.productreview.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslationCacheKeyBenchmark {
+
+    @Param({"40", "400", "2000"})
+    public int length;
+
+    private GroqTranslationService service;
+    private String text;
+
+    @Setup
+    public void setup() {
+        service = new GroqTranslationService(null, new ObjectMapper());
+        String sentence = "The battery lasts all day and the screen is bright. ";
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < length) sb.append(sentence);
+        text = sb.substring(0, length);
+    }
+
+    @Benchmark
+    public String cacheKey() {
+        return service.cacheKey("tr", text);
+    }
+}
@@ -0,0 +1,86 @@
+package com.productreview.spec;
+
+import com.productreview.entity.Product;
+import com.productreview.entity.ProductTopicCount;
+import com.productreview.entity.Review;
+import com.productreview.entity.ReviewHelpfulVote;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the listing Specification and turning it into a criteria predicate, as
+ * {@code productRepository.findAll(spec, pageable)} does on every filtered listing request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductSpecificationsBenchmark {
+
+    @Param({"phone", "samsung galaxy s24 ultra"})
+    public String search;
+
+    private StandardServiceRegistry registry;
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder cb;
+
+    @Setup
+    public void setup() {
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting("hibernate.connection.url", "jdbc:h2:mem:specbench")
+                .applySetting("hibernate.connection.username", "sa")
+                .applySetting("hibernate.hbm2ddl.auto", "none")
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(Product.class)
+                .addAnnotatedClass(Review.class)
+                .addAnnotatedClass(ReviewHelpfulVote.class)
+                .addAnnotatedClass(ProductTopicCount.class)
+                .buildMetadata()
+                .buildSessionFactory();
+        cb = sessionFactory.getCriteriaBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    @Benchmark
+    public Specification<Product> buildSpecification() {
+        return ProductSpecifications.categoryAndMultiTermSearch("Electronics", search, 4, new BigDecimal("100"), new BigDecimal("1500"));
+    }
+
+    @Benchmark
+    public Predicate buildSpecificationAndPredicate() {
+        Specification<Product> spec = ProductSpecifications.categoryAndMultiTermSearch("Electronics", search, 4, new BigDecimal("100"), new BigDecimal("1500"));
+        CriteriaQuery<Product> query = cb.createQuery(Product.class);
+        Root<Product> root = query.from(Product.class);
+        return spec.toPredicate(root, query, cb);
+    }
+}
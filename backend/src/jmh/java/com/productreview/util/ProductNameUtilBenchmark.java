@@ -0,0 +1,40 @@
+package com.productreview.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-pass normalizer against the regex/split version it replaced. Run with {@code -prof gc}
+ * to compare allocation per call as well as time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductNameUtilBenchmark {
+
+    @Param({"Samsung Galaxy S24", "  ıPHONE   15 pro  MAX  ", "Şık Çelik Düdüklü Tencere Seti 6 Parça"})
+    public String name;
+
+    @Benchmark
+    public String normalizeProductName() {
+        return ProductNameUtil.normalizeProductName(name);
+    }
+
+    @Benchmark
+    public String legacyNormalizeProductName() {
+        return LegacyProductNameUtil.normalizeProductName(name);
+    }
+}
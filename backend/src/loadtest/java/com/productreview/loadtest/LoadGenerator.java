@@ -0,0 +1,408 @@
+package com.productreview.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.productreview.util.ZipfSampler;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Closed-loop HTTP load generator for the product review API. A fixed number of workers issue a
+ * weighted mix of product list, product detail, reviews, helpful toggle, review summary and new review requests
+ * against a running backend (start it with the {@code loadtest} profile so it is seeded and uses the
+ * stub LLM). Product popularity follows a Zipf distribution over the catalog ordered by review count.
+ * Helpful toggles vote on review ids seen in reviews responses, seeded before the run from the most
+ * popular products; while none is known a reviews request is sent instead.
+ *
+ * <p>Options ({@code key=value} or {@code --key=value}): {@code base-url}, {@code concurrency}, {@code duration},
+ * {@code warmup}, {@code mix} (e.g. {@code list:35,detail:25,reviews:25,helpful:10,summary:5}),
+ * {@code products} (how many products to discover), {@code prefer-async} (send new reviews with
+ * {@code Prefer: respond-async}) and {@code report} (JSON output path).
+ * Reports throughput and p50/p95/p99 latency per endpoint.
+ */
+public final class LoadGenerator {
+
+    enum Endpoint { LIST, DETAIL, REVIEWS, HELPFUL, SUMMARY, CREATE }
+
+    private static final String[] SORTS = {"reviewCount", "averageRating", "price", "createdAt"};
+    private static final String[] CATEGORIES = {"Electronics", "Clothing", "Home & Kitchen", "Books"};
+    private static final String[] SEARCHES = {"pro", "phone", "classic", "smart watch", "max"};
+    private static final String[] LANGS = {"en", "en", "en", "tr", "es"};
+    private static final int MAX_REVIEW_IDS = 20_000;
+    private static final int REVIEW_DISCOVERY_PRODUCTS = 50;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final HttpClient client;
+    private final String baseUrl;
+    private final int concurrency;
+    private final Duration duration;
+    private final Duration warmup;
+    private final Map<Endpoint, Integer> mix;
+    private final int productLimit;
+    private final boolean preferAsync;
+    private final Path reportPath;
+
+    private long[] productIds;
+    private ZipfSampler popularity;
+    private final AtomicLongArray reviewIds = new AtomicLongArray(MAX_REVIEW_IDS);
+    private final AtomicInteger reviewIdCount = new AtomicInteger();
+
+    private LoadGenerator(Map<String, String> options) {
+        this.baseUrl = stripTrailingSlash(options.getOrDefault("base-url", "http://localhost:8080"));
+        this.concurrency = Integer.parseInt(options.getOrDefault("concurrency", "32"));
+        this.duration = parseDuration(options.getOrDefault("duration", "60s"));
+        this.warmup = parseDuration(options.getOrDefault("warmup", "10s"));
+        this.mix = parseMix(options.getOrDefault("mix", "list:35,detail:25,reviews:25,helpful:10,summary:5"));
+        this.productLimit = Integer.parseInt(options.getOrDefault("products", "1000"));
+        this.preferAsync = Boolean.parseBoolean(options.getOrDefault("prefer-async", "false"));
+        this.reportPath = Path.of(options.getOrDefault("report", "target/loadtest-report.json"));
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            String a = arg.startsWith("--") ? arg.substring(2) : arg;
+            int eq = a.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Expected key=value, got: " + arg);
+            }
+            options.put(a.substring(0, eq), a.substring(eq + 1));
+        }
+        new LoadGenerator(options).run();
+    }
+
+    private void run() throws Exception {
+        discoverProducts();
+        discoverReviews();
+        System.out.printf("Discovered %d products and %d reviews; %d workers, warmup %ds, measuring %ds, mix %s%n",
+                productIds.length, reviewIdCount.get(), concurrency, warmup.toSeconds(), duration.toSeconds(), mix);
+
+        long warmupEnd = System.nanoTime() + warmup.toNanos();
+        long end = warmupEnd + duration.toNanos();
+        List<Worker> workers = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Worker w = new Worker(i, warmupEnd, end, done);
+            workers.add(w);
+            Thread t = new Thread(w, "load-" + i);
+            t.setDaemon(true);
+            t.start();
+        }
+        done.await();
+
+        report(workers);
+    }
+
+    private void discoverProducts() throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>();
+        for (int page = 0; ids.size() < productLimit; page++) {
+            JsonNode body = getJson("/api/products?page=" + page + "&size=100&sortBy=reviewCount&sortDir=DESC");
+            JsonNode content = body.path("content");
+            if (!content.isArray() || content.isEmpty()) break;
+            for (JsonNode p : content) {
+                ids.add(p.path("id").asLong());
+            }
+            if (body.path("last").asBoolean(true)) break;
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("No products found at " + baseUrl + "; start the backend with the loadtest profile");
+        }
+        productIds = ids.stream().limit(productLimit).mapToLong(Long::longValue).toArray();
+        popularity = new ZipfSampler(productIds.length, 1.1);
+    }
+
+    // Helpful votes need real review ids; the most popular products' reviews seed them.
+    private void discoverReviews() throws IOException, InterruptedException {
+        for (int i = 0; i < Math.min(REVIEW_DISCOVERY_PRODUCTS, productIds.length); i++) {
+            rememberReviewIds(getJson("/api/reviews/product/" + productIds[i] + "?page=0&size=10&sortBy=helpfulCount&sortDir=DESC"));
+        }
+    }
+
+    private void rememberReviewIds(JsonNode page) {
+        for (JsonNode r : page.path("content")) {
+            int slot = reviewIdCount.getAndIncrement();
+            reviewIds.set(slot % MAX_REVIEW_IDS, r.path("id").asLong());
+        }
+    }
+
+    private JsonNode getJson(String path) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30)).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IOException("GET " + path + " returned " + response.statusCode());
+        }
+        return mapper.readTree(response.body());
+    }
+
+    private final class Worker implements Runnable {
+        private final Random random;
+        private final Map<Endpoint, LatencyLog> latencies = new EnumMap<>(Endpoint.class);
+        private final Map<Endpoint, long[]> errors = new EnumMap<>(Endpoint.class);
+        private final Endpoint[] weighted;
+        private final String deviceId;
+        private final long warmupEnd;
+        private final long end;
+        private final CountDownLatch done;
+
+        private Worker(int index, long warmupEnd, long end, CountDownLatch done) {
+            this.random = new Random(System.nanoTime() + index);
+            this.deviceId = "loadtest-" + index;
+            this.warmupEnd = warmupEnd;
+            this.end = end;
+            this.done = done;
+            List<Endpoint> table = new ArrayList<>();
+            mix.forEach((e, weight) -> {
+                for (int i = 0; i < weight; i++) table.add(e);
+            });
+            this.weighted = table.toArray(new Endpoint[0]);
+            for (Endpoint e : Endpoint.values()) {
+                latencies.put(e, new LatencyLog());
+                errors.put(e, new long[1]);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                long now;
+                while ((now = System.nanoTime()) < end) {
+                    Endpoint endpoint = weighted[random.nextInt(weighted.length)];
+                    long reviewId = endpoint == Endpoint.HELPFUL ? knownReviewId() : 0;
+                    if (endpoint == Endpoint.HELPFUL && reviewId == 0) {
+                        // No review id known yet; a reviews page finds some instead of voting on a made-up id
+                        endpoint = Endpoint.REVIEWS;
+                    }
+                    HttpRequest request = buildRequest(endpoint, reviewId);
+                    boolean ok;
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                        ok = response.statusCode() >= 200 && response.statusCode() < 300;
+                        if (ok && endpoint == Endpoint.REVIEWS) {
+                            rememberReviewIds(mapper.readTree(response.body()));
+                        }
+                    } catch (IOException e) {
+                        ok = false;
+                    }
+                    long elapsed = System.nanoTime() - start;
+                    if (now >= warmupEnd) {
+                        latencies.get(endpoint).add(elapsed);
+                        if (!ok) errors.get(endpoint)[0]++;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                done.countDown();
+            }
+        }
+
+        private HttpRequest buildRequest(Endpoint endpoint, long reviewId) {
+            long productId = productIds[popularity.next(random)];
+            String path = switch (endpoint) {
+                case LIST -> listPath();
+                case DETAIL -> "/api/products/" + productId;
+                case REVIEWS -> "/api/reviews/product/" + productId + "?page=" + (random.nextInt(10) < 8 ? 0 : 1)
+                        + "&size=10&sortBy=" + (random.nextBoolean() ? "createdAt" : "helpfulCount") + "&sortDir=DESC";
+                case HELPFUL -> "/api/reviews/" + reviewId + "/helpful?deviceId=" + deviceId;
+                case SUMMARY -> "/api/products/" + productId + "/review-summary?limit=30&lang=" + LANGS[random.nextInt(LANGS.length)];
+                case CREATE -> "/api/reviews";
+            };
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+            return switch (endpoint) {
+                case HELPFUL -> builder.POST(HttpRequest.BodyPublishers.noBody()).build();
+                case CREATE -> {
+                    builder.header("Content-Type", "application/json");
+                    if (preferAsync) {
+                        builder.header("Prefer", "respond-async");
+                    }
+                    yield builder.POST(HttpRequest.BodyPublishers.ofByteArray(newReview(productId))).build();
+                }
+                default -> builder.GET().build();
+            };
+        }
+
+        private byte[] newReview(long productId) {
+            Map<String, Object> review = new LinkedHashMap<>();
+            review.put("productId", productId);
+            review.put("comment", "Load test review number " + random.nextInt(1_000_000));
+            review.put("rating", 1 + random.nextInt(5));
+            review.put("reviewerName", "Load Tester");
+            review.put("deviceId", deviceId);
+            try {
+                return mapper.writeValueAsBytes(review);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private String listPath() {
+            StringBuilder sb = new StringBuilder("/api/products?page=")
+                    .append(random.nextInt(10) < 7 ? 0 : random.nextInt(5))
+                    .append("&size=20&sortBy=").append(SORTS[random.nextInt(SORTS.length)])
+                    .append("&sortDir=").append(random.nextBoolean() ? "DESC" : "ASC");
+            int filter = random.nextInt(10);
+            if (filter < 3) {
+                sb.append("&category=").append(encode(CATEGORIES[random.nextInt(CATEGORIES.length)]));
+            } else if (filter < 5) {
+                sb.append("&search=").append(encode(SEARCHES[random.nextInt(SEARCHES.length)]));
+            } else if (filter < 6) {
+                sb.append("&minRating=4");
+            }
+            return sb.toString();
+        }
+
+        // 0 when none is known, or the slot picked is still being filled
+        private long knownReviewId() {
+            int known = Math.min(reviewIdCount.get(), MAX_REVIEW_IDS);
+            return known == 0 ? 0 : reviewIds.get(random.nextInt(known));
+        }
+    }
+
+    private void report(List<Worker> workers) throws IOException {
+        double seconds = duration.toNanos() / 1e9;
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        long totalRequests = 0;
+        long totalErrors = 0;
+
+        System.out.printf("%n%-10s %9s %7s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (Endpoint e : Endpoint.values()) {
+            LatencyLog merged = new LatencyLog();
+            long errors = 0;
+            for (Worker w : workers) {
+                merged.addAll(w.latencies.get(e));
+                errors += w.errors.get(e)[0];
+            }
+            long[] sorted = merged.sorted();
+            if (sorted.length == 0) continue;
+            totalRequests += sorted.length;
+            totalErrors += errors;
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("requests", sorted.length);
+            row.put("errors", errors);
+            row.put("throughput", round(sorted.length / seconds));
+            row.put("p50Ms", millis(percentile(sorted, 0.50)));
+            row.put("p95Ms", millis(percentile(sorted, 0.95)));
+            row.put("p99Ms", millis(percentile(sorted, 0.99)));
+            row.put("maxMs", millis(sorted[sorted.length - 1]));
+            endpoints.put(e.name().toLowerCase(), row);
+
+            System.out.printf("%-10s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", e.name().toLowerCase(), sorted.length, errors,
+                    sorted.length / seconds, row.get("p50Ms"), row.get("p95Ms"), row.get("p99Ms"), row.get("maxMs"));
+        }
+        System.out.printf("%-10s %9d %7d %9.1f%n", "total", totalRequests, totalErrors, totalRequests / seconds);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("baseUrl", baseUrl);
+        report.put("concurrency", concurrency);
+        report.put("durationSeconds", duration.toSeconds());
+        report.put("warmupSeconds", warmup.toSeconds());
+        report.put("products", productIds.length);
+        report.put("mix", mix);
+        report.put("totalRequests", totalRequests);
+        report.put("totalErrors", totalErrors);
+        report.put("throughput", round(totalRequests / seconds));
+        report.put("endpoints", endpoints);
+
+        Path parent = reportPath.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        mapper.enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportPath.toFile(), report);
+        System.out.println("Report written to " + reportPath.toAbsolutePath());
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int idx = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, idx))];
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double v) {
+        return Math.round(v * 100.0) / 100.0;
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String spec) {
+        Map<Endpoint, Integer> out = new EnumMap<>(Endpoint.class);
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split(":");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + part);
+            }
+            int weight = Integer.parseInt(kv[1].trim());
+            if (weight > 0) {
+                out.put(Endpoint.valueOf(kv[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (out.isEmpty()) {
+            throw new IllegalArgumentException("Mix has no endpoints with positive weight");
+        }
+        return out;
+    }
+
+    private static Duration parseDuration(String value) {
+        String v = value.trim().toLowerCase();
+        if (v.endsWith("ms")) return Duration.ofMillis(Long.parseLong(v.substring(0, v.length() - 2)));
+        if (v.endsWith("s")) return Duration.ofSeconds(Long.parseLong(v.substring(0, v.length() - 1)));
+        if (v.endsWith("m")) return Duration.ofMinutes(Long.parseLong(v.substring(0, v.length() - 1)));
+        return Duration.ofSeconds(Long.parseLong(v));
+    }
+
+    private static String encode(String s) {
+        return URLEncoder.encode(s, StandardCharsets.UTF_8);
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    /**
+     * Append-only list of latencies in nanoseconds, one per worker so recording needs no locking.
+     */
+    private static final class LatencyLog {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long v) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = v;
+        }
+
+        void addAll(LatencyLog other) {
+            for (int i = 0; i < other.size; i++) add(other.values[i]);
+        }
+
+        long[] sorted() {
+            long[] out = Arrays.copyOf(values, size);
+            Arrays.sort(out);
+            return out;
+        }
+    }
+}
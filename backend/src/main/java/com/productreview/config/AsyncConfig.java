@@ -0,0 +1,96 @@
+package com.productreview.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+
+    /**
+     * Single writer thread: topic counter deltas and recounts are applied in order, so the
+     * update-then-insert upsert in ProductTopicCounterService never races with itself. A full
+     * queue rejects the task and the product is recounted later instead.
+     */
+    @Bean(name = "topicCounterExecutor")
+    public Executor topicCounterExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10_000);
+        executor.setThreadNamePrefix("topic-counter-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Runs the upstream part of streamed review summaries; the request thread only sends the
+     * LOCAL placeholder and returns.
+     */
+    @Bean(name = "summaryStreamExecutor")
+    public Executor summaryStreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("summary-stream-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Runs the parts of a product page concurrently. A full queue fails the part, which is then
+     * reported as partial instead of holding the request.
+     */
+    @Bean(name = "productPageExecutor")
+    public Executor productPageExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(32);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("product-page-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Full reloads of the catalog read model, off the committing request thread. One runs at a
+     * time and at most one waits; further requests are dropped, since the waiting reload reads
+     * the table after them anyway.
+     */
+    @Bean(name = "catalogReloadExecutor")
+    public Executor catalogReloadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setThreadNamePrefix("catalog-reload-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Rebuilds of the autocomplete index after a product is added, renamed or deleted, with the
+     * same one-running, one-waiting policy as {@code catalogReloadExecutor}.
+     */
+    @Bean(name = "autocompleteReloadExecutor")
+    public Executor autocompleteReloadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setThreadNamePrefix("autocomplete-reload-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -64,7 +64,7 @@ public class DatabaseInitializer {
         }
 
         String sql = """
-            INSERT INTO products (name, description, category, price, image_urls, created_at, average_rating, review_count) VALUES
+            INSERT INTO products (name, description, category, price, images, created_at, average_rating, review_count) VALUES
             ('iPhone 15 Pro', 'Latest iPhone with A17 Pro chip, titanium design, and advanced camera system.', 'Electronics', 999.99, NULL, CURRENT_TIMESTAMP, 0, 0),
             ('Samsung Galaxy S24', 'Flagship Android phone with AI features and stunning display.', 'Electronics', 899.99, NULL, CURRENT_TIMESTAMP, 0, 0),
             ('MacBook Pro 16"', 'Powerful laptop with M3 chip, perfect for professionals.', 'Electronics', 2499.99, NULL, CURRENT_TIMESTAMP, 0, 0),
@@ -122,71 +122,71 @@ public class DatabaseInitializer {
         // Update all products with multi-angle images
         String[] updates = {
              // Electronics: Smartphones - Product-specific images (iPhone 15 Pro)
-             "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1511707171634-5f897ff02aa9?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1601784551446-20c9e07cdbdb?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1572635196237-14b3f281503f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1580910051074-3eb694886505?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1592750475338-74b7b21085ab?w=800&fit=crop&q=80\"]' WHERE name = 'iPhone 15 Pro'",
-             "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1511707171634-5f897ff02aa9?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1601784551446-20c9e07cdbdb?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1572635196237-14b3f281503f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1580910051074-3eb694886505?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1511707171634-5f897ff02aa9?w=800&fit=crop&q=80\"]' WHERE name = 'Samsung Galaxy S24'",
+             "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1511707171634-5f897ff02aa9?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1601784551446-20c9e07cdbdb?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1572635196237-14b3f281503f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1580910051074-3eb694886505?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1592750475338-74b7b21085ab?w=800&fit=crop&q=80'] WHERE name = 'iPhone 15 Pro'",
+             "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1511707171634-5f897ff02aa9?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1601784551446-20c9e07cdbdb?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1572635196237-14b3f281503f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1580910051074-3eb694886505?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1511707171634-5f897ff02aa9?w=800&fit=crop&q=80'] WHERE name = 'Samsung Galaxy S24'",
             
             // Electronics: Laptops and Tablets
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1541807084-5c52b6b3adef?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1496181133206-80ce9b88a853?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1525547719571-a2d4ac8945e2?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1517336714731-489689fd1ca8?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1496181133206-80ce9b88a853?w=800&fit=crop&q=80\"]' WHERE name = 'MacBook Pro 16\"'",
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1544244015-0df4b3ffc6b0?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1561154464-82e9adf5c833?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1544244015-0df4b3ffc6b0?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1561154464-82e9adf5c833?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1517336714731-489689fd1ca8?w=800&fit=crop&q=80\"]' WHERE name = 'iPad Pro 12.9\"'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1541807084-5c52b6b3adef?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1496181133206-80ce9b88a853?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1525547719571-a2d4ac8945e2?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1517336714731-489689fd1ca8?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1496181133206-80ce9b88a853?w=800&fit=crop&q=80'] WHERE name = 'MacBook Pro 16\"'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1544244015-0df4b3ffc6b0?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1561154464-82e9adf5c833?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1544244015-0df4b3ffc6b0?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1561154464-82e9adf5c833?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1517336714731-489689fd1ca8?w=800&fit=crop&q=80'] WHERE name = 'iPad Pro 12.9\"'",
             
             // Electronics: Audio Devices
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1505740420928-5e560c06d30e?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1484704849700-f032a568e944?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1572569511254-d8f925fe2cbb?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1505740420928-5e560c06d30e?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1484704849700-f032a568e944?w=800&fit=crop&q=80\"]' WHERE name = 'Sony WH-1000XM5 Headphones'",
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1572569511254-d8f925fe2cbb?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1505740420928-5e560c06d30e?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1484704849700-f032a568e944?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1572569511254-d8f925fe2cbb?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1505740420928-5e560c06d30e?w=800&fit=crop&q=80\"]' WHERE name = 'AirPods Pro 2'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1505740420928-5e560c06d30e?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1484704849700-f032a568e944?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1572569511254-d8f925fe2cbb?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1505740420928-5e560c06d30e?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1484704849700-f032a568e944?w=800&fit=crop&q=80'] WHERE name = 'Sony WH-1000XM5 Headphones'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1572569511254-d8f925fe2cbb?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1505740420928-5e560c06d30e?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1484704849700-f032a568e944?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1572569511254-d8f925fe2cbb?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1505740420928-5e560c06d30e?w=800&fit=crop&q=80'] WHERE name = 'AirPods Pro 2'",
             
             // Electronics: Gaming Consoles
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1606144042614-b2417e99c4e3?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1607853202273-797f1c22a38e?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1606144042614-b2417e99c4e3?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1607853202273-797f1c22a38e?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1606144042614-b2417e99c4e3?w=800&fit=crop&q=80\"]' WHERE name = 'Nintendo Switch OLED'",
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1606144042614-b2417e99c4e3?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1607853202273-797f1c22a38e?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1606144042614-b2417e99c4e3?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1607853202273-797f1c22a38e?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1606144042614-b2417e99c4e3?w=800&fit=crop&q=80\"]' WHERE name = 'PlayStation 5'",
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1606144042614-b2417e99c4e3?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1607853202273-797f1c22a38e?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1606144042614-b2417e99c4e3?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1607853202273-797f1c22a38e?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1606144042614-b2417e99c4e3?w=800&fit=crop&q=80\"]' WHERE name = 'Xbox Series X'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1606144042614-b2417e99c4e3?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1607853202273-797f1c22a38e?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1606144042614-b2417e99c4e3?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1607853202273-797f1c22a38e?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1606144042614-b2417e99c4e3?w=800&fit=crop&q=80'] WHERE name = 'Nintendo Switch OLED'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1606144042614-b2417e99c4e3?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1607853202273-797f1c22a38e?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1606144042614-b2417e99c4e3?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1607853202273-797f1c22a38e?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1606144042614-b2417e99c4e3?w=800&fit=crop&q=80'] WHERE name = 'PlayStation 5'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1606144042614-b2417e99c4e3?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1607853202273-797f1c22a38e?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1606144042614-b2417e99c4e3?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1607853202273-797f1c22a38e?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1606144042614-b2417e99c4e3?w=800&fit=crop&q=80'] WHERE name = 'Xbox Series X'",
             
             // Electronics: Cameras and Other
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1606983340126-99ab4feaa64a?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1516035069371-29a1b244cc32?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1606983340126-99ab4feaa64a?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1516035069371-29a1b244cc32?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1606983340126-99ab4feaa64a?w=800&fit=crop&q=80\"]' WHERE name = 'Canon EOS R6 Mark II'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1606983340126-99ab4feaa64a?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1516035069371-29a1b244cc32?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1606983340126-99ab4feaa64a?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1516035069371-29a1b244cc32?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1606983340126-99ab4feaa64a?w=800&fit=crop&q=80'] WHERE name = 'Canon EOS R6 Mark II'",
             // Electronics: Apple Watch - Watch-specific images
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1434493789847-2f02dc6ca35d?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1523275335684-37898b6baf30?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1434493789847-2f02dc6ca35d?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1523275335684-37898b6baf30?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1434493789847-2f02dc6ca35d?w=800&fit=crop&q=80\"]' WHERE name = 'Apple Watch Series 9'",
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1593359677879-a4bb92f829d1?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1593784991095-a205069470b6?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1593359677879-a4bb92f829d1?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1593784991095-a205069470b6?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1593359677879-a4bb92f829d1?w=800&fit=crop&q=80\"]' WHERE name = 'Samsung 55\" QLED TV'",
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1473968512647-3e447244af8f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1473968512647-3e447244af8f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1473968512647-3e447244af8f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1473968512647-3e447244af8f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1473968512647-3e447244af8f?w=800&fit=crop&q=80\"]' WHERE name = 'DJI Mini 4 Pro Drone'",
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1527443224154-c4a3942d3acf?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1527864550417-7fd91fc51a46?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1527443224154-c4a3942d3acf?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1527864550417-7fd91fc51a46?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1527443224154-c4a3942d3acf?w=800&fit=crop&q=80\"]' WHERE name = 'LG 27\" 4K Monitor'",
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1527814050087-3793815479db?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1527864550417-7fd91fc51a46?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1527814050087-3793815479db?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1527864550417-7fd91fc51a46?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1527814050087-3793815479db?w=800&fit=crop&q=80\"]' WHERE name = 'Logitech MX Master 3S'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1434493789847-2f02dc6ca35d?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1523275335684-37898b6baf30?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1434493789847-2f02dc6ca35d?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1523275335684-37898b6baf30?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1434493789847-2f02dc6ca35d?w=800&fit=crop&q=80'] WHERE name = 'Apple Watch Series 9'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1593359677879-a4bb92f829d1?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1593784991095-a205069470b6?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1593359677879-a4bb92f829d1?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1593784991095-a205069470b6?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1593359677879-a4bb92f829d1?w=800&fit=crop&q=80'] WHERE name = 'Samsung 55\" QLED TV'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1473968512647-3e447244af8f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1473968512647-3e447244af8f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1473968512647-3e447244af8f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1473968512647-3e447244af8f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1473968512647-3e447244af8f?w=800&fit=crop&q=80'] WHERE name = 'DJI Mini 4 Pro Drone'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1527443224154-c4a3942d3acf?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1527864550417-7fd91fc51a46?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1527443224154-c4a3942d3acf?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1527864550417-7fd91fc51a46?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1527443224154-c4a3942d3acf?w=800&fit=crop&q=80'] WHERE name = 'LG 27\" 4K Monitor'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1527814050087-3793815479db?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1527864550417-7fd91fc51a46?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1527814050087-3793815479db?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1527864550417-7fd91fc51a46?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1527814050087-3793815479db?w=800&fit=crop&q=80'] WHERE name = 'Logitech MX Master 3S'",
             
             // Clothing: Shoes
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1542291026-7eec264c27ff?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1460353581641-37baddab0fa2?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1542291026-7eec264c27ff?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1460353581641-37baddab0fa2?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1542291026-7eec264c27ff?w=800&fit=crop&q=80\"]' WHERE name = 'Nike Air Max 90'",
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1542291026-7eec264c27ff?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1460353581641-37baddab0fa2?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1542291026-7eec264c27ff?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1460353581641-37baddab0fa2?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1542291026-7eec264c27ff?w=800&fit=crop&q=80\"]' WHERE name = 'Adidas Ultraboost 22'",
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1542291026-7eec264c27ff?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1460353581641-37baddab0fa2?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1542291026-7eec264c27ff?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1460353581641-37baddab0fa2?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1542291026-7eec264c27ff?w=800&fit=crop&q=80\"]' WHERE name = 'Vans Old Skool'",
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1542291026-7eec264c27ff?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1460353581641-37baddab0fa2?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1542291026-7eec264c27ff?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1460353581641-37baddab0fa2?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1542291026-7eec264c27ff?w=800&fit=crop&q=80\"]' WHERE name = 'New Balance 990v5'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1542291026-7eec264c27ff?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1460353581641-37baddab0fa2?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1542291026-7eec264c27ff?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1460353581641-37baddab0fa2?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1542291026-7eec264c27ff?w=800&fit=crop&q=80'] WHERE name = 'Nike Air Max 90'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1542291026-7eec264c27ff?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1460353581641-37baddab0fa2?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1542291026-7eec264c27ff?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1460353581641-37baddab0fa2?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1542291026-7eec264c27ff?w=800&fit=crop&q=80'] WHERE name = 'Adidas Ultraboost 22'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1542291026-7eec264c27ff?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1460353581641-37baddab0fa2?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1542291026-7eec264c27ff?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1460353581641-37baddab0fa2?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1542291026-7eec264c27ff?w=800&fit=crop&q=80'] WHERE name = 'Vans Old Skool'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1542291026-7eec264c27ff?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1460353581641-37baddab0fa2?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1542291026-7eec264c27ff?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1460353581641-37baddab0fa2?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1542291026-7eec264c27ff?w=800&fit=crop&q=80'] WHERE name = 'New Balance 990v5'",
             
             // Clothing: Jeans and Apparel
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1542272604-787c3835535d?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1542272604-787c3835535d?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1542272604-787c3835535d?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1542272604-787c3835535d?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1542272604-787c3835535d?w=800&fit=crop&q=80\"]' WHERE name = 'Levi''s 501 Jeans'",
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1551028719-00167b16eac5?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1551028719-00167b16eac5?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1551028719-00167b16eac5?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1551028719-00167b16eac5?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1551028719-00167b16eac5?w=800&fit=crop&q=80\"]' WHERE name = 'Patagonia Down Jacket'",
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1553062407-98eeb64c6a62?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1553062407-98eeb64c6a62?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1553062407-98eeb64c6a62?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1553062407-98eeb64c6a62?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1553062407-98eeb64c6a62?w=800&fit=crop&q=80\"]' WHERE name = 'The North Face Backpack'",
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1572635196237-14b3f281503f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1511499767150-a48a237f0083?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1572635196237-14b3f281503f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1511499767150-a48a237f0083?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1572635196237-14b3f281503f?w=800&fit=crop&q=80\"]' WHERE name = 'Ray-Ban Aviator Sunglasses'",
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1556821840-3a63f95609a7?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556821840-3a63f95609a7?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556821840-3a63f95609a7?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556821840-3a63f95609a7?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556821840-3a63f95609a7?w=800&fit=crop&q=80\"]' WHERE name = 'Champion Hoodie'",
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1521572163474-6864f9cf17ab?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1521572163474-6864f9cf17ab?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1521572163474-6864f9cf17ab?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1521572163474-6864f9cf17ab?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1521572163474-6864f9cf17ab?w=800&fit=crop&q=80\"]' WHERE name = 'Tommy Hilfiger Polo Shirt'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1542272604-787c3835535d?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1542272604-787c3835535d?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1542272604-787c3835535d?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1542272604-787c3835535d?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1542272604-787c3835535d?w=800&fit=crop&q=80'] WHERE name = 'Levi''s 501 Jeans'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1551028719-00167b16eac5?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1551028719-00167b16eac5?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1551028719-00167b16eac5?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1551028719-00167b16eac5?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1551028719-00167b16eac5?w=800&fit=crop&q=80'] WHERE name = 'Patagonia Down Jacket'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1553062407-98eeb64c6a62?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1553062407-98eeb64c6a62?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1553062407-98eeb64c6a62?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1553062407-98eeb64c6a62?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1553062407-98eeb64c6a62?w=800&fit=crop&q=80'] WHERE name = 'The North Face Backpack'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1572635196237-14b3f281503f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1511499767150-a48a237f0083?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1572635196237-14b3f281503f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1511499767150-a48a237f0083?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1572635196237-14b3f281503f?w=800&fit=crop&q=80'] WHERE name = 'Ray-Ban Aviator Sunglasses'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1556821840-3a63f95609a7?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556821840-3a63f95609a7?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556821840-3a63f95609a7?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556821840-3a63f95609a7?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556821840-3a63f95609a7?w=800&fit=crop&q=80'] WHERE name = 'Champion Hoodie'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1521572163474-6864f9cf17ab?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1521572163474-6864f9cf17ab?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1521572163474-6864f9cf17ab?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1521572163474-6864f9cf17ab?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1521572163474-6864f9cf17ab?w=800&fit=crop&q=80'] WHERE name = 'Tommy Hilfiger Polo Shirt'",
             
              // Books - Each book has unique, product-specific images
-             "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1544947950-fa07a98d237f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1507003211169-0a1dd7228f2d?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1481627834876-b7833e03f557?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1512820790803-83ca734da794?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1507003211169-0a1dd7228f2d?w=800&fit=crop&q=80\"]' WHERE name = 'The Pragmatic Programmer'",
-             "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1507003211169-0a1dd7228f2d?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1544947950-fa07a98d237f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1512820790803-83ca734da794?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1481627834876-b7833e03f557?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1544947950-fa07a98d237f?w=800&fit=crop&q=80\"]' WHERE name = 'Clean Code'",
-             "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1481627834876-b7833e03f557?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1512820790803-83ca734da794?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1544947950-fa07a98d237f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1507003211169-0a1dd7228f2d?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1481627834876-b7833e03f557?w=800&fit=crop&q=80\"]' WHERE name = 'Design Patterns: Elements of Reusable OOP'",
-             "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1512820790803-83ca734da794?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1481627834876-b7833e03f557?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1507003211169-0a1dd7228f2d?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1544947950-fa07a98d237f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1512820790803-83ca734da794?w=800&fit=crop&q=80\"]' WHERE name = 'You Don''t Know JS'",
-             "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1507003211169-0a1dd7228f2d?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1481627834876-b7833e03f557?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1512820790803-83ca734da794?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1544947950-fa07a98d237f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1507003211169-0a1dd7228f2d?w=800&fit=crop&q=80\"]' WHERE name = 'System Design Interview'",
-             "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1512820790803-83ca734da794?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1544947950-fa07a98d237f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1481627834876-b7833e03f557?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1507003211169-0a1dd7228f2d?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1512820790803-83ca734da794?w=800&fit=crop&q=80\"]' WHERE name = 'The Art of Computer Programming'",
-             "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1481627834876-b7833e03f557?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1507003211169-0a1dd7228f2d?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1512820790803-83ca734da794?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1544947950-fa07a98d237f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1481627834876-b7833e03f557?w=800&fit=crop&q=80\"]' WHERE name = 'Refactoring: Improving the Design of Existing Code'",
-             "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1544947950-fa07a98d237f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1512820790803-83ca734da794?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1507003211169-0a1dd7228f2d?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1481627834876-b7833e03f557?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1544947950-fa07a98d237f?w=800&fit=crop&q=80\"]' WHERE name = 'Introduction to Algorithms'",
+             "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1544947950-fa07a98d237f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1507003211169-0a1dd7228f2d?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1481627834876-b7833e03f557?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1512820790803-83ca734da794?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1507003211169-0a1dd7228f2d?w=800&fit=crop&q=80'] WHERE name = 'The Pragmatic Programmer'",
+             "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1507003211169-0a1dd7228f2d?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1544947950-fa07a98d237f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1512820790803-83ca734da794?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1481627834876-b7833e03f557?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1544947950-fa07a98d237f?w=800&fit=crop&q=80'] WHERE name = 'Clean Code'",
+             "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1481627834876-b7833e03f557?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1512820790803-83ca734da794?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1544947950-fa07a98d237f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1507003211169-0a1dd7228f2d?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1481627834876-b7833e03f557?w=800&fit=crop&q=80'] WHERE name = 'Design Patterns: Elements of Reusable OOP'",
+             "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1512820790803-83ca734da794?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1481627834876-b7833e03f557?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1507003211169-0a1dd7228f2d?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1544947950-fa07a98d237f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1512820790803-83ca734da794?w=800&fit=crop&q=80'] WHERE name = 'You Don''t Know JS'",
+             "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1507003211169-0a1dd7228f2d?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1481627834876-b7833e03f557?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1512820790803-83ca734da794?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1544947950-fa07a98d237f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1507003211169-0a1dd7228f2d?w=800&fit=crop&q=80'] WHERE name = 'System Design Interview'",
+             "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1512820790803-83ca734da794?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1544947950-fa07a98d237f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1481627834876-b7833e03f557?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1507003211169-0a1dd7228f2d?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1512820790803-83ca734da794?w=800&fit=crop&q=80'] WHERE name = 'The Art of Computer Programming'",
+             "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1481627834876-b7833e03f557?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1507003211169-0a1dd7228f2d?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1512820790803-83ca734da794?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1544947950-fa07a98d237f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1481627834876-b7833e03f557?w=800&fit=crop&q=80'] WHERE name = 'Refactoring: Improving the Design of Existing Code'",
+             "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1544947950-fa07a98d237f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1512820790803-83ca734da794?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1507003211169-0a1dd7228f2d?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1481627834876-b7833e03f557?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1544947950-fa07a98d237f?w=800&fit=crop&q=80'] WHERE name = 'Introduction to Algorithms'",
              
              // Home & Kitchen - Each product has unique, product-specific images
-             "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80\"]' WHERE name = 'Dyson V15 Detect'",
-             "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80\"]' WHERE name = 'Instant Pot Duo'",
-             "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80\"]' WHERE name = 'KitchenAid Stand Mixer'",
-             "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1517487881594-2787fef5ebf7?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1517487881594-2787fef5ebf7?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1517487881594-2787fef5ebf7?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1517487881594-2787fef5ebf7?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1517487881594-2787fef5ebf7?w=800&fit=crop&q=80\"]' WHERE name = 'Nespresso Vertuo Coffee Maker'",
-             "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80\"]' WHERE name = 'Le Creuset Dutch Oven'",
-             "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80\"]' WHERE name = 'Vitamix Blender'",
-             "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80\"]' WHERE name = 'Breville Smart Oven'",
+             "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80'] WHERE name = 'Dyson V15 Detect'",
+             "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80'] WHERE name = 'Instant Pot Duo'",
+             "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80'] WHERE name = 'KitchenAid Stand Mixer'",
+             "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1517487881594-2787fef5ebf7?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1517487881594-2787fef5ebf7?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1517487881594-2787fef5ebf7?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1517487881594-2787fef5ebf7?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1517487881594-2787fef5ebf7?w=800&fit=crop&q=80'] WHERE name = 'Nespresso Vertuo Coffee Maker'",
+             "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80'] WHERE name = 'Le Creuset Dutch Oven'",
+             "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80'] WHERE name = 'Vitamix Blender'",
+             "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556911220-bff31c812dba?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1556911220-e15b29be8c8f?w=800&fit=crop&q=80'] WHERE name = 'Breville Smart Oven'",
             
             // Sports & Outdoors
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1601925260368-ae2f83cf8b7f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1601925260368-ae2f83cf8b7f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1601925260368-ae2f83cf8b7f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1601925260368-ae2f83cf8b7f?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1601925260368-ae2f83cf8b7f?w=800&fit=crop&q=80\"]' WHERE name = 'Yoga Mat Premium'",
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=800&fit=crop&q=80\"]' WHERE name = 'Peloton Bike'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1601925260368-ae2f83cf8b7f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1601925260368-ae2f83cf8b7f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1601925260368-ae2f83cf8b7f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1601925260368-ae2f83cf8b7f?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1601925260368-ae2f83cf8b7f?w=800&fit=crop&q=80'] WHERE name = 'Yoga Mat Premium'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1571019613454-1cb2f99b2d8b?w=800&fit=crop&q=80'] WHERE name = 'Peloton Bike'",
             // Sports & Outdoors: Garmin Watch - Watch-specific images
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1434493789847-2f02dc6ca35d?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1523275335684-37898b6baf30?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1434493789847-2f02dc6ca35d?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1523275335684-37898b6baf30?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1434493789847-2f02dc6ca35d?w=800&fit=crop&q=80\"]' WHERE name = 'Garmin Forerunner 955'",
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1602143407151-7111542de6e8?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1602143407151-7111542de6e8?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1602143407151-7111542de6e8?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1602143407151-7111542de6e8?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1602143407151-7111542de6e8?w=800&fit=crop&q=80\"]' WHERE name = 'Yeti Rambler 30oz'",
-            "UPDATE products SET image_urls = '[\"https://images.unsplash.com/photo-1478131143081-80f7f84ca84d?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1478131143081-80f7f84ca84d?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1478131143081-80f7f84ca84d?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1478131143081-80f7f84ca84d?w=800&fit=crop&q=80\", \"https://images.unsplash.com/photo-1478131143081-80f7f84ca84d?w=800&fit=crop&q=80\"]' WHERE name = 'Coleman Camping Tent'"
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1434493789847-2f02dc6ca35d?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1523275335684-37898b6baf30?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1434493789847-2f02dc6ca35d?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1523275335684-37898b6baf30?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1434493789847-2f02dc6ca35d?w=800&fit=crop&q=80'] WHERE name = 'Garmin Forerunner 955'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1602143407151-7111542de6e8?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1602143407151-7111542de6e8?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1602143407151-7111542de6e8?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1602143407151-7111542de6e8?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1602143407151-7111542de6e8?w=800&fit=crop&q=80'] WHERE name = 'Yeti Rambler 30oz'",
+            "UPDATE products SET images = ARRAY['https://images.unsplash.com/photo-1478131143081-80f7f84ca84d?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1478131143081-80f7f84ca84d?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1478131143081-80f7f84ca84d?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1478131143081-80f7f84ca84d?w=800&fit=crop&q=80', 'https://images.unsplash.com/photo-1478131143081-80f7f84ca84d?w=800&fit=crop&q=80'] WHERE name = 'Coleman Camping Tent'"
         };
 
         for (String update : updates) {
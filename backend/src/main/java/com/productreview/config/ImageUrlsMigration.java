@@ -0,0 +1,108 @@
+package com.productreview.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One-time move of image URLs from the legacy {@code image_urls} TEXT column, which held a JSON
+ * string, into the {@code images} array column. Rows that are not valid JSON keep the http(s)
+ * URLs that can be found in them. A migrated row has its legacy value cleared, so later starts
+ * find nothing to do; databases created after the change have no legacy column at all.
+ */
+@Configuration
+public class ImageUrlsMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageUrlsMigration.class);
+
+    private static final Pattern URL = Pattern.compile("https?://[^\\s\"',\\[\\]]+");
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectMapper objectMapper;
+
+    public ImageUrlsMigration(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.objectMapper = objectMapper;
+    }
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public CommandLineRunner migrateLegacyImageUrls() {
+        return args -> {
+            Integer legacyColumns = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS WHERE LOWER(TABLE_NAME) = 'products' AND LOWER(COLUMN_NAME) = 'image_urls'",
+                    Integer.class);
+            if (legacyColumns == null || legacyColumns == 0) {
+                return;
+            }
+
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT id, image_urls FROM products WHERE image_urls IS NOT NULL");
+            if (rows.isEmpty()) {
+                return;
+            }
+
+            int malformed = 0;
+            for (Map<String, Object> row : rows) {
+                Long id = ((Number) row.get("id")).longValue();
+                String legacy = String.valueOf(row.get("image_urls"));
+                List<String> urls = parse(legacy);
+                if (urls == null) {
+                    malformed++;
+                    urls = extractUrls(legacy);
+                    log.warn("Product {} had malformed image_urls, kept {} URL(s)", id, urls.size());
+                }
+                String[] images = urls.toArray(String[]::new);
+                jdbcTemplate.update(con -> {
+                    var ps = con.prepareStatement("UPDATE products SET images = ?, image_urls = NULL WHERE id = ?");
+                    ps.setArray(1, con.createArrayOf("varchar", images));
+                    ps.setLong(2, id);
+                    return ps;
+                });
+            }
+            // Plain JDBC writes bypass Hibernate, so drop anything the second-level cache already holds.
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+            log.info("Migrated image URLs of {} products ({} malformed)", rows.size(), malformed);
+        };
+    }
+
+    private List<String> parse(String legacy) {
+        if (legacy.isBlank()) {
+            return List.of();
+        }
+        try {
+            List<String> urls = objectMapper.readValue(legacy, STRING_LIST);
+            return urls == null ? List.of() : urls.stream().filter(u -> u != null && !u.isBlank()).map(String::trim).toList();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static List<String> extractUrls(String legacy) {
+        List<String> urls = new ArrayList<>();
+        Matcher m = URL.matcher(legacy);
+        while (m.find()) {
+            urls.add(m.group());
+        }
+        return urls;
+    }
+}
@@ -0,0 +1,153 @@
+package com.productreview.config;
+
+import com.productreview.service.GroqReviewSummaryService;
+import com.productreview.service.GroqTranslationService;
+import com.productreview.service.MissingIdCache;
+import com.productreview.service.ProductListingCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Cache meters for the Groq services, the product listing page cache, the missing id cache and the Hibernate second-level cache regions, using
+ * Micrometer's standard cache meter names ({@code cache.size}, {@code cache.gets}) so dashboards
+ * can treat them like any other cache.
+ * HTTP endpoints ({@code http.server.requests}) and repository methods
+ * ({@code spring.data.repository.invocations}) are timed by Spring Boot's own instrumentation;
+ * upstream LLM calls are timed in {@link com.productreview.llm.LlmCallMetrics}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder reviewSummaryCacheMetrics(GroqReviewSummaryService service) {
+        return registry -> {
+            Tags tags = Tags.of("cache", "reviewSummary");
+            Gauge.builder("cache.size", service, GroqReviewSummaryService::getCacheSize)
+                    .tags(tags).description("Cached review summaries").register(registry);
+            FunctionCounter.builder("cache.gets", service, GroqReviewSummaryService::getCacheHits)
+                    .tags(tags).tag("result", "hit").register(registry);
+            FunctionCounter.builder("cache.gets", service, GroqReviewSummaryService::getCacheMisses)
+                    .tags(tags).tag("result", "miss").register(registry);
+            Gauge.builder("cache.hit.ratio", service, ratio(GroqReviewSummaryService::getCacheHits, GroqReviewSummaryService::getCacheMisses))
+                    .tags(tags).register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder productListingCacheMetrics(ProductListingCache cache) {
+        return registry -> {
+            Tags tags = Tags.of("cache", "productListingPages");
+            Gauge.builder("cache.size", cache, ProductListingCache::getCacheSize)
+                    .tags(tags).description("Cached product listing pages").register(registry);
+            FunctionCounter.builder("cache.gets", cache, ProductListingCache::getCacheHits)
+                    .tags(tags).tag("result", "hit").register(registry);
+            FunctionCounter.builder("cache.gets", cache, ProductListingCache::getCacheMisses)
+                    .tags(tags).tag("result", "miss").register(registry);
+            Gauge.builder("cache.hit.ratio", cache, ratio(ProductListingCache::getCacheHits, ProductListingCache::getCacheMisses))
+                    .tags(tags).register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder translationCacheMetrics(GroqTranslationService service) {
+        return registry -> {
+            Tags tags = Tags.of("cache", "translationSentences");
+            Gauge.builder("cache.size", service, GroqTranslationService::getCacheSize)
+                    .tags(tags).description("Cached sentence translations").register(registry);
+            FunctionCounter.builder("cache.gets", service, GroqTranslationService::getSentenceHits)
+                    .tags(tags).tag("result", "hit").register(registry);
+            FunctionCounter.builder("cache.gets", service, s -> s.getSentenceLookups() - s.getSentenceHits())
+                    .tags(tags).tag("result", "miss").register(registry);
+            Gauge.builder("cache.hit.ratio", service, ratio(GroqTranslationService::getSentenceHits, s -> s.getSentenceLookups() - s.getSentenceHits()))
+                    .tags(tags).register(registry);
+
+            FunctionCounter.builder("translation.upstream.chars", service, GroqTranslationService::getUpstreamChars)
+                    .description("Characters sent upstream for translation").register(registry);
+            FunctionCounter.builder("translation.language.checks", service, GroqTranslationService::getLanguageChecks)
+                    .description("Texts checked by the local language identifier").register(registry);
+            FunctionCounter.builder("translation.language.skips", service, GroqTranslationService::getLanguageSkips)
+                    .description("Texts already in the target language").register(registry);
+        };
+    }
+
+    /**
+     * Lookups answered from {@link MissingIdCache} (hit) or the database (miss), per kind of id.
+     */
+    @Bean
+    public MeterBinder missingIdCacheMetrics(MissingIdCache cache) {
+        return registry -> {
+            bindMissingIds(registry, cache, "missingProducts", MissingIdCache::products);
+            bindMissingIds(registry, cache, "missingReviews", MissingIdCache::reviews);
+        };
+    }
+
+    private static void bindMissingIds(MeterRegistry registry, MissingIdCache cache, String name,
+                                       Function<MissingIdCache, MissingIdCache.Ids> ids) {
+        Tags tags = Tags.of("cache", name);
+        Gauge.builder("cache.size", cache, c -> ids.apply(c).size())
+                .tags(tags).description("Ids recently looked up and not found").register(registry);
+        FunctionCounter.builder("cache.gets", cache, c -> ids.apply(c).getHits())
+                .tags(tags).tag("result", "hit").register(registry);
+        FunctionCounter.builder("cache.gets", cache, c -> ids.apply(c).getMisses())
+                .tags(tags).tag("result", "miss").register(registry);
+        Gauge.builder("cache.hit.ratio", cache, ratio(c -> ids.apply(c).getHits(), c -> ids.apply(c).getMisses()))
+                .tags(tags).register(registry);
+    }
+
+    /**
+     * Hit/miss/put counts for the {@code product} entity region and the {@code productListings}
+     * query region, read from Hibernate's statistics. A query region only exists once a
+     * cacheable query has run, so its meters read zero until then.
+     */
+    @Bean
+    public MeterBinder hibernateCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> {
+            bindRegion(registry, statistics, "product", st -> st.getDomainDataRegionStatistics("product"));
+            bindRegion(registry, statistics, "productListings", st -> st.getQueryRegionStatistics("productListings"));
+        };
+    }
+
+    // Meters hold their state object weakly, so they bind to the session factory's Statistics
+    // and look the region up on every read. JCache does not report region sizes, so there is no
+    // cache.size meter here.
+    private static void bindRegion(MeterRegistry registry, Statistics statistics, String region,
+                                   Function<Statistics, CacheRegionStatistics> lookup) {
+        Tags tags = Tags.of("cache", region);
+        ToDoubleFunction<Statistics> hits = st -> read(lookup.apply(st), CacheRegionStatistics::getHitCount);
+        ToDoubleFunction<Statistics> misses = st -> read(lookup.apply(st), CacheRegionStatistics::getMissCount);
+        FunctionCounter.builder("cache.gets", statistics, hits)
+                .tags(tags).tag("result", "hit").register(registry);
+        FunctionCounter.builder("cache.gets", statistics, misses)
+                .tags(tags).tag("result", "miss").register(registry);
+        FunctionCounter.builder("cache.puts", statistics, st -> read(lookup.apply(st), CacheRegionStatistics::getPutCount))
+                .tags(tags).register(registry);
+        Gauge.builder("cache.hit.ratio", statistics, ratio(hits, misses))
+                .tags(tags).register(registry);
+    }
+
+    private static double read(CacheRegionStatistics stats, ToLongFunction<CacheRegionStatistics> value) {
+        return stats == null ? 0 : value.applyAsLong(stats);
+    }
+
+    private static <T> ToDoubleFunction<T> ratio(ToDoubleFunction<T> hits, ToDoubleFunction<T> misses) {
+        return s -> {
+            double h = hits.applyAsDouble(s);
+            double total = h + misses.applyAsDouble(s);
+            return total == 0 ? 0.0 : h / total;
+        };
+    }
+}
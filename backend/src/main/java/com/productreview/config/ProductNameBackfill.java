@@ -0,0 +1,63 @@
+package com.productreview.config;
+
+import com.productreview.util.ProductNameUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Normalizes the names of products written before names were normalized on save, and of rows
+ * inserted with plain SQL by the seeders. Runs once the startup runners have finished; rows
+ * that are already normalized are left alone, so later starts only read the names.
+ */
+@Configuration
+public class ProductNameBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductNameBackfill.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public ProductNameBackfill(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    // Before the in-memory indexes load their copies of the names.
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void normalizeExistingNames() {
+        List<Object[]> updates = new ArrayList<>();
+        jdbcTemplate.query("SELECT id, name FROM products", rs -> {
+            String name = rs.getString("name");
+            String normalized = ProductNameUtil.normalizeProductName(name);
+            if (!Objects.equals(name, normalized)) {
+                updates.add(new Object[]{normalized, rs.getLong("id")});
+            }
+        });
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        for (int from = 0; from < updates.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate("UPDATE products SET name = ? WHERE id = ?",
+                    updates.subList(from, Math.min(from + BATCH_SIZE, updates.size())));
+        }
+        // Plain JDBC writes bypass Hibernate, so drop anything the second-level cache already holds.
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        log.info("Normalized the names of {} products", updates.size());
+    }
+}
@@ -0,0 +1,214 @@
+package com.productreview.config;
+
+import com.productreview.util.ZipfSampler;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds a large synthetic catalog for load testing ({@code loadtest} profile, combined with
+ * {@code dev} or {@code postgres}). Reviews per product, helpful counts and category sizes follow
+ * Zipf distributions so a few products are hot, and ratings are J-shaped like real review data.
+ * Rows are written with JDBC batches; product aggregates are recomputed in one statement at the end.
+ */
+@Configuration
+@Profile("loadtest")
+public class SyntheticDataSeeder {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataSeeder.class);
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String NAME_PREFIX = "Synthetic ";
+
+    private static final String[] CATEGORIES = {
+            "Electronics", "Clothing", "Home & Kitchen", "Books", "Sports & Outdoors", "Beauty", "Toys & Games"
+    };
+    private static final String[] ADJECTIVES = {
+            "Pro", "Max", "Lite", "Classic", "Ultra", "Mini", "Plus", "Air", "Prime", "Smart", "Eco", "Studio"
+    };
+    private static final String[] NOUNS = {
+            "Phone", "Headphones", "Jacket", "Sneakers", "Blender", "Novel", "Backpack", "Lamp", "Watch",
+            "Speaker", "Tent", "Kettle", "Keyboard", "Hoodie", "Camera", "Puzzle", "Serum", "Bottle"
+    };
+    private static final String[] REVIEW_OPENERS = {
+            "Great product overall.", "Not what I expected.", "Works as described.", "Absolutely love it!",
+            "Decent for the price.", "Would not buy again.", "Ürün gayet iyi.", "Beklediğim gibi değil.",
+            "Muy buen producto.", "No lo recomiendo."
+    };
+    private static final String[] REVIEW_DETAILS = {
+            "The battery lasts all day.", "Performance is fast and smooth.", "The price is too expensive.",
+            "Delivery was quick and the packaging was fine.", "Build quality feels cheap.",
+            "Very comfortable to wear.", "The camera takes sharp photos.", "Easy to use from day one.",
+            "Kargo çok hızlı geldi.", "Fiyatı biraz pahalı.", "Kalite beklediğimden iyi.",
+            "El envío fue rápido.", "La calidad es excelente.", "The fit is true to size.",
+            "The translation of this edition reads well.", "Stopped working after two weeks."
+    };
+    private static final String[] REVIEWER_NAMES = {
+            "Alex", "Sam", "Jordan", "Taylor", "Deniz", "Elif", "Can", "Lucía", "Mateo", "Riley", null
+    };
+    // Rating weights for 1..5 stars; the per-product quality blends between the two.
+    private static final double[] GOOD_RATINGS = {0.04, 0.03, 0.08, 0.25, 0.60};
+    private static final double[] POOR_RATINGS = {0.35, 0.15, 0.15, 0.15, 0.20};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final int productCount;
+    private final int reviewCount;
+    private final double exponent;
+    private final long seed;
+
+    public SyntheticDataSeeder(
+            JdbcTemplate jdbcTemplate,
+            EntityManagerFactory entityManagerFactory,
+            @Value("${loadtest.seed.products:2000}") int productCount,
+            @Value("${loadtest.seed.reviews:100000}") int reviewCount,
+            @Value("${loadtest.seed.zipf-exponent:1.1}") double exponent,
+            @Value("${loadtest.seed.random-seed:42}") long seed
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.productCount = productCount;
+        this.reviewCount = reviewCount;
+        this.exponent = exponent;
+        this.seed = seed;
+    }
+
+    @Bean
+    public CommandLineRunner seedSyntheticData() {
+        return args -> {
+            Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM products WHERE name LIKE ?", Integer.class, NAME_PREFIX + "%");
+            if (existing != null && existing > 0) {
+                log.info("Synthetic data already present ({} products), skipping seed", existing);
+                return;
+            }
+
+            long start = System.currentTimeMillis();
+            Random random = new Random(seed);
+            List<Long> productIds = seedProducts(random);
+            seedReviews(random, productIds);
+            jdbcTemplate.update("""
+                    UPDATE products SET
+                        review_count = (SELECT COUNT(*) FROM reviews r WHERE r.product_id = products.id),
+                        average_rating = COALESCE((SELECT AVG(CAST(r.rating AS DOUBLE PRECISION)) FROM reviews r WHERE r.product_id = products.id), 0)
+                    WHERE name LIKE ?
+                    """, NAME_PREFIX + "%");
+            // Plain JDBC writes bypass Hibernate, so drop anything the second-level cache already holds.
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+            log.info("Seeded {} products and {} reviews in {} ms", productIds.size(), reviewCount, System.currentTimeMillis() - start);
+        };
+    }
+
+    private List<Long> seedProducts(Random random) {
+        ZipfSampler categories = new ZipfSampler(CATEGORIES.length, 0.8);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < productCount; i++) {
+            String name = NAME_PREFIX + ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " "
+                    + NOUNS[random.nextInt(NOUNS.length)] + " " + (i + 1);
+            String category = CATEGORIES[categories.next(random)];
+            BigDecimal price = BigDecimal.valueOf(5 + Math.exp(random.nextDouble() * 7.5)).setScale(2, RoundingMode.HALF_UP);
+            batch.add(new Object[]{
+                    name,
+                    "Synthetic " + category.toLowerCase() + " item for load testing.",
+                    category,
+                    price,
+                    Timestamp.valueOf(now.minusMinutes(random.nextInt(60 * 24 * 365)))
+            });
+            if (batch.size() == BATCH_SIZE) {
+                insertProducts(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insertProducts(batch);
+        }
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM products WHERE name LIKE ? ORDER BY id", Long.class, NAME_PREFIX + "%");
+    }
+
+    private void insertProducts(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO products (name, description, category, price, images, created_at, average_rating, review_count) "
+                        + "VALUES (?, ?, ?, ?, NULL, ?, 0, 0)",
+                batch);
+    }
+
+    private void seedReviews(Random random, List<Long> productIds) {
+        // Popularity rank is shuffled against id order so hot products are spread over the catalog.
+        List<Long> byPopularity = new ArrayList<>(productIds);
+        Collections.shuffle(byPopularity, random);
+        double[] quality = new double[byPopularity.size()];
+        for (int i = 0; i < quality.length; i++) {
+            quality[i] = random.nextDouble();
+        }
+
+        ZipfSampler products = new ZipfSampler(byPopularity.size(), exponent);
+        ZipfSampler helpful = new ZipfSampler(200, 1.6);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < reviewCount; i++) {
+            int rank = products.next(random);
+            int rating = rating(random, quality[rank]);
+            long helpfulCount = random.nextDouble() < 0.7 ? 0 : helpful.next(random);
+            batch.add(new Object[]{
+                    byPopularity.get(rank),
+                    comment(random),
+                    rating,
+                    REVIEWER_NAMES[random.nextInt(REVIEWER_NAMES.length)],
+                    "seed-device-" + random.nextInt(reviewCount),
+                    helpfulCount,
+                    Timestamp.valueOf(now.minusMinutes(random.nextInt(60 * 24 * 730)))
+            });
+            if (batch.size() == BATCH_SIZE) {
+                insertReviews(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insertReviews(batch);
+        }
+    }
+
+    private void insertReviews(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO reviews (product_id, comment, rating, reviewer_name, device_id, helpful_count, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                batch);
+    }
+
+    private static int rating(Random random, double quality) {
+        double r = random.nextDouble();
+        double acc = 0.0;
+        for (int star = 0; star < 5; star++) {
+            acc += quality * GOOD_RATINGS[star] + (1 - quality) * POOR_RATINGS[star];
+            if (r < acc) return star + 1;
+        }
+        return 5;
+    }
+
+    private static String comment(Random random) {
+        StringBuilder sb = new StringBuilder(REVIEW_OPENERS[random.nextInt(REVIEW_OPENERS.length)]);
+        int details = 1 + random.nextInt(3);
+        for (int i = 0; i < details; i++) {
+            sb.append(' ').append(REVIEW_DETAILS[random.nextInt(REVIEW_DETAILS.length)]);
+        }
+        return sb.toString();
+    }
+}
@@ -1,31 +1,88 @@
 package com.productreview.controller;
 
+import com.productreview.dto.ProductBatchDTO;
 import com.productreview.dto.ProductDTO;
 import com.productreview.dto.ProductDetailDTO;
+import com.productreview.dto.ProductFacetsDTO;
+import com.productreview.dto.ProductPageDTO;
+import com.productreview.dto.ProductSuggestionDTO;
 import com.productreview.dto.ReviewSummaryResponseDTO;
+import com.productreview.service.CatalogVersions;
 import com.productreview.service.GroqReviewSummaryService;
+import com.productreview.service.ProductAutocomplete;
+import com.productreview.service.ProductFacetService;
+import com.productreview.service.ProductListingCache;
+import com.productreview.service.ProductPageService;
+import com.productreview.service.ProductReadModel;
 import com.productreview.service.ProductService;
-import lombok.RequiredArgsConstructor;
+import com.productreview.spec.ProductSortKey;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/products")
-@RequiredArgsConstructor
 @CrossOrigin(origins = "*")
 public class ProductController {
     
+    private static final long SUMMARY_STREAM_TIMEOUT_MS = 30_000L;
+    private static final int MAX_BATCH_IDS = 100;
+
     private final ProductService productService;
+    private final ProductListingCache productListingCache;
+    private final ProductReadModel productReadModel;
+    private final ProductFacetService productFacetService;
+    private final ProductAutocomplete productAutocomplete;
+    private final ProductPageService productPageService;
+    private final CatalogVersions catalogVersions;
     private final GroqReviewSummaryService groqReviewSummaryService;
+    private final Executor summaryStreamExecutor;
+
+    public ProductController(
+            ProductService productService,
+            ProductListingCache productListingCache,
+            ProductReadModel productReadModel,
+            ProductFacetService productFacetService,
+            ProductAutocomplete productAutocomplete,
+            ProductPageService productPageService,
+            CatalogVersions catalogVersions,
+            GroqReviewSummaryService groqReviewSummaryService,
+            @Qualifier("summaryStreamExecutor") Executor summaryStreamExecutor
+    ) {
+        this.productService = productService;
+        this.productListingCache = productListingCache;
+        this.productReadModel = productReadModel;
+        this.productFacetService = productFacetService;
+        this.productAutocomplete = productAutocomplete;
+        this.productPageService = productPageService;
+        this.catalogVersions = catalogVersions;
+        this.groqReviewSummaryService = groqReviewSummaryService;
+        this.summaryStreamExecutor = summaryStreamExecutor;
+    }
     
-    @GetMapping
-    public ResponseEntity<Page<ProductDTO>> getAllProducts(
+    /**
+     * Listing pages filtered by category only are served from {@link ProductListingCache}.
+     * Without a search term, pages are read from {@link ProductReadModel} when it is enabled and
+     * loaded; otherwise they query the database. Answers a matching
+     * {@code If-None-Match} with 304 from the catalog version alone.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getAllProducts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "reviewCount") String sortBy,
@@ -34,44 +91,104 @@ public class ProductController {
             @RequestParam(required = false) String search,
             @RequestParam(required = false) Integer minRating,
             @RequestParam(required = false) BigDecimal minPrice,
-            @RequestParam(required = false) BigDecimal maxPrice
+            @RequestParam(required = false) BigDecimal maxPrice,
+            WebRequest request
     ) {
-        Sort sort;
-        if ("averageRating".equals(sortBy)) {
-            // Ensure products with no reviews appear last by sorting primarily on reviewCount DESC
-            // (reviewCount=0 -> last), then on averageRating.
-            Sort.Order ratingOrder = sortDir.equalsIgnoreCase("DESC")
-                    ? Sort.Order.desc(sortBy).with(Sort.NullHandling.NULLS_LAST)
-                    : Sort.Order.asc(sortBy).with(Sort.NullHandling.NULLS_LAST);
+        ProductSortKey sortKey = ProductSortKey.from(sortBy);
+        String etag = catalogVersions.catalogEtag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        Sort.Direction direction = sortDir.equalsIgnoreCase("DESC") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Pageable pageable = PageRequest.of(page, size, sortKey.toSort(direction));
 
-            sort = Sort.by(
-                    Sort.Order.desc("reviewCount"),
-                    ratingOrder
-            );
-        } else if ("reviewCount".equals(sortBy)) {
-            Sort.Order countOrder = sortDir.equalsIgnoreCase("DESC")
-                    ? Sort.Order.desc(sortBy).with(Sort.NullHandling.NULLS_LAST)
-                    : Sort.Order.asc(sortBy).with(Sort.NullHandling.NULLS_LAST);
+        boolean hasSearch = search != null && !search.isEmpty();
+        boolean categoryOnly = !hasSearch && minRating == null && minPrice == null && maxPrice == null;
+        byte[] body = categoryOnly
+                ? productListingCache.get(ProductListingCache.Key.of(category, sortKey, direction, page, size),
+                        () -> listProducts(pageable, sortKey, direction, category, null, null, null, null))
+                : productListingCache.serialize(listProducts(pageable, sortKey, direction, category, search, minRating, minPrice, maxPrice));
+        return ResponseEntity.ok().eTag(etag).body(body);
+    }
 
-            sort = Sort.by(
-                    countOrder,
-                    Sort.Order.desc("averageRating").with(Sort.NullHandling.NULLS_LAST)
-            );
-        } else {
-            sort = sortDir.equalsIgnoreCase("DESC")
-                    ? Sort.by(sortBy).descending()
-                    : Sort.by(sortBy).ascending();
+    private Page<ProductDTO> listProducts(Pageable pageable, ProductSortKey sortKey, Sort.Direction direction, String category,
+                                          String search, Integer minRating, BigDecimal minPrice, BigDecimal maxPrice) {
+        if (search == null || search.isEmpty()) {
+            Page<ProductDTO> fromMemory = productReadModel.find(category, minRating, minPrice, maxPrice,
+                    sortKey, direction, pageable.getPageNumber(), pageable.getPageSize());
+            if (fromMemory != null) {
+                return fromMemory;
+            }
         }
-        Pageable pageable = PageRequest.of(page, size, sort);
-        
-        Page<ProductDTO> products = productService.getAllProducts(pageable, category, search, minRating, minPrice, maxPrice);
-        return ResponseEntity.ok(products);
+        return productService.getAllProducts(pageable, category, search, minRating, minPrice, maxPrice);
     }
     
+    /**
+     * Category, rating and price range counts for the same filters as the listing; each facet
+     * ignores its own filter. Shares the listing's ETag.
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<ProductFacetsDTO> getFacets(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Integer minRating,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            WebRequest request
+    ) {
+        String etag = catalogVersions.catalogEtag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(productFacetService.getFacets(category, search, minRating, minPrice, maxPrice));
+    }
+
+    /**
+     * Name suggestions for the search box, most reviewed first; served from memory.
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<ProductSuggestionDTO>> autocomplete(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "8") int limit
+    ) {
+        return ResponseEntity.ok(productAutocomplete.suggest(query, limit));
+    }
+
+    /**
+     * Listing cards for up to {@value #MAX_BATCH_IDS} products by id, e.g. a wishlist, in one
+     * round trip; without the reviews {@code /{id}} loads.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<ProductBatchDTO> getProductsByIds(@RequestParam List<Long> ids) {
+        if (ids.size() > MAX_BATCH_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + MAX_BATCH_IDS + " ids per request");
+        }
+        return ResponseEntity.ok(productService.getProductsByIds(ids));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<ProductDetailDTO> getProductById(@PathVariable Long id) {
+    public ResponseEntity<ProductDetailDTO> getProductById(@PathVariable Long id, WebRequest request) {
+        String etag = catalogVersions.productEtag(id);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         ProductDetailDTO product = productService.getProductById(id);
-        return ResponseEntity.ok(product);
+        return ResponseEntity.ok().eTag(etag).body(product);
+    }
+
+    /**
+     * The product screen in one round trip; see {@link ProductPageService}. Parts that missed
+     * their deadline are listed in {@code partial}.
+     */
+    @GetMapping("/{productId}/page")
+    public ResponseEntity<ProductPageDTO> getProductPage(
+            @PathVariable Long productId,
+            @RequestParam(required = false) String deviceId,
+            @RequestParam(defaultValue = "10") int reviewSize,
+            @RequestParam(defaultValue = "helpfulCount") String reviewSortBy,
+            @RequestParam(defaultValue = "en") String lang
+    ) {
+        return ResponseEntity.ok(productPageService.getProductPage(productId, deviceId, reviewSize, reviewSortBy, lang));
     }
 
     @GetMapping("/{productId}/review-summary")
@@ -83,6 +200,45 @@ public class ProductController {
         ReviewSummaryResponseDTO summary = groqReviewSummaryService.getReviewSummary(productId, limit, lang);
         return ResponseEntity.ok(summary);
     }
-}
 
+    /**
+     * Server-Sent Events variant of the review summary. The LOCAL summary is sent immediately as a
+     * {@code placeholder} event; the AI fields follow as {@code takeaway}, {@code pros},
+     * {@code cons} and {@code topTopics} events as soon as each is generated, and a final
+     * {@code summary} event carries the complete response. Cached or LOCAL-only summaries are
+     * sent as a single {@code summary} event.
+     */
+    @GetMapping(value = "/{productId}/review-summary/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamReviewSummary(
+            @PathVariable Long productId,
+            @RequestParam(defaultValue = "30") int limit,
+            @RequestParam(defaultValue = "en") String lang
+    ) throws IOException {
+        GroqReviewSummaryService.PreparedSummary prepared = groqReviewSummaryService.prepareSummary(productId, limit, lang);
+        SseEmitter emitter = new SseEmitter(SUMMARY_STREAM_TIMEOUT_MS);
+
+        if (prepared.isComplete()) {
+            emitter.send(SseEmitter.event().name("summary").data(prepared.getPlaceholder(), MediaType.APPLICATION_JSON));
+            emitter.complete();
+            return emitter;
+        }
 
+        emitter.send(SseEmitter.event().name("placeholder").data(prepared.getPlaceholder(), MediaType.APPLICATION_JSON));
+        try {
+            summaryStreamExecutor.execute(() -> {
+                try {
+                    groqReviewSummaryService.streamAiSummary(prepared, (name, data) ->
+                            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON)));
+                    emitter.complete();
+                } catch (Exception e) {
+                    emitter.completeWithError(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Saturated: the placeholder is the answer.
+            emitter.send(SseEmitter.event().name("summary").data(prepared.getPlaceholder(), MediaType.APPLICATION_JSON));
+            emitter.complete();
+        }
+        return emitter;
+    }
+}
@@ -3,8 +3,15 @@ package com.productreview.controller;
 import com.productreview.dto.CreateReviewDTO;
 import com.productreview.dto.HelpfulVoteResponseDTO;
 import com.productreview.dto.ReviewDTO;
+import com.productreview.dto.ReviewIngestDTO;
 import com.productreview.dto.UpdateReviewDTO;
+import com.productreview.exception.ReviewNotFoundException;
+import com.productreview.service.CatalogVersions;
+import com.productreview.service.ReviewIngestQueue;
 import com.productreview.service.ReviewService;
+import com.productreview.service.WriteRateLimiter;
+import com.productreview.spec.ReviewSortKey;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -14,6 +21,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/reviews")
@@ -22,10 +30,27 @@ import org.springframework.web.bind.annotation.*;
 public class ReviewController {
     
     private final ReviewService reviewService;
+    private final CatalogVersions catalogVersions;
+    private final WriteRateLimiter writeRateLimiter;
+    private final ReviewIngestQueue reviewIngestQueue;
     
+    /**
+     * With {@code Prefer: respond-async} and the ingest queue enabled, the review is queued and
+     * the answer is 202 with an ingestion id; otherwise it is written before responding.
+     */
     @PostMapping
-    public ResponseEntity<?> createReview(@Valid @RequestBody CreateReviewDTO createReviewDTO) {
+    public ResponseEntity<?> createReview(
+            @Valid @RequestBody CreateReviewDTO createReviewDTO,
+            HttpServletRequest request
+    ) {
+        writeRateLimiter.acquire(createReviewDTO.getDeviceId(), request.getRemoteAddr());
         try {
+            if (reviewIngestQueue.isEnabled() && prefersAsync(request)) {
+                String ingestionId = reviewIngestQueue.accept(createReviewDTO);
+                return ResponseEntity.status(HttpStatus.ACCEPTED)
+                        .header("Preference-Applied", "respond-async")
+                        .body(new ReviewIngestDTO(ingestionId, createReviewDTO.getProductId(), "QUEUED"));
+            }
             ReviewDTO review = reviewService.createReview(createReviewDTO);
             return ResponseEntity.status(HttpStatus.CREATED).body(review);
         } catch (IllegalArgumentException e) {
@@ -36,8 +61,10 @@ public class ReviewController {
     @PutMapping("/{reviewId}")
     public ResponseEntity<?> updateReview(
             @PathVariable Long reviewId,
-            @Valid @RequestBody UpdateReviewDTO updateReviewDTO
+            @Valid @RequestBody UpdateReviewDTO updateReviewDTO,
+            HttpServletRequest request
     ) {
+        writeRateLimiter.acquire(updateReviewDTO.getDeviceId(), request.getRemoteAddr());
         try {
             ReviewDTO updated = reviewService.updateReview(reviewId, updateReviewDTO);
             return ResponseEntity.ok(updated);
@@ -48,19 +75,18 @@ public class ReviewController {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body("You can only edit your own review.");
             }
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Invalid request");
-        } catch (RuntimeException e) {
-            if (e.getMessage() != null && e.getMessage().startsWith("Review not found")) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
-            }
-            throw e;
+        } catch (ReviewNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
         }
     }
 
     @DeleteMapping("/{reviewId}")
     public ResponseEntity<?> deleteReview(
             @PathVariable Long reviewId,
-            @RequestParam String deviceId
+            @RequestParam String deviceId,
+            HttpServletRequest request
     ) {
+        writeRateLimiter.acquire(deviceId, request.getRemoteAddr());
         try {
             reviewService.deleteReview(reviewId, deviceId);
             return ResponseEntity.noContent().build();
@@ -69,11 +95,8 @@ public class ReviewController {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body("You can only delete your own review.");
             }
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Invalid request");
-        } catch (RuntimeException e) {
-            if (e.getMessage() != null && e.getMessage().startsWith("Review not found")) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
-            }
-            throw e;
+        } catch (ReviewNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
         }
     }
     
@@ -84,36 +107,49 @@ public class ReviewController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(defaultValue = "DESC") String sortDir,
-            @RequestParam(required = false) Integer minRating
+            @RequestParam(required = false) Integer minRating,
+            WebRequest request
     ) {
-        Sort primary = sortDir.equalsIgnoreCase("ASC")
-                ? Sort.by(sortBy).ascending()
-                : Sort.by(sortBy).descending();
-
-        Sort sort = "helpfulCount".equals(sortBy)
-                ? primary.and(Sort.by("createdAt").descending())
-                : primary;
+        Sort.Direction direction = sortDir.equalsIgnoreCase("ASC") ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = ReviewSortKey.from(sortBy).toSort(direction);
         Pageable pageable = PageRequest.of(page, size, sort);
+
+        // Conditional GET from the in-memory product version, before any query runs.
+        String etag = catalogVersions.productEtag(productId);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         
         Page<ReviewDTO> reviews = reviewService.getReviewsByProductId(productId, pageable, minRating);
-        return ResponseEntity.ok(reviews);
+        return ResponseEntity.ok().eTag(etag).body(reviews);
     }
 
     @PostMapping("/{reviewId}/helpful")
     public ResponseEntity<?> toggleHelpful(
             @PathVariable Long reviewId,
-            @RequestParam String deviceId
+            @RequestParam String deviceId,
+            HttpServletRequest request
     ) {
+        writeRateLimiter.acquire(deviceId, request.getRemoteAddr());
         try {
             HelpfulVoteResponseDTO response = reviewService.toggleHelpful(reviewId, deviceId);
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-        } catch (RuntimeException e) {
-            if (e.getMessage() != null && e.getMessage().startsWith("Review not found")) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (ReviewNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    private static boolean prefersAsync(HttpServletRequest request) {
+        var prefer = request.getHeaders("Prefer");
+        while (prefer.hasMoreElements()) {
+            for (String preference : prefer.nextElement().split(",")) {
+                if (preference.trim().equalsIgnoreCase("respond-async")) {
+                    return true;
+                }
             }
-            throw e;
         }
+        return false;
     }
 }
@@ -0,0 +1,13 @@
+package com.productreview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCountDTO {
+    private String value;
+    private Long count;
+}
@@ -0,0 +1,20 @@
+package com.productreview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Products priced from {@code minPrice} to {@code maxPrice} inclusive; {@code maxPrice} is null
+ * for the open-ended top range. Both can be passed to the listing as its price filter.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceRangeCountDTO {
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private Long count;
+}
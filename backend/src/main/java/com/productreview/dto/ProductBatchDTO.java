@@ -0,0 +1,19 @@
+package com.productreview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Products looked up by id, in the order requested; ids with no product are listed in
+ * {@code missingIds} instead.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductBatchDTO {
+    private List<ProductDTO> products;
+    private List<Long> missingIds;
+}
@@ -0,0 +1,23 @@
+package com.productreview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Facet counts for a listing's search and filters. {@code total} matches every filter; each
+ * facet's counts apply all filters except its own, so they show what choosing another value
+ * would return. A rating facet {@code value} is a {@code minRating} ("4" counts products rated
+ * 4 and up).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFacetsDTO {
+    private Long total;
+    private List<FacetCountDTO> categories;
+    private List<FacetCountDTO> ratings;
+    private List<PriceRangeCountDTO> priceRanges;
+}
@@ -0,0 +1,24 @@
+package com.productreview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * Everything the product screen shows on open. Parts that missed their deadline or failed are
+ * null and named in {@code partial} ("product", "reviews", "summary", "helpfulReviewIds"), so the
+ * client can fetch just those from their own endpoints.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductPageDTO {
+    private ProductDTO product;
+    private Page<ReviewDTO> reviews;
+    private ReviewSummaryResponseDTO summary;
+    private List<Long> helpfulReviewIds;
+    private List<String> partial;
+}
@@ -0,0 +1,14 @@
+package com.productreview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSuggestionDTO {
+    private Long id;
+    private String name;
+    private Long reviewCount;
+}
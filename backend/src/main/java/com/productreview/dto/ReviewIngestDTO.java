@@ -0,0 +1,18 @@
+package com.productreview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Answer to a review accepted for asynchronous writing: the review id is assigned by the
+ * database when the queue writes it, so the client gets an ingestion id instead.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewIngestDTO {
+    private String ingestionId;
+    private Long productId;
+    private String status;
+}
@@ -7,13 +7,35 @@ import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "products")
+@Table(
+        name = "products",
+        indexes = {
+                // One index per ProductSortKey, plus a category-prefixed twin for the category filter.
+                @Index(name = "idx_products_review_count", columnList = "review_count, average_rating, id"),
+                @Index(name = "idx_products_average_rating", columnList = "average_rating, review_count, id"),
+                @Index(name = "idx_products_price", columnList = "price, id"),
+                @Index(name = "idx_products_created_at", columnList = "created_at, id"),
+                @Index(name = "idx_products_name", columnList = "name, id"),
+                @Index(name = "idx_products_category_review_count", columnList = "category, review_count, average_rating, id"),
+                @Index(name = "idx_products_category_average_rating", columnList = "category, average_rating, review_count, id"),
+                @Index(name = "idx_products_category_price", columnList = "category, price, id"),
+                @Index(name = "idx_products_category_created_at", columnList = "category, created_at, id"),
+                @Index(name = "idx_products_category_name", columnList = "category, name, id")
+        }
+)
+@EntityListeners(ProductChangeListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -37,8 +59,10 @@ public class Product {
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal price;
     
-    @Column(name = "image_urls", columnDefinition = "TEXT")
-    private String imageUrls; // JSON array of image URLs
+    // SQL-standard array syntax, accepted by both PostgreSQL and H2
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "images", columnDefinition = "varchar ARRAY")
+    private List<String> imageUrls;
 
     @Column(name = "average_rating")
     private Double averageRating;
@@ -61,7 +85,12 @@ public class Product {
         if (reviewCount == null) {
             reviewCount = 0L;
         }
-        // Normalize product name
+        normalizeName();
+    }
+
+    // Names are stored normalized so reads can return them as they are.
+    @PreUpdate
+    protected void normalizeName() {
         if (name != null) {
             name = ProductNameUtil.normalizeProductName(name);
         }
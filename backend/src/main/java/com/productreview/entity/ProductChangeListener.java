@@ -0,0 +1,29 @@
+package com.productreview.entity;
+
+import com.productreview.event.ProductChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Turns JPA writes of {@link Product} into {@link ProductChangedEvent}s. Created by Spring
+ * through Hibernate's bean container, so the publisher is injected.
+ */
+@RequiredArgsConstructor
+public class ProductChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    void onWrite(Product product) {
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId(), product.getName(), product.getReviewCount(), false));
+    }
+
+    @PostRemove
+    void onRemove(Product product) {
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId(), product.getName(), product.getReviewCount(), true));
+    }
+}
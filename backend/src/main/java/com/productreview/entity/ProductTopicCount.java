@@ -0,0 +1,32 @@
+package com.productreview.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(
+        name = "product_topic_counts",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_product_topic_counts_product_topic", columnNames = {"product_id", "topic_key"})
+        }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductTopicCount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "topic_key", nullable = false, length = 32)
+    private String topicKey;
+
+    @Column(name = "mention_count", nullable = false)
+    private Long mentionCount = 0L;
+}
@@ -13,8 +13,8 @@ import java.time.LocalDateTime;
         indexes = {
                 @Index(name = "idx_reviews_product_id", columnList = "product_id"),
                 @Index(name = "idx_reviews_product_id_created_at", columnList = "product_id, created_at"),
-                @Index(name = "idx_reviews_product_id_rating", columnList = "product_id, rating"),
-                @Index(name = "idx_reviews_product_id_helpful", columnList = "product_id, helpful_count")
+                @Index(name = "idx_reviews_product_id_rating_created_at", columnList = "product_id, rating, created_at"),
+                @Index(name = "idx_reviews_product_id_helpful_created_at", columnList = "product_id, helpful_count, created_at")
         }
 )
 @Data
@@ -0,0 +1,11 @@
+package com.productreview.event;
+
+/**
+ * Published by {@code ReviewService} when a review write changes a product's stored
+ * {@code averageRating} or {@code reviewCount}. Comment-only edits do not publish it.
+ */
+public record ProductAggregatesChangedEvent(
+        Long productId,
+        String category
+) {
+}
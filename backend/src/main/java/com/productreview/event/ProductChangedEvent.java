@@ -0,0 +1,16 @@
+package com.productreview.event;
+
+/**
+ * Published by {@code ProductChangeListener} when a products row is inserted, updated or
+ * deleted through JPA, including the aggregate updates made by {@code ReviewService}.
+ * Plain JDBC writes (seeders, migrations) do not publish it.
+ * {@code name} and {@code reviewCount} are the values written, so listeners that only need
+ * those do not read the row back.
+ */
+public record ProductChangedEvent(
+        Long productId,
+        String name,
+        Long reviewCount,
+        boolean deleted
+) {
+}
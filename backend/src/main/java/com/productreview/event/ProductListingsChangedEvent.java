@@ -0,0 +1,12 @@
+package com.productreview.event;
+
+/**
+ * Published by {@code ProductReadModel} once it has applied a product change, so listing pages
+ * answered from it are fresh from then on. {@code category} is the product's category; both
+ * fields are null after a full reload, which may have changed any product.
+ */
+public record ProductListingsChangedEvent(
+        Long productId,
+        String category
+) {
+}
@@ -0,0 +1,14 @@
+package com.productreview.event;
+
+/**
+ * Published by {@code ReviewService} whenever a review is created, updated or deleted.
+ * {@code previousComment} is null for creates and {@code currentComment} is null for deletes.
+ */
+public record ReviewChangedEvent(
+        Long reviewId,
+        Long productId,
+        String category,
+        String previousComment,
+        String currentComment
+) {
+}
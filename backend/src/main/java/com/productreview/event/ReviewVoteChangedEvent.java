@@ -0,0 +1,10 @@
+package com.productreview.event;
+
+/**
+ * Published by {@code ReviewService} when a helpful vote is added to or removed from a review.
+ */
+public record ReviewVoteChangedEvent(
+        Long productId,
+        Long reviewId
+) {
+}
@@ -0,0 +1,14 @@
+package com.productreview.exception;
+
+/**
+ * A requested entity does not exist; answered with 404 by {@code GlobalExceptionHandler}.
+ * Unknown ids are an expected, frequent outcome (stale clients, scrapers), so these exceptions
+ * skip the stack trace and suppression bookkeeping: creating one costs about as much as its
+ * message.
+ */
+public abstract class NotFoundException extends RuntimeException {
+
+    protected NotFoundException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,8 @@
+package com.productreview.exception;
+
+public class ProductNotFoundException extends NotFoundException {
+
+    public ProductNotFoundException(Long productId) {
+        super("Product not found with id: " + productId);
+    }
+}
@@ -0,0 +1,20 @@
+package com.productreview.exception;
+
+/**
+ * A client used up its write allowance; answered with 429 and a {@code Retry-After} of
+ * {@link #getRetryAfterSeconds()}. Thrown on every rejected request while a client keeps
+ * retrying, so like {@link NotFoundException} it has no stack trace.
+ */
+public class RateLimitedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitedException(long retryAfterSeconds) {
+        super("Too many requests, retry in " + retryAfterSeconds + "s", null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,8 @@
+package com.productreview.exception;
+
+public class ReviewNotFoundException extends NotFoundException {
+
+    public ReviewNotFoundException(Long reviewId) {
+        super("Review not found with id: " + reviewId);
+    }
+}
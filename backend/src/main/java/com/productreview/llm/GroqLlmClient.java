@@ -0,0 +1,258 @@
+package com.productreview.llm;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OpenAI-compatible chat completions against Groq. One HTTP/2 client is shared by all callers so
+ * connections are reused, and responses are parsed straight from the body stream: only
+ * {@code choices[0].message.content} (or {@code delta.content} when streaming) is materialized.
+ */
+@Component
+@ConditionalOnProperty(name = "llm.provider", havingValue = "groq", matchIfMissing = true)
+public class GroqLlmClient implements LlmClient {
+
+    private final ObjectMapper objectMapper;
+    private final LlmCallMetrics metrics;
+    private final JsonFactory jsonFactory;
+    private final HttpClient httpClient;
+    private final URI completionsUri;
+    private final String apiKey;
+    private final String model;
+
+    public GroqLlmClient(
+            ObjectMapper objectMapper,
+            LlmCallMetrics metrics,
+            @Value("${llm.api-key:}") String apiKey,
+            @Value("${llm.model:llama-3.3-70b-versatile}") String model,
+            @Value("${llm.base-url:https://api.groq.com/openai/v1}") String baseUrl,
+            @Value("${llm.connect-timeout:5s}") Duration connectTimeout
+    ) {
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.jsonFactory = objectMapper.getFactory();
+        this.apiKey = apiKey == null ? "" : apiKey.trim();
+        this.model = model == null || model.trim().isEmpty() ? "llama-3.3-70b-versatile" : model.trim();
+        this.completionsUri = URI.create(stripTrailingSlash(baseUrl) + "/chat/completions");
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .build();
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return !apiKey.isEmpty();
+    }
+
+    @Override
+    public String complete(LlmRequest request) {
+        long start = System.nanoTime();
+        byte[] body = null;
+        CountingInputStream in = null;
+        boolean success = false;
+        try {
+            body = buildBody(request, false);
+            HttpResponse<InputStream> response = httpClient.send(buildHttpRequest(request, body, "application/json"), HttpResponse.BodyHandlers.ofInputStream());
+            in = new CountingInputStream(response.body());
+            try (InputStream stream = in) {
+                if (response.statusCode() < 200 || response.statusCode() >= 300) {
+                    String snippet = safeSnippet(stream);
+                    throw new ResponseStatusException(
+                            HttpStatus.BAD_GATEWAY,
+                            "Groq call failed with status " + response.statusCode() + (snippet.isEmpty() ? "" : (": " + snippet))
+                    );
+                }
+
+                String content;
+                try (JsonParser parser = jsonFactory.createParser(stream)) {
+                    parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+                    content = extractContent(parser, "message");
+                }
+                // Drain the rest (usage block) so the connection can be reused.
+                stream.transferTo(OutputStream.nullOutputStream());
+
+                if (content == null || content.trim().isEmpty()) {
+                    throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Groq returned empty response");
+                }
+                success = true;
+                return content;
+            }
+        } catch (ResponseStatusException e) {
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Groq call interrupted");
+        } catch (Exception e) {
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Groq call failed");
+        } finally {
+            metrics.record(request.operation(), System.nanoTime() - start, body == null ? 0 : body.length, in == null ? 0 : in.count, success);
+        }
+    }
+
+    @Override
+    public void stream(LlmRequest request, LlmContentListener listener) throws IOException {
+        long start = System.nanoTime();
+        byte[] body = buildBody(request, true);
+        CountingInputStream in = null;
+        boolean success = false;
+        try {
+            HttpResponse<InputStream> response = httpClient.send(buildHttpRequest(request, body, "text/event-stream"), HttpResponse.BodyHandlers.ofInputStream());
+            in = new CountingInputStream(response.body());
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                if (response.statusCode() < 200 || response.statusCode() >= 300) {
+                    throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Groq stream failed with status " + response.statusCode());
+                }
+
+                // Stopping early closes the response body, which cancels the upstream stream.
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String delta = extractStreamedContent(jsonFactory, line);
+                    if (delta == null) break;
+                    if (!delta.isEmpty() && !listener.onContent(delta)) break;
+                }
+                success = true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Groq stream interrupted");
+        } finally {
+            metrics.record(request.operation() + ".stream", System.nanoTime() - start, body.length, in == null ? 0 : in.count, success);
+        }
+    }
+
+    private HttpRequest buildHttpRequest(LlmRequest request, byte[] body, String accept) {
+        return HttpRequest.newBuilder()
+                .uri(completionsUri)
+                .timeout(request.timeout())
+                .header("Content-Type", "application/json")
+                .header("Accept", accept)
+                .header("Authorization", "Bearer " + apiKey)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+    }
+
+    private byte[] buildBody(LlmRequest request, boolean stream) throws IOException {
+        Map<String, Object> req = new HashMap<>();
+        req.put("model", model);
+        req.put("temperature", request.temperature());
+        if (stream) {
+            req.put("stream", true);
+        }
+        req.put("messages", List.of(
+                Map.of("role", "system", "content", request.systemPrompt()),
+                Map.of("role", "user", "content", request.userPrompt())
+        ));
+        return objectMapper.writeValueAsBytes(req);
+    }
+
+    /**
+     * Returns the content delta of one server-sent event line, "" when the line carries none
+     * (comments, blank lines, role-only or final deltas) and null at {@code data: [DONE]}.
+     */
+    static String extractStreamedContent(JsonFactory jsonFactory, String line) throws IOException {
+        if (!line.startsWith("data:")) return "";
+        String data = line.substring(5).trim();
+        if (data.equals("[DONE]")) return null;
+        if (data.isEmpty()) return "";
+        try (JsonParser parser = jsonFactory.createParser(data)) {
+            String delta = extractContent(parser, "delta");
+            return delta == null ? "" : delta;
+        }
+    }
+
+    /**
+     * Walks {@code {"choices":[{"<container>":{"content":"..."}}]}} token by token and returns the
+     * content of the first choice, skipping every other subtree without building nodes.
+     */
+    static String extractContent(JsonParser p, String container) throws IOException {
+        if (p.nextToken() != JsonToken.START_OBJECT) return null;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if ("choices".equals(field) && value == JsonToken.START_ARRAY) {
+                if (p.nextToken() != JsonToken.START_OBJECT) return null;
+                return extractFromChoice(p, container);
+            }
+            p.skipChildren();
+        }
+        return null;
+    }
+
+    private static String extractFromChoice(JsonParser p, String container) throws IOException {
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if (container.equals(field) && value == JsonToken.START_OBJECT) {
+                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                    String inner = p.currentName();
+                    JsonToken innerValue = p.nextToken();
+                    if ("content".equals(inner)) {
+                        return innerValue == JsonToken.VALUE_STRING ? p.getText() : null;
+                    }
+                    p.skipChildren();
+                }
+                return null;
+            }
+            p.skipChildren();
+        }
+        return null;
+    }
+
+    private String safeSnippet(InputStream in) throws IOException {
+        byte[] head = in.readNBytes(2000);
+        in.transferTo(OutputStream.nullOutputStream());
+        String t = new String(head, StandardCharsets.UTF_8).replace("\r", " ").replace("\n", " ").trim();
+        return t.length() > 500 ? t.substring(0, 500) : t;
+    }
+
+    private static String stripTrailingSlash(String url) {
+        String u = url == null ? "" : url.trim();
+        return u.endsWith("/") ? u.substring(0, u.length() - 1) : u;
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) count += n;
+            return n;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.productreview.llm;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-operation call counters for the upstream LLM: call/failure counts, latency and
+ * request/response sizes. Recording is lock-free so it can sit on every call. The same numbers
+ * are published to Micrometer as the {@code llm.calls} timer and {@code llm.request.size} /
+ * {@code llm.response.size} summaries, tagged by operation.
+ */
+@Component
+public class LlmCallMetrics {
+
+    private final Map<String, OperationStats> stats = new ConcurrentHashMap<>();
+    private final MeterRegistry registry;
+
+    public LlmCallMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public void record(String operation, long nanos, long requestBytes, long responseBytes, boolean success) {
+        OperationStats s = stats.computeIfAbsent(operation == null ? "unknown" : operation, this::newStats);
+        s.calls.increment();
+        if (!success) s.failures.increment();
+        s.totalNanos.add(nanos);
+        s.maxNanos.accumulate(nanos);
+        s.requestBytes.add(requestBytes);
+        s.responseBytes.add(responseBytes);
+
+        (success ? s.successTimer : s.failureTimer).record(nanos, TimeUnit.NANOSECONDS);
+        s.requestSize.record(requestBytes);
+        s.responseSize.record(responseBytes);
+    }
+
+    public Map<String, Snapshot> snapshot() {
+        Map<String, Snapshot> out = new TreeMap<>();
+        stats.forEach((op, s) -> out.put(op, s.snapshot()));
+        return out;
+    }
+
+    public record Snapshot(
+            long calls,
+            long failures,
+            long totalNanos,
+            long maxNanos,
+            long requestBytes,
+            long responseBytes
+    ) {
+        public double meanMillis() {
+            return calls == 0 ? 0.0 : totalNanos / 1_000_000.0 / calls;
+        }
+    }
+
+    private OperationStats newStats(String operation) {
+        return new OperationStats(
+                llmTimer(operation, "success"),
+                llmTimer(operation, "failure"),
+                DistributionSummary.builder("llm.request.size").baseUnit("bytes").tag("operation", operation).register(registry),
+                DistributionSummary.builder("llm.response.size").baseUnit("bytes").tag("operation", operation).register(registry)
+        );
+    }
+
+    private Timer llmTimer(String operation, String outcome) {
+        return Timer.builder("llm.calls")
+                .description("Upstream LLM calls")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private static final class OperationStats {
+        private final Timer successTimer;
+        private final Timer failureTimer;
+        private final DistributionSummary requestSize;
+        private final DistributionSummary responseSize;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+        private final LongAdder requestBytes = new LongAdder();
+        private final LongAdder responseBytes = new LongAdder();
+
+        private OperationStats(Timer successTimer, Timer failureTimer, DistributionSummary requestSize, DistributionSummary responseSize) {
+            this.successTimer = successTimer;
+            this.failureTimer = failureTimer;
+            this.requestSize = requestSize;
+            this.responseSize = responseSize;
+        }
+
+        private Snapshot snapshot() {
+            return new Snapshot(calls.sum(), failures.sum(), totalNanos.sum(), maxNanos.get(), requestBytes.sum(), responseBytes.sum());
+        }
+    }
+}
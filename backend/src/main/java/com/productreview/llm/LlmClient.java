@@ -0,0 +1,26 @@
+package com.productreview.llm;
+
+import java.io.IOException;
+
+/**
+ * Chat-completion client shared by the AI services. Failures are reported as
+ * {@code ResponseStatusException(BAD_GATEWAY)}, matching the services' existing fallbacks.
+ */
+public interface LlmClient {
+
+    /**
+     * False when the provider is not configured (e.g. no API key); callers fall back to LOCAL.
+     */
+    boolean isAvailable();
+
+    /**
+     * Returns the assistant message content of a non-streamed completion.
+     */
+    String complete(LlmRequest request);
+
+    /**
+     * Streams the completion, passing each content delta to {@code listener} as it arrives, until
+     * the completion ends or the listener returns false.
+     */
+    void stream(LlmRequest request, LlmContentListener listener) throws IOException;
+}
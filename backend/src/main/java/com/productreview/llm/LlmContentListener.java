@@ -0,0 +1,12 @@
+package com.productreview.llm;
+
+import java.io.IOException;
+
+/**
+ * Receives completion text deltas while a streamed completion is generated.
+ * Returning false stops reading the upstream stream; throwing aborts it.
+ */
+@FunctionalInterface
+public interface LlmContentListener {
+    boolean onContent(String delta) throws IOException;
+}
@@ -0,0 +1,16 @@
+package com.productreview.llm;
+
+import java.time.Duration;
+
+/**
+ * A single chat completion request. {@code operation} names the caller ("summary", "translate")
+ * and is used to group call metrics.
+ */
+public record LlmRequest(
+        String operation,
+        String systemPrompt,
+        String userPrompt,
+        double temperature,
+        Duration timeout
+) {
+}
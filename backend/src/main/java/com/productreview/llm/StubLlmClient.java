@@ -0,0 +1,125 @@
+package com.productreview.llm;
+
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Local stand-in for the upstream LLM ({@code llm.provider=stub}) used by benchmarks, load tests
+ * and tests. Summaries are a fixed JSON object; translations echo the input texts prefixed with
+ * the target language. {@code llm.stub.latency} simulates upstream latency.
+ */
+@Component
+@ConditionalOnProperty(name = "llm.provider", havingValue = "stub")
+public class StubLlmClient implements LlmClient {
+
+    private static final int STREAM_CHUNK_CHARS = 12;
+
+    private final ObjectMapper promptMapper = JsonMapper.builder()
+            .enable(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS)
+            .build();
+    private final LlmCallMetrics metrics;
+    private final Duration latency;
+
+    public StubLlmClient(LlmCallMetrics metrics, @Value("${llm.stub.latency:0ms}") Duration latency) {
+        this.metrics = metrics;
+        this.latency = latency;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public String complete(LlmRequest request) {
+        long start = System.nanoTime();
+        String content = respond(request);
+        sleep(latency);
+        metrics.record(request.operation(), System.nanoTime() - start, utf8Length(request.userPrompt()), utf8Length(content), true);
+        return content;
+    }
+
+    @Override
+    public void stream(LlmRequest request, LlmContentListener listener) throws IOException {
+        long start = System.nanoTime();
+        String content = respond(request);
+        int chunks = Math.max(1, (content.length() + STREAM_CHUNK_CHARS - 1) / STREAM_CHUNK_CHARS);
+        Duration perChunk = latency.dividedBy(chunks);
+        int sent = 0;
+        while (sent < content.length()) {
+            sleep(perChunk);
+            int end = Math.min(content.length(), sent + STREAM_CHUNK_CHARS);
+            String chunk = content.substring(sent, end);
+            sent = end;
+            if (!listener.onContent(chunk)) {
+                break;
+            }
+        }
+        // Sizes in UTF-8 bytes, like GroqLlmClient; a stream stopped early counts what was sent.
+        metrics.record(request.operation() + ".stream", System.nanoTime() - start,
+                utf8Length(request.userPrompt()), utf8Length(content.substring(0, sent)), true);
+    }
+
+    private String respond(LlmRequest request) {
+        try {
+            if ("translate".equals(request.operation())) {
+                List<String> translations = new ArrayList<>();
+                String lang = targetLanguage(request.systemPrompt());
+                for (JsonNode n : inputArray(request.userPrompt())) {
+                    translations.add("[" + lang + "] " + n.asText(""));
+                }
+                return promptMapper.writeValueAsString(Map.of("translations", translations));
+            }
+            return promptMapper.writeValueAsString(Map.of(
+                    "takeaway", "Most reviewers describe a solid product with a few recurring complaints.",
+                    "pros", List.of("Good value", "Works as described"),
+                    "cons", List.of("Delivery could be faster"),
+                    "topTopics", List.of("Price", "Delivery", "Build quality")
+            ));
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Stub LLM failed");
+        }
+    }
+
+    private JsonNode inputArray(String prompt) throws IOException {
+        int start = prompt.lastIndexOf("\n[");
+        int end = prompt.lastIndexOf(']');
+        if (start < 0 || end <= start) return promptMapper.createArrayNode();
+        return promptMapper.readTree(prompt.substring(start + 1, end + 1));
+    }
+
+    private String targetLanguage(String systemPrompt) {
+        String marker = "Output language: ";
+        int i = systemPrompt.lastIndexOf(marker);
+        if (i < 0) return "en";
+        String rest = systemPrompt.substring(i + marker.length()).trim();
+        return rest.endsWith(".") ? rest.substring(0, rest.length() - 1) : rest;
+    }
+
+    private static int utf8Length(String text) {
+        return text.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static void sleep(Duration d) {
+        if (d.isZero() || d.isNegative()) return;
+        try {
+            Thread.sleep(d.toMillis(), d.toNanosPart() % 1_000_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
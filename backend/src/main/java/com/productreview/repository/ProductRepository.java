@@ -1,39 +1,49 @@
 package com.productreview.repository;
 
 import com.productreview.entity.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product> {
     
+    /**
+     * Unfiltered listing page. Cached in the {@code productListings} query region together with
+     * its count; Hibernate drops the cached pages whenever a products row changes.
+     */
+    @Override
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "productListings")
+    })
+    Page<Product> findAll(Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = "productListings")
+    })
     Page<Product> findByCategory(String category, Pageable pageable);
 
-    @Query(
-            value = "SELECT p FROM Product p LEFT JOIN p.reviews r GROUP BY p ORDER BY COUNT(r) DESC, COALESCE(AVG(r.rating), 0) DESC",
-            countQuery = "SELECT COUNT(p) FROM Product p"
-    )
-    Page<Product> findAllOrderByReviewAggregates(Pageable pageable);
-
-    @Query(
-            value = "SELECT p FROM Product p LEFT JOIN p.reviews r WHERE p.category = :category GROUP BY p ORDER BY COUNT(r) DESC, COALESCE(AVG(r.rating), 0) DESC",
-            countQuery = "SELECT COUNT(p) FROM Product p WHERE p.category = :category"
-    )
-    Page<Product> findByCategoryOrderByReviewAggregates(@Param("category") String category, Pageable pageable);
-    
     @Query("SELECT p FROM Product p WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(p.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     Page<Product> searchProducts(@Param("searchTerm") String searchTerm, Pageable pageable);
     
     @Query("SELECT p FROM Product p WHERE p.category = :category AND (LOWER(p.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(p.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) ")
     Page<Product> findByCategoryAndSearch(@Param("category") String category, @Param("searchTerm") String searchTerm, Pageable pageable);
     
+    @Query("SELECT p.id FROM Product p WHERE p.id > :afterId ORDER BY p.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
     @Query("SELECT p FROM Product p LEFT JOIN FETCH p.reviews WHERE p.id = :id")
     Optional<Product> findByIdWithReviews(@Param("id") Long id);
 }
@@ -0,0 +1,20 @@
+package com.productreview.repository;
+
+import com.productreview.entity.ProductTopicCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ProductTopicCountRepository extends JpaRepository<ProductTopicCount, Long> {
+
+    List<ProductTopicCount> findByProductId(Long productId);
+
+    @Modifying
+    @Query("UPDATE ProductTopicCount t SET t.mentionCount = CASE WHEN t.mentionCount + :delta < 0 THEN 0 ELSE t.mentionCount + :delta END WHERE t.productId = :productId AND t.topicKey = :topicKey")
+    int addToCount(@Param("productId") Long productId, @Param("topicKey") String topicKey, @Param("delta") long delta);
+}
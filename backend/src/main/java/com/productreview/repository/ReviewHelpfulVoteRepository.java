@@ -2,8 +2,11 @@ package com.productreview.repository;
 
 import com.productreview.entity.ReviewHelpfulVote;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +15,7 @@ public interface ReviewHelpfulVoteRepository extends JpaRepository<ReviewHelpful
     Optional<ReviewHelpfulVote> findByReviewIdAndDeviceId(Long reviewId, String deviceId);
 
     long countByReviewId(Long reviewId);
+
+    @Query("SELECT v.review.id FROM ReviewHelpfulVote v WHERE v.deviceId = :deviceId AND v.review.product.id = :productId")
+    List<Long> findReviewIdsByProductIdAndDeviceId(@Param("productId") Long productId, @Param("deviceId") String deviceId);
 }
@@ -0,0 +1,70 @@
+package com.productreview.service;
+
+import com.productreview.event.ProductAggregatesChangedEvent;
+import com.productreview.event.ProductListingsChangedEvent;
+import com.productreview.event.ReviewChangedEvent;
+import com.productreview.event.ReviewVoteChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory version counters behind the ETags of the catalog and review endpoints, so a
+ * conditional GET is answered without a query. A product's version is bumped after every
+ * committed review or vote change for it; the catalog version is bumped when a product's
+ * aggregates (the only listing fields that change at runtime) change, or, with
+ * {@link ProductReadModel} enabled, once the model has applied a product change, so a page served
+ * under the new ETag is never read from the old row.
+ * <p>
+ * Versions restart with the process, so every ETag carries the process start time. Like the
+ * other in-process caches, this assumes writes go through this instance.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogVersions {
+
+    private final ProductReadModel productReadModel;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final Map<Long, Long> productVersions = new ConcurrentHashMap<>();
+
+    public String catalogEtag() {
+        return "W/\"" + epoch + "-c" + catalogVersion.get() + "\"";
+    }
+
+    public String productEtag(Long productId) {
+        return "W/\"" + epoch + "-p" + productId + "-" + productVersions.getOrDefault(productId, 0L) + "\"";
+    }
+
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        bumpProduct(event.productId());
+    }
+
+    @TransactionalEventListener
+    public void onReviewVoteChanged(ReviewVoteChangedEvent event) {
+        bumpProduct(event.productId());
+    }
+
+    @TransactionalEventListener
+    public void onAggregatesChanged(ProductAggregatesChangedEvent event) {
+        if (!productReadModel.isEnabled()) {
+            catalogVersion.incrementAndGet();
+        }
+    }
+
+    @EventListener
+    public void onListingsChanged(ProductListingsChangedEvent event) {
+        catalogVersion.incrementAndGet();
+    }
+
+    private void bumpProduct(Long productId) {
+        productVersions.merge(productId, 1L, Long::sum);
+    }
+}
@@ -0,0 +1,114 @@
+package com.productreview.service;
+
+import com.productreview.dto.FacetCountDTO;
+import com.productreview.dto.PriceRangeCountDTO;
+import com.productreview.dto.ProductFacetsDTO;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Product counts by category, price band and whole-star rating floor, for products matching the
+ * search. Each cell holds every product and, separately, those inside the requested price range.
+ * The rating filter ({@code averageRating >= minRating} for a whole number) and the category
+ * filter select whole cells, so every facet's counts follow from the cube without another query.
+ */
+final class FacetCube {
+
+    /**
+     * Lower bound of each price band in cents; a band ends one cent below the next one.
+     */
+    static final long[] BAND_LOWER_CENTS = {0, 2_500, 5_000, 10_000, 25_000, 50_000, 100_000};
+    static final int BANDS = BAND_LOWER_CENTS.length;
+    static final int STARS = 6;
+    static final int CELLS = BANDS * STARS;
+
+    // Per category, CELLS counts of all products followed by CELLS counts inside the price range.
+    private final Map<String, long[]> counts = new LinkedHashMap<>();
+
+    static int band(long priceCents) {
+        int band = 0;
+        while (band + 1 < BANDS && priceCents >= BAND_LOWER_CENTS[band + 1]) {
+            band++;
+        }
+        return band;
+    }
+
+    static int stars(double averageRating) {
+        return (int) Math.max(0, Math.min(STARS - 1, Math.floor(averageRating)));
+    }
+
+    static int cell(int band, int stars) {
+        return band * STARS + stars;
+    }
+
+    void add(String category, int band, int stars, long total, long inPriceRange) {
+        long[] cells = counts.computeIfAbsent(category, c -> new long[CELLS * 2]);
+        cells[cell(band, stars)] += total;
+        cells[CELLS + cell(band, stars)] += inPriceRange;
+    }
+
+    /**
+     * Adds a category's cells as laid out by {@link #cell}: all products, then those in range.
+     */
+    void addCells(String category, long[] total, long[] inPriceRange, int offset) {
+        long[] cells = counts.computeIfAbsent(category, c -> new long[CELLS * 2]);
+        for (int i = 0; i < CELLS; i++) {
+            cells[i] += total[offset + i];
+            cells[CELLS + i] += inPriceRange[offset + i];
+        }
+    }
+
+    ProductFacetsDTO toFacets(String category, Integer minRating) {
+        boolean hasCategory = category != null && !category.isEmpty();
+        int starsFloor = minRating == null ? 0 : Math.max(0, minRating);
+
+        long total = 0;
+        List<FacetCountDTO> categories = new ArrayList<>();
+        long[] ratings = new long[STARS];
+        long[] bands = new long[BANDS];
+        for (Map.Entry<String, long[]> entry : counts.entrySet()) {
+            long[] cells = entry.getValue();
+            boolean categoryMatches = !hasCategory || category.equals(entry.getKey());
+            long categoryCount = 0;
+            for (int band = 0; band < BANDS; band++) {
+                for (int stars = 0; stars < STARS; stars++) {
+                    long all = cells[cell(band, stars)];
+                    long inRange = cells[CELLS + cell(band, stars)];
+                    if (stars >= starsFloor) {
+                        categoryCount += inRange;
+                        if (categoryMatches) {
+                            total += inRange;
+                            bands[band] += all;
+                        }
+                    }
+                    if (categoryMatches) {
+                        ratings[stars] += inRange;
+                    }
+                }
+            }
+            categories.add(new FacetCountDTO(entry.getKey(), categoryCount));
+        }
+        categories.sort(Comparator.comparing(FacetCountDTO::getCount).reversed()
+                .thenComparing(FacetCountDTO::getValue, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        // "n and up" counts, so each one can be passed as minRating.
+        List<FacetCountDTO> ratingCounts = new ArrayList<>();
+        long atLeast = ratings[STARS - 1];
+        for (int stars = STARS - 2; stars >= 1; stars--) {
+            atLeast += ratings[stars];
+            ratingCounts.add(new FacetCountDTO(Integer.toString(stars), atLeast));
+        }
+
+        List<PriceRangeCountDTO> priceRanges = new ArrayList<>(BANDS);
+        for (int band = 0; band < BANDS; band++) {
+            BigDecimal max = band + 1 < BANDS ? BigDecimal.valueOf(BAND_LOWER_CENTS[band + 1] - 1, 2) : null;
+            priceRanges.add(new PriceRangeCountDTO(BigDecimal.valueOf(BAND_LOWER_CENTS[band], 2), max, bands[band]));
+        }
+        return new ProductFacetsDTO(total, categories, ratingCounts, priceRanges);
+    }
+}
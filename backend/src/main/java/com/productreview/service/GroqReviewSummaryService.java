@@ -6,48 +6,74 @@ import com.productreview.dto.ReviewSummaryDTO;
 import com.productreview.dto.ReviewSummaryResponseDTO;
 import com.productreview.entity.Product;
 import com.productreview.entity.Review;
+import com.productreview.exception.ProductNotFoundException;
+import com.productreview.llm.LlmClient;
+import com.productreview.llm.LlmRequest;
 import com.productreview.repository.ProductRepository;
 import com.productreview.repository.ReviewRepository;
+import com.productreview.util.ReviewTopics;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 @Service
 @RequiredArgsConstructor
 public class GroqReviewSummaryService {
 
-    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
     private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(6);
+    private static final Duration STREAM_REQUEST_TIMEOUT = Duration.ofSeconds(20);
     private static final Duration CACHE_TTL = Duration.ofMinutes(10);
 
     private final ProductRepository productRepository;
     private final ReviewRepository reviewRepository;
-
-    private final ObjectMapper objectMapper = new ObjectMapper();
-    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(CONNECT_TIMEOUT).build();
+    private final MissingIdCache missingIdCache;
+    private final ProductTopicCounterService productTopicCounterService;
+    private final LlmClient llmClient;
+    private final ObjectMapper objectMapper;
 
     private final Map<String, CacheEntry> cache = new ConcurrentHashMap<>();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
 
     public ReviewSummaryResponseDTO getReviewSummary(Long productId, int limit, String lang) {
+        PreparedSummary prepared = prepareSummary(productId, limit, lang);
+        if (prepared.isComplete()) {
+            return prepared.getPlaceholder();
+        }
+
+        ReviewSummaryDTO ai = null;
+        try {
+            String prompt = buildPrompt(prepared.product, prepared.usable, prepared.lang);
+            ai = callGroq(prompt, prepared.lang);
+        } catch (Exception ignored) {
+            ai = null;
+        }
+
+        return finish(prepared, ai);
+    }
+
+    /**
+     * Loads everything needed for a summary and builds the LOCAL placeholder. When the result is
+     * already final (cache hit, no usable reviews, or no API key) it is cached and marked complete;
+     * otherwise the caller is expected to follow up with an AI call.
+     */
+    public PreparedSummary prepareSummary(Long productId, int limit, String lang) {
         String safeLang = normalizeLang(lang);
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Product not found with id: " + productId));
+        Product product = missingIdCache.products().find(productId, () -> productRepository.findById(productId))
+                .orElseThrow(() -> new ProductNotFoundException(productId));
 
         Long reviewCount = product.getReviewCount() == null ? 0L : product.getReviewCount();
         Double averageRating = product.getAverageRating() == null ? 0.0 : product.getAverageRating();
@@ -58,9 +84,11 @@ public class GroqReviewSummaryService {
 
         CacheEntry cached = cache.get(cacheKey);
         if (cached != null && !cached.isExpired()) {
-            return cached.value;
+            cacheHits.increment();
+            return new PreparedSummary(cached.value, true, product, List.of(), safeLang, cacheKey);
         }
 
+        cacheMisses.increment();
         int safeLimit = Math.max(1, Math.min(100, limit));
 
         List<Review> latest = reviewRepository.findLatestByProductId(productId, PageRequest.of(0, safeLimit));
@@ -73,63 +101,106 @@ public class GroqReviewSummaryService {
             usable.add(r);
         }
 
-        if (usable.isEmpty()) {
-            ReviewSummaryDTO local = buildLocalSummary(product, usable, safeLang);
-            ReviewSummaryResponseDTO response = new ReviewSummaryResponseDTO(
-                    productId,
-                    safeLang,
-                    "LOCAL",
-                    averageRating,
-                    reviewCount,
-                    0L,
-                    local.getTakeaway(),
-                    local.getPros(),
-                    local.getCons(),
-                    local.getTopTopics(),
-                    Instant.now().toString()
-            );
-            cache.put(cacheKey, new CacheEntry(response));
-            return response;
+        Map<String, Long> topicCounts = productTopicCounterService.getCounts(productId);
+        ReviewSummaryDTO local = buildLocalSummary(usable, topicCounts, safeLang);
+        ReviewSummaryResponseDTO placeholder = new ReviewSummaryResponseDTO(
+                productId,
+                safeLang,
+                "LOCAL",
+                averageRating,
+                reviewCount,
+                (long) usable.size(),
+                local.getTakeaway(),
+                local.getPros(),
+                local.getCons(),
+                local.getTopTopics(),
+                Instant.now().toString()
+        );
+
+        if (usable.isEmpty() || !llmClient.isAvailable()) {
+            cache.put(cacheKey, new CacheEntry(placeholder));
+            return new PreparedSummary(placeholder, true, product, usable, safeLang, cacheKey);
         }
+        return new PreparedSummary(placeholder, false, product, usable, safeLang, cacheKey);
+    }
 
-        ReviewSummaryDTO local = buildLocalSummary(product, usable, safeLang);
-        String apiKey = System.getenv("GROQ_API_KEY");
-        if (apiKey == null || apiKey.trim().isEmpty()) {
-            ReviewSummaryResponseDTO response = new ReviewSummaryResponseDTO(
-                    productId,
-                    safeLang,
-                    "LOCAL",
-                    averageRating,
-                    reviewCount,
-                    (long) usable.size(),
-                    local.getTakeaway(),
-                    local.getPros(),
-                    local.getCons(),
-                    local.getTopTopics(),
-                    Instant.now().toString()
-            );
-            cache.put(cacheKey, new CacheEntry(response));
-            return response;
+    /**
+     * Streams the AI summary for a prepared, incomplete summary. Each field is reported through
+     * {@code listener} as soon as the model has finished generating it; the final
+     * {@code summary} event carries the full response (falling back to the LOCAL placeholder).
+     */
+    public void streamAiSummary(PreparedSummary prepared, ReviewSummaryStreamListener listener) throws IOException {
+        if (prepared.isComplete()) {
+            listener.onEvent("summary", prepared.getPlaceholder());
+            return;
         }
 
-        ReviewSummaryDTO ai = null;
+        StreamedFields fields = new StreamedFields();
+        ReviewSummaryStreamListener tracked = (name, data) -> {
+            try {
+                listener.onEvent(name, data);
+            } catch (IOException e) {
+                fields.clientGone = true;
+                throw e;
+            }
+        };
         try {
-            String prompt = buildPrompt(product, usable, safeLang);
-            ai = callGroq(apiKey, prompt, safeLang);
-        } catch (Exception ignored) {
-            ai = null;
+            String prompt = buildPrompt(prepared.product, prepared.usable, prepared.lang);
+            callGroqStreaming(prompt, prepared.lang, new ReviewSummaryStreamParser.FieldHandler() {
+                @Override
+                public void onText(String field, String value) throws IOException {
+                    if (!"takeaway".equals(field)) return;
+                    fields.takeaway = safeText(value);
+                    if (fields.takeaway != null) tracked.onEvent("takeaway", fields.takeaway);
+                }
+
+                @Override
+                public void onList(String field, List<String> values) throws IOException {
+                    switch (field) {
+                        case "pros" -> {
+                            fields.pros = clampList(values, 3);
+                            tracked.onEvent("pros", fields.pros);
+                        }
+                        case "cons" -> {
+                            fields.cons = clampList(values, 3);
+                            tracked.onEvent("cons", fields.cons);
+                        }
+                        case "topTopics" -> {
+                            fields.topTopics = clampList(values, 5);
+                            tracked.onEvent("topTopics", fields.topTopics);
+                        }
+                        default -> {
+                        }
+                    }
+                }
+            });
+        } catch (Exception e) {
+            if (fields.clientGone) return;
+            // Whatever arrived before the failure is discarded in favour of LOCAL.
+            fields.takeaway = null;
         }
 
-        ReviewSummaryDTO result = ai != null && ai.getTakeaway() != null ? clamp(ai) : local;
-        String source = (ai != null && ai.getTakeaway() != null) ? "AI" : "LOCAL";
+        ReviewSummaryDTO ai = fields.takeaway == null
+                ? null
+                : new ReviewSummaryDTO(fields.takeaway, fields.pros, fields.cons, fields.topTopics);
+        listener.onEvent("summary", finish(prepared, ai));
+    }
+
+    private ReviewSummaryResponseDTO finish(PreparedSummary prepared, ReviewSummaryDTO ai) {
+        ReviewSummaryResponseDTO local = prepared.getPlaceholder();
+        if (ai == null || ai.getTakeaway() == null) {
+            cache.put(prepared.cacheKey, new CacheEntry(local));
+            return local;
+        }
 
+        ReviewSummaryDTO result = clamp(ai);
         ReviewSummaryResponseDTO response = new ReviewSummaryResponseDTO(
-                productId,
-                safeLang,
-                source,
-                averageRating,
-                reviewCount,
-                (long) usable.size(),
+                local.getProductId(),
+                local.getLang(),
+                "AI",
+                local.getAverageRating(),
+                local.getReviewCount(),
+                local.getReviewCountUsed(),
                 result.getTakeaway(),
                 result.getPros(),
                 result.getCons(),
@@ -137,10 +208,22 @@ public class GroqReviewSummaryService {
                 Instant.now().toString()
         );
 
-        cache.put(cacheKey, new CacheEntry(response));
+        cache.put(prepared.cacheKey, new CacheEntry(response));
         return response;
     }
 
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    public int getCacheSize() {
+        return cache.size();
+    }
+
     private String buildPrompt(Product product, List<Review> reviews, String lang) {
         StringBuilder sb = new StringBuilder();
         sb.append("You summarize product reviews in a conservative, e-commerce style. ");
@@ -195,58 +278,9 @@ public class GroqReviewSummaryService {
         return sb.toString();
     }
 
-    private ReviewSummaryDTO callGroq(String apiKey, String prompt, String lang) {
+    private ReviewSummaryDTO callGroq(String prompt, String lang) {
         try {
-            String model = System.getenv("GROQ_MODEL");
-            if (model == null || model.trim().isEmpty()) {
-                model = "llama-3.3-70b-versatile";
-            }
-
-            Map<String, Object> req = new HashMap<>();
-            req.put("model", model);
-            req.put("temperature", 0.2);
-            req.put("messages", List.of(
-                    Map.of(
-                            "role", "system",
-                            "content", "Return STRICT JSON ONLY with keys: takeaway (string), pros (array of strings), cons (array of strings), topTopics (array of strings). Neutral language only; no marketing; no absolute claims; no emojis; do not mention AI. Max 3 pros/cons, max 5 topics. Output language: " + lang + "."
-                    ),
-                    Map.of(
-                            "role", "user",
-                            "content", prompt
-                    )
-            ));
-
-            String body = objectMapper.writeValueAsString(req);
-
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(java.net.URI.create("https://api.groq.com/openai/v1/chat/completions"))
-                    .timeout(REQUEST_TIMEOUT)
-                    .header("Content-Type", "application/json")
-                    .header("Authorization", "Bearer " + apiKey)
-                    .POST(HttpRequest.BodyPublishers.ofString(body))
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            if (response.statusCode() < 200 || response.statusCode() >= 300) {
-                String snippet = safeSnippet(response.body());
-                throw new ResponseStatusException(
-                        HttpStatus.BAD_GATEWAY,
-                        "Groq call failed with status " + response.statusCode() + (snippet.isEmpty() ? "" : (": " + snippet))
-                );
-            }
-
-            JsonNode root = objectMapper.readTree(response.body());
-            JsonNode contentNode = root
-                    .path("choices")
-                    .path(0)
-                    .path("message")
-                    .path("content");
-
-            if (contentNode.isMissingNode() || contentNode.asText().trim().isEmpty()) {
-                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Groq returned empty response");
-            }
-
-            String raw = contentNode.asText();
+            String raw = llmClient.complete(new LlmRequest("summary", systemPrompt(lang), prompt, 0.2, REQUEST_TIMEOUT));
             String json = extractJsonObject(raw);
             JsonNode parsed = objectMapper.readTree(json);
 
@@ -265,6 +299,22 @@ public class GroqReviewSummaryService {
         }
     }
 
+    /**
+     * Same request as {@link #callGroq}, streamed: content deltas are fed to the incremental parser
+     * until the summary object is complete.
+     */
+    private void callGroqStreaming(String prompt, String lang, ReviewSummaryStreamParser.FieldHandler handler) throws IOException {
+        ReviewSummaryStreamParser parser = new ReviewSummaryStreamParser(handler);
+        llmClient.stream(new LlmRequest("summary", systemPrompt(lang), prompt, 0.2, STREAM_REQUEST_TIMEOUT), delta -> {
+            parser.feed(delta);
+            return !parser.isFinished();
+        });
+    }
+
+    private String systemPrompt(String lang) {
+        return "Return STRICT JSON ONLY with keys: takeaway (string), pros (array of strings), cons (array of strings), topTopics (array of strings). Neutral language only; no marketing; no absolute claims; no emojis; do not mention AI. Max 3 pros/cons, max 5 topics. Output language: " + lang + ".";
+    }
+
     private ReviewSummaryDTO clamp(ReviewSummaryDTO in) {
         if (in == null) return new ReviewSummaryDTO(null, List.of(), List.of(), List.of());
         List<String> pros = clampList(in.getPros(), 3);
@@ -306,23 +356,20 @@ public class GroqReviewSummaryService {
         return "en";
     }
 
-    private ReviewSummaryDTO buildLocalSummary(Product product, List<Review> reviews, String lang) {
+    /**
+     * Pros/cons come from the latest reviews; topics come from the incrementally maintained
+     * per-product counters, so they cover every review without re-scanning comments.
+     */
+    ReviewSummaryDTO buildLocalSummary(List<Review> reviews, Map<String, Long> topicCounts, String lang) {
         List<Review> usable = reviews == null ? List.of() : reviews;
-        Map<String, Integer> topicCounts = new LinkedHashMap<>();
-        for (String k : topicLabels().keySet()) {
-            topicCounts.put(k, 0);
-        }
 
         List<String> pros = new ArrayList<>();
         List<String> cons = new ArrayList<>();
-        int used = 0;
 
         for (Review r : usable) {
             if (r == null) continue;
             String comment = r.getComment();
             if (comment == null) continue;
-            String text = comment.toLowerCase();
-            used++;
 
             String snippet = firstSentence(comment);
 
@@ -332,25 +379,13 @@ public class GroqReviewSummaryService {
             if (r.getRating() != null && r.getRating() <= 2 && cons.size() < 3) {
                 if (snippet != null && !cons.contains(snippet)) cons.add(snippet);
             }
-
-            for (Map.Entry<String, List<String>> e : topicKeywords(product.getCategory()).entrySet()) {
-                String topicKey = e.getKey();
-                for (String kw : e.getValue()) {
-                    if (kw == null || kw.isEmpty()) continue;
-                    if (text.contains(kw)) {
-                        topicCounts.put(topicKey, (topicCounts.getOrDefault(topicKey, 0) + 1));
-                        break;
-                    }
-                }
-            }
+            if (pros.size() >= 3 && cons.size() >= 3) break;
         }
 
         List<String> topTopics = new ArrayList<>();
-        topicCounts.entrySet().stream()
-                .sorted((a, b) -> Integer.compare(b.getValue(), a.getValue()))
-                .filter(e -> e.getValue() > 0)
-                .limit(5)
-                .forEach(e -> topTopics.add(topicLabel(lang, e.getKey())));
+        for (String key : ProductTopicCounterService.topTopicKeys(topicCounts == null ? Map.of() : topicCounts, 5)) {
+            topTopics.add(ReviewTopics.label(lang, key));
+        }
 
         String posTopic = topTopics.size() > 0 ? topTopics.get(0) : null;
         String negTopic = topTopics.size() > 1 ? topTopics.get(1) : null;
@@ -394,72 +429,6 @@ public class GroqReviewSummaryService {
         return "Reviews mention mixed experiences.";
     }
 
-    private Map<String, Map<String, String>> topicLabels() {
-        Map<String, Map<String, String>> labels = new LinkedHashMap<>();
-        labels.put("battery", Map.of("en", "Battery", "tr", "Batarya", "es", "Batería"));
-        labels.put("performance", Map.of("en", "Performance", "tr", "Performans", "es", "Rendimiento"));
-        labels.put("price", Map.of("en", "Price", "tr", "Fiyat", "es", "Precio"));
-        labels.put("build", Map.of("en", "Build quality", "tr", "Malzeme kalitesi", "es", "Calidad de construcción"));
-        labels.put("camera", Map.of("en", "Camera", "tr", "Kamera", "es", "Cámara"));
-        labels.put("delivery", Map.of("en", "Delivery", "tr", "Kargo", "es", "Envío"));
-        labels.put("packaging", Map.of("en", "Packaging", "tr", "Paketleme", "es", "Embalaje"));
-        labels.put("comfort", Map.of("en", "Comfort", "tr", "Konfor", "es", "Comodidad"));
-        labels.put("usability", Map.of("en", "Usability", "tr", "Kullanım", "es", "Usabilidad"));
-        return labels;
-    }
-
-    private String topicLabel(String lang, String topicKey) {
-        Map<String, String> m = topicLabels().get(topicKey);
-        if (m == null) return topicKey;
-        return m.getOrDefault(lang, m.get("en"));
-    }
-
-    private Map<String, List<String>> topicKeywords(String category) {
-        String c = category == null ? "" : category.toLowerCase();
-        Map<String, List<String>> kws = new LinkedHashMap<>();
-        if (c.contains("electronics")) {
-            kws.put("battery", List.of("battery", "batarya", "pil", "charge", "şarj", "bateria", "carga"));
-            kws.put("performance", List.of("performance", "speed", "fast", "performans", "hız", "rapido", "rendimiento"));
-            kws.put("camera", List.of("camera", "kamera", "cámara", "photo", "foto"));
-            kws.put("build", List.of("build", "quality", "malzeme", "kalite", "construction", "construcción"));
-            kws.put("price", List.of("price", "fiyat", "precio", "expensive", "pahalı", "caro"));
-            kws.put("delivery", List.of("delivery", "shipping", "kargo", "envío"));
-            kws.put("packaging", List.of("package", "packaging", "paket", "embalaje"));
-            kws.put("usability", List.of("usability", "easy", "kullanım", "kolay", "usabilidad"));
-            return kws;
-        }
-        if (c.contains("clothing")) {
-            kws.put("comfort", List.of("comfortable", "comfort", "konfor", "rahat", "comodidad"));
-            kws.put("build", List.of("fabric", "quality", "kumaş", "kalite", "tela", "calidad"));
-            kws.put("price", List.of("price", "fiyat", "precio", "expensive", "pahalı", "caro"));
-            kws.put("delivery", List.of("delivery", "shipping", "kargo", "envío"));
-            kws.put("packaging", List.of("package", "packaging", "paket", "embalaje"));
-            kws.put("usability", List.of("fit", "size", "beden", "uyum", "talla", "ajuste"));
-            return kws;
-        }
-        if (c.contains("books")) {
-            kws.put("usability", List.of("translation", "çeviri", "traducción", "writing", "yazım", "prose", "estilo"));
-            kws.put("build", List.of("cover", "kapak", "paper", "kağıt", "portada", "papel"));
-            kws.put("price", List.of("price", "fiyat", "precio", "expensive", "pahalı", "caro"));
-            kws.put("delivery", List.of("delivery", "shipping", "kargo", "envío"));
-            kws.put("packaging", List.of("package", "packaging", "paket", "embalaje"));
-            return kws;
-        }
-        kws.put("build", List.of("quality", "kalite", "calidad", "material", "malzeme"));
-        kws.put("price", List.of("price", "fiyat", "precio", "expensive", "pahalı", "caro"));
-        kws.put("delivery", List.of("delivery", "shipping", "kargo", "envío"));
-        kws.put("packaging", List.of("package", "packaging", "paket", "embalaje"));
-        kws.put("usability", List.of("easy", "kolay", "usabilidad", "usable"));
-        return kws;
-    }
-
-    private String safeSnippet(String body) {
-        if (body == null) return "";
-        String t = body.replace("\r", " ").replace("\n", " ").trim();
-        if (t.isEmpty()) return "";
-        return t.length() > 500 ? t.substring(0, 500) : t;
-    }
-
     private List<String> asStringList(JsonNode node) {
         List<String> out = new ArrayList<>();
         if (node == null || !node.isArray()) return out;
@@ -493,6 +462,44 @@ public class GroqReviewSummaryService {
         return t;
     }
 
+    /**
+     * Result of {@link #prepareSummary}: the LOCAL (or cached) placeholder plus the inputs needed
+     * to finish the summary with an AI call.
+     */
+    public static final class PreparedSummary {
+        private final ReviewSummaryResponseDTO placeholder;
+        private final boolean complete;
+        private final Product product;
+        private final List<Review> usable;
+        private final String lang;
+        private final String cacheKey;
+
+        private PreparedSummary(ReviewSummaryResponseDTO placeholder, boolean complete, Product product, List<Review> usable, String lang, String cacheKey) {
+            this.placeholder = placeholder;
+            this.complete = complete;
+            this.product = product;
+            this.usable = usable;
+            this.lang = lang;
+            this.cacheKey = cacheKey;
+        }
+
+        public ReviewSummaryResponseDTO getPlaceholder() {
+            return placeholder;
+        }
+
+        public boolean isComplete() {
+            return complete;
+        }
+    }
+
+    private static final class StreamedFields {
+        private String takeaway;
+        private List<String> pros = List.of();
+        private List<String> cons = List.of();
+        private List<String> topTopics = List.of();
+        private boolean clientGone;
+    }
+
     private static final class CacheEntry {
         private final ReviewSummaryResponseDTO value;
         private final Instant createdAt;
@@ -3,41 +3,53 @@ package com.productreview.service;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.productreview.dto.TranslateResponseDTO;
+import com.productreview.llm.LlmClient;
+import com.productreview.llm.LlmRequest;
+import com.productreview.util.LanguageIdentifier;
+import com.productreview.util.SentenceSplitter;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.security.MessageDigest;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 @Service
 public class GroqTranslationService {
 
-    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
     private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(8);
     private static final Duration CACHE_TTL = Duration.ofMinutes(30);
 
     private static final int MAX_TEXTS = 30;
     private static final int MAX_TOTAL_CHARS = 10_000;
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
-    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(CONNECT_TIMEOUT).build();
+    private final LlmClient llmClient;
+    private final ObjectMapper objectMapper;
 
     private final Map<String, CacheEntry> cache = new ConcurrentHashMap<>();
 
+    private final LongAdder languageChecks = new LongAdder();
+    private final LongAdder languageSkips = new LongAdder();
+    private final LongAdder sentenceLookups = new LongAdder();
+    private final LongAdder sentenceHits = new LongAdder();
+    private final LongAdder upstreamChars = new LongAdder();
+
+    public GroqTranslationService(LlmClient llmClient, ObjectMapper objectMapper) {
+        this.llmClient = llmClient;
+        this.objectMapper = objectMapper;
+    }
+
     public TranslateResponseDTO translateBatch(List<String> texts, String lang) {
         String safeLang = normalizeLang(lang);
         List<String> safeTexts = normalizeTexts(texts);
@@ -51,107 +63,161 @@ public class GroqTranslationService {
             return new TranslateResponseDTO(safeLang, "LOCAL", safeTexts);
         }
 
-        String apiKey = System.getenv("GROQ_API_KEY");
-        if (apiKey == null || apiKey.trim().isEmpty()) {
+        if (!llmClient.isAvailable()) {
             return new TranslateResponseDTO(safeLang, "LOCAL", safeTexts);
         }
 
-        // Cache per text
+        // Each text is split into sentences and looked up per normalized sentence in the translation
+        // memory. Only texts with a sentence to send upstream go through the language identifier;
+        // those already written in the target language pass through untouched.
         List<String> out = new ArrayList<>(safeTexts.size());
-        List<Integer> missIdx = new ArrayList<>();
-        List<String> misses = new ArrayList<>();
-
-        for (int i = 0; i < safeTexts.size(); i++) {
-            String s = safeTexts.get(i);
-            String key = cacheKey(safeLang, s);
-            CacheEntry cached = cache.get(key);
-            if (cached != null && !cached.isExpired()) {
-                out.add(cached.value);
-            } else {
-                out.add(null);
-                missIdx.add(i);
-                misses.add(s);
+        List<List<SentenceSplitter.Sentence>> pending = new ArrayList<>(safeTexts.size());
+        Map<String, String> translatedByKey = new HashMap<>();
+        Map<String, String> missesByKey = new LinkedHashMap<>();
+        boolean anyTranslated = false;
+
+        for (String s : safeTexts) {
+            List<SentenceSplitter.Sentence> sentences = SentenceSplitter.split(s);
+            Map<String, String> textMisses = new LinkedHashMap<>();
+            boolean needsUpstream = false;
+            for (SentenceSplitter.Sentence sentence : sentences) {
+                String normalized = SentenceSplitter.normalize(sentence.text());
+                String key = cacheKey(safeLang, normalized);
+                if (translatedByKey.containsKey(key)) continue;
+                if (missesByKey.containsKey(key) || textMisses.containsKey(key)) {
+                    needsUpstream = true;
+                    continue;
+                }
+                sentenceLookups.increment();
+                CacheEntry cached = cache.get(key);
+                if (cached != null && !cached.isExpired()) {
+                    sentenceHits.increment();
+                    translatedByKey.put(key, cached.value);
+                } else {
+                    textMisses.put(key, normalized);
+                    needsUpstream = true;
+                }
+            }
+            if (needsUpstream && isAlreadyInLanguage(s, safeLang)) {
+                out.add(s);
+                pending.add(null);
+                continue;
             }
+            missesByKey.putAll(textMisses);
+            out.add(null);
+            pending.add(sentences);
         }
 
-        if (misses.isEmpty()) {
-            return new TranslateResponseDTO(safeLang, "AI", out);
-        }
+        if (!missesByKey.isEmpty()) {
+            List<String> misses = new ArrayList<>(missesByKey.values());
+            List<String> translatedMisses;
+            try {
+                translatedMisses = callGroqTranslate(misses, safeLang);
+            } catch (Exception e) {
+                translatedMisses = null;
+            }
 
-        List<String> translatedMisses;
-        try {
-            translatedMisses = callGroqTranslate(apiKey, misses, safeLang);
-        } catch (Exception e) {
-            // Fallback: fill misses with original
-            for (int k = 0; k < missIdx.size(); k++) {
-                out.set(missIdx.get(k), misses.get(k));
+            // Align lengths; on failure or mismatch the affected texts fall back to their originals.
+            if (translatedMisses != null && translatedMisses.size() == misses.size()) {
+                int k = 0;
+                for (String key : missesByKey.keySet()) {
+                    String translated = safeText(translatedMisses.get(k));
+                    if (translated == null) translated = misses.get(k);
+                    translatedByKey.put(key, translated);
+                    cache.put(key, new CacheEntry(translated));
+                    k++;
+                }
             }
-            return new TranslateResponseDTO(safeLang, "LOCAL", out);
         }
 
-        // Align lengths; if mismatch fallback to originals
-        if (translatedMisses == null || translatedMisses.size() != misses.size()) {
-            for (int k = 0; k < missIdx.size(); k++) {
-                out.set(missIdx.get(k), misses.get(k));
+        boolean anyFallback = false;
+        for (int i = 0; i < safeTexts.size(); i++) {
+            List<SentenceSplitter.Sentence> sentences = pending.get(i);
+            if (sentences == null) continue;
+            String assembled = assemble(sentences, safeLang, translatedByKey);
+            if (assembled == null) {
+                out.set(i, safeTexts.get(i));
+                anyFallback = true;
+            } else {
+                out.set(i, assembled);
+                anyTranslated = true;
             }
-            return new TranslateResponseDTO(safeLang, "LOCAL", out);
         }
 
-        for (int k = 0; k < missIdx.size(); k++) {
-            int idx = missIdx.get(k);
-            String translated = safeText(translatedMisses.get(k));
-            if (translated == null) translated = misses.get(k);
-            out.set(idx, translated);
-            cache.put(cacheKey(safeLang, misses.get(k)), new CacheEntry(translated));
+        return new TranslateResponseDTO(safeLang, anyTranslated && !anyFallback ? "AI" : "LOCAL", out);
+    }
+
+    /**
+     * Rebuilds a text from its translated sentences, keeping the original separators.
+     * Returns null if any sentence has no translation.
+     */
+    private String assemble(List<SentenceSplitter.Sentence> sentences, String lang, Map<String, String> translatedByKey) {
+        StringBuilder sb = new StringBuilder();
+        for (SentenceSplitter.Sentence sentence : sentences) {
+            String translated = translatedByKey.get(cacheKey(lang, SentenceSplitter.normalize(sentence.text())));
+            if (translated == null) return null;
+            sb.append(translated).append(sentence.separator());
         }
+        return sb.toString();
+    }
 
-        return new TranslateResponseDTO(safeLang, "AI", out);
+    public int getCacheSize() {
+        return cache.size();
     }
 
-    private List<String> callGroqTranslate(String apiKey, List<String> texts, String lang) throws Exception {
-        String model = System.getenv("GROQ_MODEL");
-        if (model == null || model.trim().isEmpty()) {
-            model = "llama-3.3-70b-versatile";
-        }
+    public long getSentenceLookups() {
+        return sentenceLookups.sum();
+    }
 
-        String prompt = buildPrompt(texts, lang);
+    public long getSentenceHits() {
+        return sentenceHits.sum();
+    }
 
-        Map<String, Object> req = new HashMap<>();
-        req.put("model", model);
-        req.put("temperature", 0.1);
-        req.put("messages", List.of(
-                Map.of(
-                        "role", "system",
-                        "content", "You translate text for an e-commerce app. Return STRICT JSON ONLY with key: translations (array of strings). Preserve brand/model terms. Do not add commentary. No markdown. Output language: " + lang + "."
-                ),
-                Map.of(
-                        "role", "user",
-                        "content", prompt
-                )
-        ));
+    /**
+     * Characters of sentence text sent upstream for translation.
+     */
+    public long getUpstreamChars() {
+        return upstreamChars.sum();
+    }
 
-        String body = objectMapper.writeValueAsString(req);
+    /**
+     * Number of texts with a sentence missing from the translation memory that were checked by
+     * the local language identifier.
+     */
+    public long getLanguageChecks() {
+        return languageChecks.sum();
+    }
 
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create("https://api.groq.com/openai/v1/chat/completions"))
-                .timeout(REQUEST_TIMEOUT)
-                .header("Content-Type", "application/json")
-                .header("Authorization", "Bearer " + apiKey)
-                .POST(HttpRequest.BodyPublishers.ofString(body))
-                .build();
+    /**
+     * Number of those texts that were already in the target language and skipped the upstream call.
+     */
+    public long getLanguageSkips() {
+        return languageSkips.sum();
+    }
 
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-        if (response.statusCode() < 200 || response.statusCode() >= 300) {
-            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Groq translate failed with status " + response.statusCode());
+    private boolean isAlreadyInLanguage(String text, String lang) {
+        if (text.isEmpty()) return false;
+        languageChecks.increment();
+        if (Objects.equals(LanguageIdentifier.detect(text), lang)) {
+            languageSkips.increment();
+            return true;
         }
+        return false;
+    }
 
-        JsonNode root = objectMapper.readTree(response.body());
-        JsonNode contentNode = root.path("choices").path(0).path("message").path("content");
-        if (contentNode.isMissingNode() || contentNode.asText().trim().isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Groq returned empty response");
+    private List<String> callGroqTranslate(List<String> texts, String lang) throws Exception {
+        for (String t : texts) {
+            upstreamChars.add(t.length());
         }
+        String prompt = buildPrompt(texts, lang);
+        String raw = llmClient.complete(new LlmRequest(
+                "translate",
+                "You translate text for an e-commerce app. Return STRICT JSON ONLY with key: translations (array of strings). Preserve brand/model terms. Do not add commentary. No markdown. Output language: " + lang + ".",
+                prompt,
+                0.1,
+                REQUEST_TIMEOUT
+        ));
 
-        String raw = contentNode.asText();
         String json = extractJsonObject(raw);
         JsonNode parsed = objectMapper.readTree(json);
         JsonNode arr = parsed.path("translations");
@@ -231,7 +297,7 @@ public class GroqTranslationService {
         return s.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", " ").replace("\r", " ");
     }
 
-    private String cacheKey(String lang, String text) {
+    String cacheKey(String lang, String text) {
         return lang + "|" + sha(text);
     }
 
@@ -0,0 +1,133 @@
+package com.productreview.service;
+
+import com.productreview.event.ProductChangedEvent;
+import com.productreview.event.ReviewChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Product and review ids recently looked up and not found, so repeated requests for them (stale
+ * clients, scrapers walking ids) are answered without a query. Entries expire after a few
+ * minutes and each kind holds at most {@value #MAX_ENTRIES}; when full, expired entries are
+ * dropped and new misses are not recorded until there is room.
+ * <p>
+ * An insert through JPA removes its id once committed. Each removal bumps a generation, and a
+ * miss is only recorded if no removal happened since its lookup started, so a lookup that raced
+ * with an insert cannot hide the new row.
+ */
+@Component
+public class MissingIdCache {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final Ids products = new Ids();
+    private final Ids reviews = new Ids();
+
+    public Ids products() {
+        return products;
+    }
+
+    public Ids reviews() {
+        return reviews;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!event.deleted() && event.productId() != null) {
+            products.remove(event.productId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        if (event.previousComment() == null && event.reviewId() != null) {
+            reviews.remove(event.reviewId());
+        }
+    }
+
+    public static final class Ids {
+
+        // id -> System.nanoTime() at which the entry expires
+        private final Map<Long, Long> expiresAt = new ConcurrentHashMap<>();
+        private final AtomicLong generation = new AtomicLong();
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        /**
+         * The entity with this id, looked up with {@code loader} unless it is known to be missing.
+         */
+        public <T> Optional<T> find(Long id, Supplier<Optional<T>> loader) {
+            if (contains(id)) {
+                return Optional.empty();
+            }
+            long lookupGeneration = generation.get();
+            Optional<T> found = loader.get();
+            if (found.isEmpty()) {
+                add(id, lookupGeneration);
+            }
+            return found;
+        }
+
+        public boolean contains(Long id) {
+            Long expiry = id == null ? null : expiresAt.get(id);
+            if (expiry != null && expiry - System.nanoTime() > 0) {
+                hits.increment();
+                return true;
+            }
+            misses.increment();
+            return false;
+        }
+
+        /**
+         * Value to pass to {@link #add} for a lookup starting now.
+         */
+        public long generation() {
+            return generation.get();
+        }
+
+        /**
+         * Records {@code id} as missing, unless an id was removed since {@code lookupGeneration}.
+         */
+        public void add(Long id, long lookupGeneration) {
+            if (id == null) {
+                return;
+            }
+            if (expiresAt.size() >= MAX_ENTRIES) {
+                long now = System.nanoTime();
+                expiresAt.values().removeIf(expiry -> expiry - now <= 0);
+            }
+            if (expiresAt.size() < MAX_ENTRIES && generation.get() == lookupGeneration) {
+                expiresAt.put(id, System.nanoTime() + TTL.toNanos());
+                if (generation.get() != lookupGeneration) {
+                    expiresAt.remove(id);
+                }
+            }
+        }
+
+        public void remove(Long id) {
+            generation.incrementAndGet();
+            expiresAt.remove(id);
+        }
+
+        public int size() {
+            return expiresAt.size();
+        }
+
+        public long getHits() {
+            return hits.sum();
+        }
+
+        public long getMisses() {
+            return misses.sum();
+        }
+    }
+}
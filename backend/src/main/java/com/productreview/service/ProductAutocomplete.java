@@ -0,0 +1,542 @@
+package com.productreview.service;
+
+import com.productreview.dto.ProductSuggestionDTO;
+import com.productreview.event.ProductChangedEvent;
+import com.productreview.util.ProductNameUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * Product name suggestions for the search box. Names are folded with
+ * {@link ProductNameUtil#foldForSearch} and every suffix that starts at a word is a key in a
+ * compressed (radix) trie, so "gal" suggests "Samsung Galaxy S24". Edge labels point into the
+ * folded names instead of holding their own characters. Nodes with more keys below them than
+ * {@link #MAX_SUGGESTIONS} keep their best products by review count, so a lookup is one walk down
+ * the trie; smaller subtrees are collected on the spot.
+ * <p>
+ * Loaded once the application is ready. A published index is never modified: a
+ * {@link ProductChangedEvent} that only changes a review count copies the nodes on the product's
+ * keys that keep a ranking, and the one chunk of review counts holding the product, and publishes
+ * the copy. Lookups see either the old index or the new one. A new, renamed or deleted product
+ * rebuilds the index on {@code autocompleteReloadExecutor}. A rebuild reads the table and builds
+ * the index without the lock; changes that arrive meanwhile are recorded and replayed onto the
+ * new index when it is published, so writers never wait for a rebuild. Lookups never block; until
+ * the first load they return no suggestions.
+ */
+@Component
+public class ProductAutocomplete {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductAutocomplete.class);
+
+    public static final int MAX_SUGGESTIONS = 20;
+    // Keys are cut after this many characters; longer queries are checked against the names.
+    private static final int MAX_KEY_LENGTH = 32;
+    private static final String SELECT_COLUMNS = "SELECT id, name, review_count FROM products";
+    // Review counts are stored in chunks so a count update copies one chunk, not the whole array.
+    private static final int CHUNK_BITS = 10;
+    private static final int CHUNK_MASK = (1 << CHUNK_BITS) - 1;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Executor reloadExecutor;
+
+    private volatile Index index;
+    // Changes that arrived while a load is running, replayed once it completes. Guarded by this.
+    private List<ProductChangedEvent> changedWhileLoading;
+
+    public ProductAutocomplete(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("autocompleteReloadExecutor") Executor reloadExecutor
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(10_000);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.reloadExecutor = reloadExecutor;
+    }
+
+    /**
+     * Runs after other ready listeners, so startup backfills are already in the table.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    /**
+     * Replaces the index with one built from the current table. Returns at once if a load is
+     * already running; that load picks up the changes that arrive while it runs.
+     */
+    public void reload() {
+        synchronized (this) {
+            if (changedWhileLoading != null) {
+                return;
+            }
+            changedWhileLoading = new ArrayList<>();
+        }
+
+        long start = System.currentTimeMillis();
+        Index loaded;
+        try {
+            loaded = readOnlyTransaction.execute(status -> {
+                List<Long> ids = new ArrayList<>();
+                List<String> names = new ArrayList<>();
+                List<Long> reviewCounts = new ArrayList<>();
+                jdbcTemplate.query(SELECT_COLUMNS + " ORDER BY id", rs -> {
+                    ids.add(rs.getLong("id"));
+                    names.add(rs.getString("name"));
+                    reviewCounts.add(rs.getLong("review_count"));
+                });
+                return new Index(ids.stream().mapToLong(Long::longValue).toArray(), names.toArray(String[]::new),
+                        reviewCounts.stream().mapToLong(Long::longValue).toArray());
+            });
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                // Keep the review counts that changed meanwhile on the old index.
+                for (ProductChangedEvent event : changedWhileLoading) {
+                    apply(event);
+                }
+                changedWhileLoading = null;
+            }
+            throw e;
+        }
+
+        boolean rebuild = false;
+        synchronized (this) {
+            index = loaded;
+            for (ProductChangedEvent event : changedWhileLoading) {
+                rebuild |= apply(event);
+            }
+            changedWhileLoading = null;
+        }
+        if (rebuild) {
+            reloadExecutor.execute(this::reload);
+        }
+        log.info("Indexed {} product names for autocomplete in {} ms", loaded.ids.length, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Builds the index from the given rows instead of the database, for tests and benchmarks.
+     */
+    synchronized void load(long[] ids, String[] names, long[] reviewCounts) {
+        index = new Index(ids, names, reviewCounts);
+    }
+
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.productId() == null) {
+            return;
+        }
+        synchronized (this) {
+            if (changedWhileLoading != null) {
+                changedWhileLoading.add(event);
+                return;
+            }
+            if (!apply(event)) {
+                return;
+            }
+        }
+        reloadExecutor.execute(this::reload);
+    }
+
+    /**
+     * Applies a review count change to the published index. Returns true when the change needs
+     * a rebuild instead. Called holding the lock.
+     */
+    private boolean apply(ProductChangedEvent event) {
+        Index current = index;
+        if (current == null) {
+            return false;
+        }
+        int slot = Arrays.binarySearch(current.ids, event.productId());
+        if (event.deleted()) {
+            return slot >= 0;
+        }
+        if (slot < 0 || !Objects.equals(event.name(), current.names[slot])) {
+            return true;
+        }
+        updateReviewCount(event.productId(), event.reviewCount() == null ? 0L : event.reviewCount());
+        return false;
+    }
+
+    /**
+     * Re-ranks an indexed product under a new review count.
+     */
+    synchronized void updateReviewCount(long productId, long reviewCount) {
+        Index current = index;
+        int slot = current == null ? -1 : Arrays.binarySearch(current.ids, productId);
+        if (slot >= 0 && current.count(slot) != reviewCount) {
+            index = current.withReviewCount(slot, reviewCount);
+        }
+    }
+
+    /**
+     * Up to {@code limit} products with a word starting with {@code query}, or with the query
+     * spanning several words from a word start, most reviewed first.
+     */
+    public List<ProductSuggestionDTO> suggest(String query, int limit) {
+        Index current = index;
+        String folded = ProductNameUtil.foldForSearch(query);
+        int max = Math.max(0, Math.min(limit, MAX_SUGGESTIONS));
+        if (current == null || folded.isEmpty() || max == 0) {
+            return List.of();
+        }
+        return current.suggest(folded, max);
+    }
+
+    /**
+     * A radix trie node. The edge into it is {@code folded[labelSlot]} from {@code labelStart}
+     * to {@code labelEnd}. Only changed while its index is being built or copied, before the
+     * index is published through {@link #index}.
+     */
+    private static final class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private int labelSlot;
+        private int labelStart;
+        private int labelEnd;
+        private Node[] children = NO_CHILDREN;
+        // Products whose key ends here: the first one inline, any others in moreEntries.
+        private int entry = -1;
+        private int[] moreEntries;
+        // Keys in this subtree.
+        private int size;
+        // Best products of the subtree, kept only when size > MAX_SUGGESTIONS.
+        private int[] top;
+
+        private Node(int labelSlot, int labelStart, int labelEnd) {
+            this.labelSlot = labelSlot;
+            this.labelStart = labelStart;
+            this.labelEnd = labelEnd;
+        }
+
+        private Node copy() {
+            Node copy = new Node(labelSlot, labelStart, labelEnd);
+            copy.children = children.clone();
+            copy.entry = entry;
+            copy.moreEntries = moreEntries;
+            copy.size = size;
+            copy.top = top;
+            return copy;
+        }
+
+        private void addEntry(int slot) {
+            if (entry < 0) {
+                entry = slot;
+            } else {
+                moreEntries = moreEntries == null ? new int[]{slot} : Arrays.copyOf(moreEntries, moreEntries.length + 1);
+                moreEntries[moreEntries.length - 1] = slot;
+            }
+        }
+    }
+
+    private static final class Index {
+        private final long[] ids;
+        private final String[] names;
+        private final String[] folded;
+        private final long[][] reviewCounts;
+        private Node root = new Node(0, 0, 0);
+
+        private Index(long[] ids, String[] names, long[] reviewCounts) {
+            this.ids = ids;
+            this.names = names;
+            this.reviewCounts = new long[(reviewCounts.length + CHUNK_MASK) >>> CHUNK_BITS][];
+            for (int chunk = 0; chunk < this.reviewCounts.length; chunk++) {
+                int from = chunk << CHUNK_BITS;
+                this.reviewCounts[chunk] = Arrays.copyOfRange(reviewCounts, from, Math.min(reviewCounts.length, from + CHUNK_MASK + 1));
+            }
+            this.folded = new String[names.length];
+            for (int slot = 0; slot < names.length; slot++) {
+                folded[slot] = ProductNameUtil.foldForSearch(names[slot]).stripTrailing();
+                String name = folded[slot];
+                for (int start = 0; start < name.length(); start++) {
+                    if (start == 0 || name.charAt(start - 1) == ' ') {
+                        insert(slot, start);
+                    }
+                }
+            }
+            computeTop(root);
+        }
+
+        private Index(Index base, long[][] reviewCounts) {
+            this.ids = base.ids;
+            this.names = base.names;
+            this.folded = base.folded;
+            this.reviewCounts = reviewCounts;
+            this.root = base.root;
+        }
+
+        private long count(int slot) {
+            return reviewCounts[slot >>> CHUNK_BITS][slot & CHUNK_MASK];
+        }
+
+        private void insert(int slot, int start) {
+            String key = folded[slot];
+            int end = Math.min(key.length(), start + MAX_KEY_LENGTH);
+            Node node = root;
+            node.size++;
+            int i = start;
+            while (i < end) {
+                int childIndex = childIndex(node, key.charAt(i));
+                if (childIndex < 0) {
+                    Node leaf = new Node(slot, i, end);
+                    leaf.addEntry(slot);
+                    leaf.size = 1;
+                    int at = -childIndex - 1;
+                    Node[] children = new Node[node.children.length + 1];
+                    System.arraycopy(node.children, 0, children, 0, at);
+                    children[at] = leaf;
+                    System.arraycopy(node.children, at, children, at + 1, node.children.length - at);
+                    node.children = children;
+                    return;
+                }
+                Node child = node.children[childIndex];
+                String label = folded[child.labelSlot];
+                int labelLength = child.labelEnd - child.labelStart;
+                int common = 1;
+                while (common < labelLength && i + common < end
+                        && label.charAt(child.labelStart + common) == key.charAt(i + common)) {
+                    common++;
+                }
+                if (common < labelLength) {
+                    Node split = new Node(child.labelSlot, child.labelStart, child.labelStart + common);
+                    split.size = child.size;
+                    split.children = new Node[]{child};
+                    child.labelStart += common;
+                    node.children[childIndex] = split;
+                    child = split;
+                }
+                child.size++;
+                i += common;
+                node = child;
+            }
+            node.addEntry(slot);
+        }
+
+        private int childIndex(Node node, char c) {
+            int low = 0;
+            int high = node.children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                Node child = node.children[mid];
+                char first = folded[child.labelSlot].charAt(child.labelStart);
+                if (first < c) {
+                    low = mid + 1;
+                } else if (first > c) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        /**
+         * The node at or just below {@code key}, or null when no key starts with it.
+         */
+        private Node find(String key) {
+            Node node = root;
+            int i = 0;
+            while (i < key.length()) {
+                int childIndex = childIndex(node, key.charAt(i));
+                if (childIndex < 0) {
+                    return null;
+                }
+                Node child = node.children[childIndex];
+                String label = folded[child.labelSlot];
+                int labelLength = child.labelEnd - child.labelStart;
+                for (int k = 1; k < labelLength && i + k < key.length(); k++) {
+                    if (label.charAt(child.labelStart + k) != key.charAt(i + k)) {
+                        return null;
+                    }
+                }
+                i += labelLength;
+                node = child;
+            }
+            return node;
+        }
+
+        private int[] computeTop(Node node) {
+            Best best = new Best();
+            addEntries(best, node);
+            for (Node child : node.children) {
+                best.addAll(computeTop(child));
+            }
+            int[] result = best.toArray();
+            node.top = node.size > MAX_SUGGESTIONS ? result : null;
+            return result;
+        }
+
+        private int[] best(Node node) {
+            int[] top = node.top;
+            if (top != null) {
+                return top;
+            }
+            Best best = new Best();
+            collect(best, node, null);
+            return best.toArray();
+        }
+
+        private void collect(Best best, Node node, String mustContain) {
+            addEntries(best, node, mustContain);
+            for (Node child : node.children) {
+                collect(best, child, mustContain);
+            }
+        }
+
+        private void addEntries(Best best, Node node) {
+            addEntries(best, node, null);
+        }
+
+        private void addEntries(Best best, Node node, String query) {
+            if (node.entry >= 0 && (query == null || matchesAtWordStart(node.entry, query))) {
+                best.add(node.entry);
+            }
+            if (node.moreEntries != null) {
+                for (int slot : node.moreEntries) {
+                    if (query == null || matchesAtWordStart(slot, query)) {
+                        best.add(slot);
+                    }
+                }
+            }
+        }
+
+        private boolean matchesAtWordStart(int slot, String query) {
+            String name = folded[slot];
+            return name.startsWith(query) || name.contains(" " + query);
+        }
+
+        private List<ProductSuggestionDTO> suggest(String query, int limit) {
+            boolean truncated = query.length() > MAX_KEY_LENGTH;
+            Node node = find(truncated ? query.substring(0, MAX_KEY_LENGTH) : query);
+            if (node == null) {
+                return List.of();
+            }
+            int[] slots;
+            if (truncated) {
+                Best best = new Best();
+                collect(best, node, query);
+                slots = best.toArray();
+            } else {
+                slots = best(node);
+            }
+            List<ProductSuggestionDTO> suggestions = new ArrayList<>(Math.min(limit, slots.length));
+            for (int k = 0; k < slots.length && suggestions.size() < limit; k++) {
+                int slot = slots[k];
+                suggestions.add(new ProductSuggestionDTO(ids[slot], names[slot], count(slot)));
+            }
+            return suggestions;
+        }
+
+        /**
+         * A copy of this index with the product's review count changed. The nodes on the
+         * product's keys that keep a ranking are copied and re-ranked, deepest first, together
+         * with their ancestors; everything else is shared.
+         */
+        private Index withReviewCount(int slot, long reviewCount) {
+            long[][] counts = reviewCounts.clone();
+            int chunk = slot >>> CHUNK_BITS;
+            counts[chunk] = counts[chunk].clone();
+            counts[chunk][slot & CHUNK_MASK] = reviewCount;
+            Index updated = new Index(this, counts);
+
+            String name = folded[slot];
+            for (int start = 0; start < name.length(); start++) {
+                if (start == 0 || name.charAt(start - 1) == ' ') {
+                    String key = name.substring(start, Math.min(name.length(), start + MAX_KEY_LENGTH));
+                    updated.root = updated.reRank(updated.root, key, 0);
+                }
+            }
+            return updated;
+        }
+
+        /**
+         * {@code node} with the nodes on the path of {@code key} from position {@code i}
+         * re-ranked. A node without a ranking has none below it either, so it is returned as is.
+         */
+        private Node reRank(Node node, String key, int i) {
+            if (node.top == null) {
+                return node;
+            }
+            Node copy = node.copy();
+            if (i < key.length()) {
+                int childIndex = childIndex(node, key.charAt(i));
+                Node child = node.children[childIndex];
+                copy.children[childIndex] = reRank(child, key, i + child.labelEnd - child.labelStart);
+            }
+            Best best = new Best();
+            addEntries(best, copy);
+            for (Node child : copy.children) {
+                best.addAll(best(child));
+            }
+            copy.top = best.toArray();
+            return copy;
+        }
+
+        /**
+         * The best distinct products seen so far, most reviewed first, then by id.
+         */
+        private final class Best {
+            private final int[] slots = new int[MAX_SUGGESTIONS];
+            private int count;
+
+            private void addAll(int[] candidates) {
+                for (int slot : candidates) {
+                    add(slot);
+                }
+            }
+
+            private void add(int slot) {
+                for (int k = 0; k < count; k++) {
+                    if (slots[k] == slot) {
+                        return;
+                    }
+                }
+                if (count == MAX_SUGGESTIONS) {
+                    if (!ranksBefore(slot, slots[count - 1])) {
+                        return;
+                    }
+                    count--;
+                }
+                int position = count;
+                while (position > 0 && ranksBefore(slot, slots[position - 1])) {
+                    slots[position] = slots[position - 1];
+                    position--;
+                }
+                slots[position] = slot;
+                count++;
+            }
+
+            private boolean ranksBefore(int a, int b) {
+                long countA = count(a);
+                long countB = count(b);
+                return countA != countB ? countA > countB : ids[a] < ids[b];
+            }
+
+            private int[] toArray() {
+                return Arrays.copyOf(slots, count);
+            }
+        }
+    }
+}
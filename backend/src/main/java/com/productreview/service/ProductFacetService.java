@@ -0,0 +1,78 @@
+package com.productreview.service;
+
+import com.productreview.dto.ProductFacetsDTO;
+import com.productreview.spec.ProductSpecifications;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Facet counts for the product listing. Without a search term they are counted from
+ * {@link ProductReadModel} in one pass over its columns when it is loaded; otherwise one grouped
+ * query over the products matching the search fills the same {@link FacetCube}, matching them
+ * the way the listing does ({@link ProductFullTextSearch} when it is ready).
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductFacetService {
+
+    private final ProductReadModel productReadModel;
+    private final ProductFullTextSearch productFullTextSearch;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductFacetsDTO getFacets(String category, String search, Integer minRating, BigDecimal minPrice, BigDecimal maxPrice) {
+        List<String> terms = ProductSpecifications.searchTerms(search);
+        FacetCube cube = new FacetCube();
+        if (!terms.isEmpty() || !productReadModel.fillFacets(cube, minPrice, maxPrice)) {
+            queryFacets(cube, terms, minPrice, maxPrice);
+        }
+        return cube.toFacets(category, minRating);
+    }
+
+    private void queryFacets(FacetCube cube, List<String> terms, BigDecimal minPrice, BigDecimal maxPrice) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder band = new StringBuilder("CASE");
+        for (int b = FacetCube.BANDS - 1; b > 0; b--) {
+            band.append(" WHEN price >= ").append(BigDecimal.valueOf(FacetCube.BAND_LOWER_CENTS[b], 2).toPlainString())
+                    .append(" THEN ").append(b);
+        }
+        band.append(" ELSE 0 END");
+
+        List<String> priceConditions = new ArrayList<>();
+        if (minPrice != null) {
+            priceConditions.add("price >= ?");
+            args.add(minPrice);
+        }
+        if (maxPrice != null) {
+            priceConditions.add("price <= ?");
+            args.add(maxPrice);
+        }
+        String inPriceRange = priceConditions.isEmpty() ? "1" : "CASE WHEN " + String.join(" AND ", priceConditions) + " THEN 1 ELSE 0 END";
+
+        StringBuilder where = new StringBuilder();
+        if (!terms.isEmpty() && productFullTextSearch.isReady()) {
+            where.append(" WHERE (");
+            args.addAll(productFullTextSearch.appendMatch(where, String.join(" ", terms)));
+            where.append(")");
+            terms = List.of();
+        }
+        for (String term : terms) {
+            where.append(where.isEmpty() ? " WHERE " : " AND ").append("(LOWER(name) LIKE ? OR LOWER(description) LIKE ?)");
+            args.add("%" + term + "%");
+            args.add("%" + term + "%");
+        }
+
+        String sql = "SELECT category, band, stars, COUNT(*) AS total, SUM(in_price_range) AS in_price_range FROM ("
+                + "SELECT category, " + band + " AS band, FLOOR(COALESCE(average_rating, 0)) AS stars, "
+                + inPriceRange + " AS in_price_range FROM products" + where
+                + ") t GROUP BY category, band, stars";
+        jdbcTemplate.query(sql, rs -> {
+            cube.add(rs.getString("category"), rs.getInt("band"), FacetCube.stars(rs.getDouble("stars")),
+                    rs.getLong("total"), rs.getLong("in_price_range"));
+        }, args.toArray());
+    }
+}
@@ -0,0 +1,304 @@
+package com.productreview.service;
+
+import com.productreview.entity.Product;
+import com.productreview.repository.ProductRepository;
+import com.productreview.spec.ProductSpecifications;
+import com.productreview.util.ProductNameUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL search for the product listing, used instead of the {@code LIKE '%term%'}
+ * Specification when {@code catalog.search.mode=fulltext} (the postgres profile's default).
+ * <p>
+ * At startup it adds a {@code search_vector} column to {@code products} (name weighted A,
+ * description B, {@code simple} configuration since the catalog mixes Turkish and English) with a
+ * GIN index, and a {@code pg_trgm} index on {@code LOWER(name)}. A product matches when
+ * every search word is a prefix of one of its words, or when the search is close to a run of
+ * words in its name ({@code <%}), which catches typos. Matches are ranked in three tiers (all
+ * words in the name, all words in name or description, name similar only) and the requested
+ * sort orders products within a tier, so "price low to high" still means that.
+ * <p>
+ * The setup blocks reads and writes of {@code products} for an instant at most: the column
+ * is added without a default and kept by a trigger, existing rows are filled in batches of
+ * {@value #BACKFILL_BATCH} ids, and the indexes are built {@code CONCURRENTLY} outside a
+ * transaction (an invalid index left by an interrupted build is dropped and rebuilt). Instances
+ * take turns through an advisory lock, so the one that comes second finds everything in place.
+ * Until the setup is done, and if it cannot be done (another database, or no permission to
+ * create the extension), searches keep using the Specification.
+ */
+@Component
+public class ProductFullTextSearch {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductFullTextSearch.class);
+
+    private static final int BACKFILL_BATCH = 5_000;
+    // "products" in ASCII, the advisory lock key for the setup
+    private static final long SCHEMA_LOCK = 0x70726f6475637473L;
+    private static final String SEARCH_VECTOR = "setweight(to_tsvector('simple', COALESCE(%1$sname, '')), 'A') || "
+            + "setweight(to_tsvector('simple', COALESCE(%1$sdescription, '')), 'B')";
+
+    // Each holds its lock for an instant; run with a lock timeout so they do not queue up writes
+    // behind a long transaction on products
+    private static final List<String> COLUMN = List.of(
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "ALTER TABLE products ADD COLUMN IF NOT EXISTS search_vector tsvector",
+            "CREATE OR REPLACE FUNCTION products_search_vector() RETURNS trigger AS $$ BEGIN "
+                    + "NEW.search_vector := " + SEARCH_VECTOR.formatted("NEW.") + "; RETURN NEW; END $$ LANGUAGE plpgsql",
+            "DO $$ BEGIN IF NOT EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = 'products_search_vector') THEN "
+                    + "CREATE TRIGGER products_search_vector BEFORE INSERT OR UPDATE OF name, description ON products "
+                    + "FOR EACH ROW EXECUTE FUNCTION products_search_vector(); END IF; END $$");
+
+    private static final Map<String, String> INDEXES = Map.of(
+            "idx_products_search_vector", "USING GIN (search_vector)",
+            "idx_products_name_trgm", "USING GIN (LOWER(name) gin_trgm_ops)");
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "reviewCount", "review_count",
+            "averageRating", "average_rating",
+            "price", "price",
+            "createdAt", "created_at",
+            "name", "name",
+            "id", "id");
+
+    private final boolean enabled;
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductRepository productRepository;
+    private volatile boolean ready;
+
+    public ProductFullTextSearch(
+            @Value("${catalog.search.mode:like}") String mode,
+            JdbcTemplate jdbcTemplate,
+            ProductRepository productRepository
+    ) {
+        this.enabled = "fulltext".equalsIgnoreCase(mode);
+        this.jdbcTemplate = jdbcTemplate;
+        this.productRepository = productRepository;
+    }
+
+    /**
+     * Whether searches go through this class; false until the schema is in place.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createSchema() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            // One connection in auto-commit mode: CREATE INDEX CONCURRENTLY cannot run in a transaction,
+            // and the advisory lock belongs to the session.
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SELECT pg_advisory_lock(" + SCHEMA_LOCK + ")");
+                    try {
+                        statement.execute("SET lock_timeout = '5s'");
+                        for (String sql : COLUMN) {
+                            statement.execute(sql);
+                        }
+                        statement.execute("RESET lock_timeout");
+                        backfill(statement);
+                        for (Map.Entry<String, String> index : INDEXES.entrySet()) {
+                            createIndex(statement, index.getKey(), index.getValue());
+                        }
+                    } finally {
+                        statement.execute("RESET lock_timeout");
+                        statement.execute("SELECT pg_advisory_unlock(" + SCHEMA_LOCK + ")");
+                    }
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Full-text search unavailable, searching with LIKE instead: {}", e.getMessage());
+            return;
+        }
+        ready = true;
+        log.info("Full-text search ready in {} ms", System.currentTimeMillis() - start);
+    }
+
+    // Rows written since the trigger exists already have a vector; each batch locks only its own rows.
+    private static void backfill(Statement statement) throws SQLException {
+        long maxId;
+        try (ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM products")) {
+            rs.next();
+            maxId = rs.getLong(1);
+        }
+        long filled = 0;
+        for (long from = 0; from < maxId; from += BACKFILL_BATCH) {
+            filled += statement.executeUpdate("UPDATE products SET search_vector = " + SEARCH_VECTOR.formatted("")
+                    + " WHERE id > " + from + " AND id <= " + (from + BACKFILL_BATCH) + " AND search_vector IS NULL");
+        }
+        if (filled > 0) {
+            log.info("Filled search_vector for {} products", filled);
+        }
+    }
+
+    private static void createIndex(Statement statement, String name, String definition) throws SQLException {
+        try (ResultSet rs = statement.executeQuery("SELECT i.indisvalid FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid "
+                + "WHERE c.relname = '" + name + "'")) {
+            if (rs.next()) {
+                if (rs.getBoolean(1)) {
+                    return;
+                }
+                statement.execute("DROP INDEX CONCURRENTLY IF EXISTS " + name);
+            }
+        }
+        statement.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + name + " ON products " + definition);
+    }
+
+    /**
+     * A listing page of products matching {@code search} and the filters, as
+     * {@link ProductService#getAllProducts} would return it.
+     */
+    public Page<Product> search(Pageable pageable, String category, String search, Integer minRating,
+                                BigDecimal minPrice, BigDecimal maxPrice) {
+        List<Object> args = new ArrayList<>();
+        String tsQuery = toTsQuery(ProductSpecifications.searchTerms(search), false);
+        String nameTsQuery = toTsQuery(ProductSpecifications.searchTerms(search), true);
+        String similarTo = ProductNameUtil.foldForSearch(search).trim();
+
+        StringBuilder sql = new StringBuilder("SELECT id, COUNT(*) OVER () AS total, ");
+        if (tsQuery.isEmpty()) {
+            sql.append("0 AS tier");
+        } else {
+            sql.append("CASE WHEN search_vector @@ to_tsquery('simple', ?) THEN 2 ")
+                    .append("WHEN search_vector @@ to_tsquery('simple', ?) THEN 1 ELSE 0 END AS tier");
+            args.add(nameTsQuery);
+            args.add(tsQuery);
+        }
+        sql.append(" FROM products WHERE (");
+        args.addAll(appendMatch(sql, tsQuery, similarTo));
+        sql.append(")");
+        appendFilters(sql, args, category, minRating, minPrice, maxPrice);
+        sql.append(" ORDER BY tier DESC");
+        for (Sort.Order order : pageable.getSort()) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column != null) {
+                sql.append(", ").append(column).append(order.isAscending() ? " ASC" : " DESC").append(" NULLS LAST");
+            }
+        }
+        sql.append(", id LIMIT ? OFFSET ?");
+        args.add(pageable.getPageSize());
+        args.add(pageable.getOffset());
+
+        List<Long> ids = new ArrayList<>();
+        long[] total = {0};
+        jdbcTemplate.query(sql.toString(), rs -> {
+            ids.add(rs.getLong("id"));
+            total[0] = rs.getLong("total");
+        }, args.toArray());
+
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, pageable.getOffset() == 0 ? 0 : count(tsQuery, similarTo, category,
+                    minRating, minPrice, maxPrice));
+        }
+        // One IN query by primary key; the page order comes from the ranked query.
+        Map<Long, Product> byId = productRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<Product> content = ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+        return new PageImpl<>(content, pageable, total[0]);
+    }
+
+    /**
+     * The search condition alone, for callers adding their own filters: appends it to
+     * {@code where} and returns its arguments.
+     */
+    public List<Object> appendMatch(StringBuilder where, String search) {
+        return appendMatch(where, toTsQuery(ProductSpecifications.searchTerms(search), false),
+                ProductNameUtil.foldForSearch(search).trim());
+    }
+
+    private static List<Object> appendMatch(StringBuilder where, String tsQuery, String similarTo) {
+        List<Object> args = new ArrayList<>();
+        if (!tsQuery.isEmpty()) {
+            where.append("search_vector @@ to_tsquery('simple', ?) OR ");
+            args.add(tsQuery);
+        }
+        where.append("? <% LOWER(name)");
+        args.add(similarTo);
+        return args;
+    }
+
+    private static void appendFilters(StringBuilder sql, List<Object> args, String category, Integer minRating,
+                                      BigDecimal minPrice, BigDecimal maxPrice) {
+        if (category != null && !category.isEmpty()) {
+            sql.append(" AND category = ?");
+            args.add(category);
+        }
+        if (minRating != null) {
+            sql.append(" AND COALESCE(average_rating, 0) >= ?");
+            args.add(minRating.doubleValue());
+        }
+        if (minPrice != null) {
+            sql.append(" AND price >= ?");
+            args.add(minPrice);
+        }
+        if (maxPrice != null) {
+            sql.append(" AND price <= ?");
+            args.add(maxPrice);
+        }
+    }
+
+    // Past the last page the window count has no row to ride on.
+    private long count(String tsQuery, String similarTo, String category, Integer minRating,
+                       BigDecimal minPrice, BigDecimal maxPrice) {
+        StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM products WHERE (");
+        List<Object> args = appendMatch(sql, tsQuery, similarTo);
+        sql.append(")");
+        appendFilters(sql, args, category, minRating, minPrice, maxPrice);
+        Long count = jdbcTemplate.queryForObject(sql.toString(), Long.class, args.toArray());
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * A {@code to_tsquery} string requiring every term as a word prefix, e.g. {@code çay set} becomes
+     * {@code (çay:* | cay:*) & set:*}. Terms are split on anything but letters and digits, as the
+     * {@code simple} parser does, so no tsquery syntax gets through. Product names are stored
+     * without Turkish characters, so each word also matches in its folded form. With
+     * {@code nameOnly} every word must be in the name (weight A). Empty when no words remain.
+     */
+    static String toTsQuery(List<String> terms, boolean nameOnly) {
+        String suffix = nameOnly ? ":*A" : ":*";
+        List<String> words = new ArrayList<>();
+        for (String term : terms) {
+            for (String word : term.split("[^\\p{L}\\p{N}]+")) {
+                if (word.isEmpty()) {
+                    continue;
+                }
+                Set<String> forms = new LinkedHashSet<>();
+                forms.add(word + suffix);
+                forms.add(ProductNameUtil.foldForSearch(word).trim() + suffix);
+                words.add(forms.size() == 1 ? forms.iterator().next() : "(" + String.join(" | ", forms) + ")");
+            }
+        }
+        return String.join(" & ", words);
+    }
+}
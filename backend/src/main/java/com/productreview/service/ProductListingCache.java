@@ -0,0 +1,149 @@
+package com.productreview.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.productreview.dto.ProductDTO;
+import com.productreview.event.ProductAggregatesChangedEvent;
+import com.productreview.event.ProductListingsChangedEvent;
+import com.productreview.spec.ProductSortKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Serialized JSON of product listing pages whose only filter is the category, so a hit is
+ * written straight to the response without touching the database or Jackson.
+ * <p>
+ * A {@link ProductAggregatesChangedEvent} drops the pages that can change with it: pages that
+ * contain the product (their averageRating/reviewCount are stale), and pages sorted by an
+ * aggregate for the product's category or for all categories (their order may be stale).
+ * With {@link ProductReadModel} enabled, pages are answered from it, so they are dropped on its
+ * {@link ProductListingsChangedEvent} instead: the aggregates event commits before the model has
+ * the new row, and a page loaded in between would be kept.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductListingCache {
+
+    private static final Duration CACHE_TTL = Duration.ofMinutes(10);
+    private static final int MAX_ENTRIES = 1_000;
+
+    private final ObjectMapper objectMapper;
+    private final ProductReadModel productReadModel;
+
+    private final Map<Key, CacheEntry> cache = new ConcurrentHashMap<>();
+    // Bumped on every invalidation so a page loaded before a commit is not stored after it.
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+
+    /**
+     * Normalized listing parameters; {@code category} is null for all categories.
+     */
+    public record Key(String category, ProductSortKey sortKey, Sort.Direction direction, int page, int size) {
+
+        public static Key of(String category, ProductSortKey sortKey, Sort.Direction direction, int page, int size) {
+            return new Key(category == null || category.isEmpty() ? null : category, sortKey, direction, page, size);
+        }
+    }
+
+    public byte[] get(Key key, Supplier<Page<ProductDTO>> loader) {
+        CacheEntry cached = cache.get(key);
+        if (cached != null && !cached.isExpired()) {
+            cacheHits.increment();
+            return cached.json;
+        }
+
+        cacheMisses.increment();
+        long loadedAt = generation.get();
+        Page<ProductDTO> page = loader.get();
+        byte[] json = serialize(page);
+
+        if (cache.size() >= MAX_ENTRIES) {
+            cache.values().removeIf(CacheEntry::isExpired);
+        }
+        if (cache.size() < MAX_ENTRIES) {
+            Set<Long> productIds = page.getContent().stream().map(ProductDTO::getId).collect(Collectors.toUnmodifiableSet());
+            CacheEntry entry = new CacheEntry(json, productIds);
+            cache.put(key, entry);
+            if (generation.get() != loadedAt) {
+                cache.remove(key, entry);
+            }
+        }
+        return json;
+    }
+
+    public byte[] serialize(Page<ProductDTO> page) {
+        try {
+            return objectMapper.writeValueAsBytes(page);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize product listing", e);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onAggregatesChanged(ProductAggregatesChangedEvent event) {
+        if (!productReadModel.isEnabled()) {
+            invalidate(event.productId(), event.category());
+        }
+    }
+
+    @EventListener
+    public void onListingsChanged(ProductListingsChangedEvent event) {
+        if (event.productId() == null) {
+            generation.incrementAndGet();
+            cache.clear();
+        } else {
+            invalidate(event.productId(), event.category());
+        }
+    }
+
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    private void invalidate(Long productId, String category) {
+        generation.incrementAndGet();
+        cache.entrySet().removeIf(e -> e.getValue().productIds.contains(productId)
+                || (e.getKey().sortKey().isAggregateSort()
+                && (e.getKey().category() == null || Objects.equals(e.getKey().category(), category))));
+    }
+
+    private static final class CacheEntry {
+        private final byte[] json;
+        private final Set<Long> productIds;
+        private final Instant createdAt;
+
+        private CacheEntry(byte[] json, Set<Long> productIds) {
+            this.json = json;
+            this.productIds = productIds;
+            this.createdAt = Instant.now();
+        }
+
+        private boolean isExpired() {
+            return Instant.now().isAfter(createdAt.plus(CACHE_TTL));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.productreview.service;
+
+import com.productreview.dto.ProductBatchDTO;
+import com.productreview.dto.ProductDTO;
+import com.productreview.dto.ProductPageDTO;
+import com.productreview.dto.ReviewDTO;
+import com.productreview.dto.ReviewSummaryResponseDTO;
+import com.productreview.exception.ProductNotFoundException;
+import com.productreview.repository.ReviewHelpfulVoteRepository;
+import com.productreview.spec.ReviewSortKey;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * The product screen in one request: product card, first review page, review summary and the
+ * device's helpful votes are fetched concurrently on {@code productPageExecutor}. Every part gets
+ * the same budget ({@code product-page.part-timeout}) counted from the start of the request; a
+ * part that has not finished by then, or failed, is left out and named in
+ * {@link ProductPageDTO#getPartial()}. A late part keeps running and its result is dropped.
+ * <p>
+ * The summary is only what can be answered without the LLM: a cached AI summary, or the LOCAL
+ * one. The streaming endpoint remains the way to generate a new AI summary. Ids in
+ * {@link MissingIdCache} are answered with 404 before any part starts.
+ */
+@Service
+public class ProductPageService {
+
+    private final ProductService productService;
+    private final ReviewService reviewService;
+    private final GroqReviewSummaryService groqReviewSummaryService;
+    private final ReviewHelpfulVoteRepository reviewHelpfulVoteRepository;
+    private final MissingIdCache missingIdCache;
+    private final Executor executor;
+    private final Duration partTimeout;
+    private final MeterRegistry meterRegistry;
+
+    public ProductPageService(
+            ProductService productService,
+            ReviewService reviewService,
+            GroqReviewSummaryService groqReviewSummaryService,
+            ReviewHelpfulVoteRepository reviewHelpfulVoteRepository,
+            MissingIdCache missingIdCache,
+            @Qualifier("productPageExecutor") Executor executor,
+            @Value("${product-page.part-timeout:300ms}") Duration partTimeout,
+            MeterRegistry meterRegistry
+    ) {
+        this.productService = productService;
+        this.reviewService = reviewService;
+        this.groqReviewSummaryService = groqReviewSummaryService;
+        this.reviewHelpfulVoteRepository = reviewHelpfulVoteRepository;
+        this.missingIdCache = missingIdCache;
+        this.executor = executor;
+        this.partTimeout = partTimeout;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public ProductPageDTO getProductPage(Long productId, String deviceId, int reviewSize, String reviewSortBy, String lang) {
+        if (missingIdCache.products().contains(productId)) {
+            throw new ProductNotFoundException(productId);
+        }
+        long deadline = System.nanoTime() + partTimeout.toNanos();
+        PageRequest reviewPage = PageRequest.of(0, Math.max(1, Math.min(100, reviewSize)),
+                ReviewSortKey.from(reviewSortBy).toSort(Sort.Direction.DESC));
+        boolean hasDevice = deviceId != null && !deviceId.isBlank();
+
+        CompletableFuture<ProductBatchDTO> product = start(() -> productService.getProductsByIds(List.of(productId)));
+        CompletableFuture<Page<ReviewDTO>> reviews = start(() -> reviewService.getReviewsByProductId(productId, reviewPage, null));
+        CompletableFuture<ReviewSummaryResponseDTO> summary = start(() ->
+                groqReviewSummaryService.prepareSummary(productId, 30, lang).getPlaceholder());
+        CompletableFuture<List<Long>> helpfulReviewIds = hasDevice
+                ? start(() -> reviewHelpfulVoteRepository.findReviewIdsByProductIdAndDeviceId(productId, deviceId))
+                : CompletableFuture.completedFuture(List.of());
+
+        List<String> partial = new ArrayList<>();
+        ProductBatchDTO found = await("product", product, deadline, partial);
+        if (found != null && found.getProducts().isEmpty()) {
+            throw new ProductNotFoundException(productId);
+        }
+        ProductDTO productDto = found == null ? null : found.getProducts().get(0);
+        return new ProductPageDTO(
+                productDto,
+                await("reviews", reviews, deadline, partial),
+                await("summary", summary, deadline, partial),
+                await("helpfulReviewIds", helpfulReviewIds, deadline, partial),
+                partial);
+    }
+
+    private <T> CompletableFuture<T> start(Supplier<T> part) {
+        try {
+            return CompletableFuture.supplyAsync(part, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <T> T await(String name, CompletableFuture<T> part, long deadline, List<String> partial) {
+        String outcome;
+        try {
+            return part.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            outcome = "timeout";
+        } catch (ExecutionException e) {
+            outcome = "error";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = "interrupted";
+        }
+        partial.add(name);
+        meterRegistry.counter("product.page.partial", "part", name, "outcome", outcome).increment();
+        return null;
+    }
+}
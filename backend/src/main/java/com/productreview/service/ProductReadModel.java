@@ -0,0 +1,681 @@
+package com.productreview.service;
+
+import com.productreview.dto.ProductDTO;
+import com.productreview.event.ProductChangedEvent;
+import com.productreview.event.ProductListingsChangedEvent;
+import com.productreview.spec.ProductSortKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Optional in-memory copy of the products table for listing pages, enabled with
+ * {@code catalog.read-model.enabled=true}. Rows are held column by column in primitive arrays
+ * (ids, price in cents, average rating, review count, creation time, category code) next to the
+ * strings needed to render a {@link ProductDTO}, and every {@link ProductSortKey} has a row
+ * permutation in ascending order. A descending page walks the same permutation backwards, since
+ * every sort column, {@code id} included, uses the requested direction.
+ * <p>
+ * The table is loaded once the application is ready. After that each {@link ProductChangedEvent}
+ * reads the one row and moves it within the permutations its values affect. The row is read
+ * before the write lock is taken, so listing reads only wait for the in-memory update; a read
+ * that started before a later one for the same product is not applied over it. A row that was
+ * deleted, or a new row whose id is not the highest, triggers a full reload on
+ * {@code catalogReloadExecutor}. Until the first load completes {@link #find} returns null and
+ * callers query the database. Like the other in-process caches, this assumes writes go through
+ * this instance.
+ * <p>
+ * A {@link ProductListingsChangedEvent} is published once a change is visible to {@link #find},
+ * so caches of listing pages are dropped after the model has the new row, not before.
+ * <p>
+ * Names sort by {@link String#compareTo}, which matches H2 and PostgreSQL's "C" collation.
+ */
+@Component
+public class ProductReadModel {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductReadModel.class);
+
+    private static final String SELECT_COLUMNS =
+            "SELECT id, name, description, category, price, images, average_rating, review_count, created_at FROM products";
+    private static final int FETCH_SIZE = 10_000;
+
+    private final boolean enabled;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Executor reloadExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Null until the first load completes. Guarded by lock.
+    private Columns columns;
+    // Products changed while a load is running, re-read once it completes. Guarded by lock.
+    private Set<Long> changedWhileLoading;
+    // Numbers single-row reads in the order they started.
+    private final AtomicLong reads = new AtomicLong();
+    // Product id -> number of the read last applied to it. Guarded by lock.
+    private final Map<Long, Long> appliedReads = new HashMap<>();
+    // Reads numbered below this started before the loaded table was read. Guarded by lock.
+    private long firstReadAfterLoad;
+
+    public ProductReadModel(
+            @Value("${catalog.read-model.enabled:false}") boolean enabled,
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("catalogReloadExecutor") Executor reloadExecutor,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.enabled = enabled;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        // PostgreSQL only streams with a fetch size inside a transaction. Refreshes run after
+        // another transaction committed, so they need one of their own.
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.reloadExecutor = reloadExecutor;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Runs after other ready listeners, so startup backfills are already in the table.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void loadOnStartup() {
+        if (enabled) {
+            reload();
+        }
+    }
+
+    /**
+     * Replaces the whole model with the current table contents.
+     */
+    public void reload() {
+        lock.writeLock().lock();
+        try {
+            if (changedWhileLoading != null) {
+                return;
+            }
+            changedWhileLoading = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long start = System.currentTimeMillis();
+        long loadRead = reads.incrementAndGet();
+        Columns loaded;
+        try {
+            loaded = readOnlyTransaction.execute(status -> {
+                Columns c = new Columns(1024);
+                jdbcTemplate.query(SELECT_COLUMNS + " ORDER BY id", rs -> {
+                    c.append(readRow(rs));
+                });
+                c.sortAll();
+                return c;
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changedWhileLoading = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            // Changes recorded during the load were not applied; pages built from them may be stale.
+            eventPublisher.publishEvent(new ProductListingsChangedEvent(null, null));
+            throw e;
+        }
+
+        Set<Long> changed;
+        lock.writeLock().lock();
+        try {
+            changed = changedWhileLoading;
+            changedWhileLoading = null;
+            columns = loaded;
+            appliedReads.clear();
+            firstReadAfterLoad = loadRead;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        boolean fullReload = false;
+        for (Long productId : changed) {
+            fullReload |= !refresh(productId);
+        }
+        eventPublisher.publishEvent(new ProductListingsChangedEvent(null, null));
+        if (fullReload) {
+            reloadExecutor.execute(this::reload);
+        }
+        log.info("Loaded {} products into the catalog read model in {} ms", loaded.size, System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!enabled || event.productId() == null) {
+            return;
+        }
+        if (!refresh(event.productId())) {
+            reloadExecutor.execute(this::reload);
+        }
+    }
+
+    /**
+     * One listing page answered from memory, or null while the model is disabled or not loaded
+     * yet. Supports the same category, minimum rating and price filters as the database path;
+     * text search is not supported.
+     */
+    public Page<ProductDTO> find(String category, Integer minRating, BigDecimal minPrice, BigDecimal maxPrice,
+                                 ProductSortKey sortKey, Sort.Direction direction, int page, int size) {
+        PageRequest pageable = PageRequest.of(page, size, sortKey.toSort(direction));
+        lock.readLock().lock();
+        try {
+            Columns c = columns;
+            if (c == null) {
+                return null;
+            }
+
+            int categoryCode = -1;
+            if (category != null && !category.isEmpty()) {
+                Integer code = c.categoryCodes.get(category);
+                if (code == null) {
+                    return new PageImpl<>(List.of(), pageable, 0);
+                }
+                categoryCode = code;
+            }
+            double ratingFloor = minRating == null ? Double.NEGATIVE_INFINITY : minRating;
+            long priceFloor = minPrice == null ? Long.MIN_VALUE : toCents(minPrice, RoundingMode.CEILING);
+            long priceCeiling = maxPrice == null ? Long.MAX_VALUE : toCents(maxPrice, RoundingMode.FLOOR);
+            boolean rangeFilter = minRating != null || minPrice != null || maxPrice != null;
+
+            int[] order = c.orders[sortKey.ordinal()];
+            boolean ascending = direction.isAscending();
+            long offset = pageable.getOffset();
+            List<ProductDTO> content = new ArrayList<>(size);
+
+            if (categoryCode < 0 && !rangeFilter) {
+                for (long k = offset; k < c.size && content.size() < size; k++) {
+                    content.add(c.toDto(order[ascending ? (int) k : c.size - 1 - (int) k]));
+                }
+                return new PageImpl<>(content, pageable, c.size);
+            }
+
+            long matched = 0;
+            for (int k = 0; k < c.size; k++) {
+                int row = order[ascending ? k : c.size - 1 - k];
+                if ((categoryCode >= 0 && c.category[row] != categoryCode)
+                        || c.averageRating[row] < ratingFloor
+                        || c.priceCents[row] < priceFloor
+                        || c.priceCents[row] > priceCeiling) {
+                    continue;
+                }
+                if (matched >= offset && content.size() < size) {
+                    content.add(c.toDto(row));
+                }
+                matched++;
+                // Without range filters the total is the category size, so stop at a full page.
+                if (!rangeFilter && content.size() == size) {
+                    break;
+                }
+            }
+            long total = rangeFilter ? matched : c.categoryCounts[categoryCode];
+            return new PageImpl<>(content, pageable, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds every product to {@code cube}, counting those priced within the given bounds
+     * separately. Returns false, leaving the cube empty, while the model is not loaded.
+     */
+    boolean fillFacets(FacetCube cube, BigDecimal minPrice, BigDecimal maxPrice) {
+        lock.readLock().lock();
+        try {
+            Columns c = columns;
+            if (c == null) {
+                return false;
+            }
+            // Bounds kept well inside the long range so the differences below cannot overflow.
+            long priceFloor = minPrice == null ? Long.MIN_VALUE / 4 : Math.max(Long.MIN_VALUE / 4, toCents(minPrice, RoundingMode.CEILING));
+            long priceCeiling = maxPrice == null ? Long.MAX_VALUE / 4 : Math.min(Long.MAX_VALUE / 4, toCents(maxPrice, RoundingMode.FLOOR));
+            int categories = c.categoryNames.size();
+            // Two counters per cell, for products outside and inside the price range.
+            int[] counts = new int[categories * FacetCube.CELLS * 2];
+            boolean priceFilter = minPrice != null || maxPrice != null;
+            for (int row = 0; row < c.size; row++) {
+                int slot = (c.category[row] * FacetCube.CELLS + c.facetCell[row]) << 1;
+                if (priceFilter) {
+                    // Branch-free range check; rows are in id order, so prices are unordered and a branch mispredicts.
+                    long price = c.priceCents[row];
+                    slot |= 1 ^ (int) (((price - priceFloor) | (priceCeiling - price)) >>> 63);
+                } else {
+                    slot |= 1;
+                }
+                counts[slot]++;
+            }
+            long[] total = new long[categories * FacetCube.CELLS];
+            long[] inPriceRange = new long[categories * FacetCube.CELLS];
+            for (int cell = 0; cell < total.length; cell++) {
+                inPriceRange[cell] = counts[(cell << 1) | 1];
+                total[cell] = counts[cell << 1] + inPriceRange[cell];
+            }
+            for (int category = 0; category < categories; category++) {
+                if (c.categoryCounts[category] > 0) {
+                    cube.addCells(c.categoryNames.get(category), total, inPriceRange, category * FacetCube.CELLS);
+                }
+            }
+            return true;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return columns == null ? 0 : columns.size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Re-reads one product into the loaded model and publishes a {@link ProductListingsChangedEvent}
+     * for it. Returns false when the change needs a full reload, which publishes one of its own,
+     * as does a load in progress. The row is read without the lock; the lock is held only to apply it.
+     */
+    private boolean refresh(Long productId) {
+        long read = reads.incrementAndGet();
+        List<Row> rows = readOnlyTransaction.execute(status ->
+                jdbcTemplate.query(SELECT_COLUMNS + " WHERE id = ?", (rs, i) -> readRow(rs), productId));
+        Optional<Row> row = rows.stream().findFirst();
+
+        // Categories whose pages may have changed; the product left the first one if they differ.
+        String previousCategory = null;
+        String category = row.map(Row::category).orElse(null);
+        lock.writeLock().lock();
+        try {
+            if (changedWhileLoading != null) {
+                changedWhileLoading.add(productId);
+                return true;
+            }
+            if (columns != null) {
+                Long applied = appliedReads.get(productId);
+                // Otherwise the loaded table, or a read that started later, already has a row at least as new.
+                if (read >= firstReadAfterLoad && (applied == null || applied <= read)) {
+                    appliedReads.put(productId, read);
+                    int index = Arrays.binarySearch(columns.ids, 0, columns.size, productId);
+                    if (row.isEmpty()) {
+                        if (index >= 0) {
+                            return false;
+                        }
+                    } else if (index >= 0) {
+                        previousCategory = columns.categoryNames.get(columns.category[index]);
+                        columns.update(index, row.get());
+                    } else if (columns.size == 0 || productId > columns.ids[columns.size - 1]) {
+                        columns.insert(row.get());
+                    } else {
+                        return false;
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (previousCategory != null && !previousCategory.equals(category)) {
+            eventPublisher.publishEvent(new ProductListingsChangedEvent(productId, previousCategory));
+        }
+        eventPublisher.publishEvent(new ProductListingsChangedEvent(productId, category));
+        return true;
+    }
+
+    private static Row readRow(ResultSet rs) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        BigDecimal price = rs.getBigDecimal("price");
+        return new Row(
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getString("description"),
+                rs.getString("category"),
+                price == null ? 0L : toCents(price, RoundingMode.HALF_UP),
+                readImages(rs.getArray("images")),
+                rs.getDouble("average_rating"),
+                rs.getLong("review_count"),
+                createdAt == null ? Long.MIN_VALUE : epochNanos(createdAt));
+    }
+
+    private static List<String> readImages(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        Object[] values = (Object[]) array.getArray();
+        List<String> images = new ArrayList<>(values.length);
+        for (Object value : values) {
+            if (value != null) {
+                images.add(value.toString());
+            }
+        }
+        return List.copyOf(images);
+    }
+
+    private static long epochNanos(Timestamp timestamp) {
+        return timestamp.toLocalDateTime().toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + timestamp.getNanos();
+    }
+
+    private static long toCents(BigDecimal amount, RoundingMode rounding) {
+        return amount.movePointRight(2).setScale(0, rounding).longValue();
+    }
+
+    private record Row(long id, String name, String description, String category, long priceCents,
+                       List<String> imageUrls, double averageRating, long reviewCount, long createdAt) {
+    }
+
+    /**
+     * Row-index comparator for one sort key; ties fall back to the row index, which follows id.
+     */
+    @FunctionalInterface
+    private interface RowOrder {
+        int compare(int a, int b);
+    }
+
+    /**
+     * The loaded table. Rows are stored in id order, so a row index doubles as the id tie-breaker.
+     */
+    private static final class Columns {
+
+        private int size;
+        private long[] ids;
+        private String[] names;
+        private String[] descriptions;
+        private int[] category;
+        private long[] priceCents;
+        private List<String>[] imageUrls;
+        private double[] averageRating;
+        private long[] reviewCount;
+        private long[] createdAt;
+        // FacetCube cell of the row's price band and rating floor.
+        private byte[] facetCell;
+
+        private final Map<String, Integer> categoryCodes = new HashMap<>();
+        private final List<String> categoryNames = new ArrayList<>();
+        private int[] categoryCounts = new int[0];
+
+        // One ascending permutation of row indexes per ProductSortKey, by ordinal.
+        private final int[][] orders = new int[ProductSortKey.values().length][];
+        private final RowOrder[] comparators = new RowOrder[ProductSortKey.values().length];
+
+        @SuppressWarnings("unchecked")
+        private Columns(int capacity) {
+            ids = new long[capacity];
+            names = new String[capacity];
+            descriptions = new String[capacity];
+            category = new int[capacity];
+            priceCents = new long[capacity];
+            imageUrls = new List[capacity];
+            averageRating = new double[capacity];
+            reviewCount = new long[capacity];
+            createdAt = new long[capacity];
+            facetCell = new byte[capacity];
+            for (ProductSortKey key : ProductSortKey.values()) {
+                comparators[key.ordinal()] = comparator(key);
+            }
+        }
+
+        private RowOrder comparator(ProductSortKey key) {
+            return switch (key) {
+                case REVIEW_COUNT -> (a, b) -> {
+                    int c = Long.compare(reviewCount[a], reviewCount[b]);
+                    if (c == 0) c = Double.compare(averageRating[a], averageRating[b]);
+                    return c != 0 ? c : Integer.compare(a, b);
+                };
+                case AVERAGE_RATING -> (a, b) -> {
+                    int c = Double.compare(averageRating[a], averageRating[b]);
+                    if (c == 0) c = Long.compare(reviewCount[a], reviewCount[b]);
+                    return c != 0 ? c : Integer.compare(a, b);
+                };
+                case PRICE -> (a, b) -> {
+                    int c = Long.compare(priceCents[a], priceCents[b]);
+                    return c != 0 ? c : Integer.compare(a, b);
+                };
+                case CREATED_AT -> (a, b) -> {
+                    int c = Long.compare(createdAt[a], createdAt[b]);
+                    return c != 0 ? c : Integer.compare(a, b);
+                };
+                case NAME -> (a, b) -> {
+                    int c = compareNullsFirst(names[a], names[b]);
+                    return c != 0 ? c : Integer.compare(a, b);
+                };
+            };
+        }
+
+        private static int compareNullsFirst(String a, String b) {
+            if (a == null || b == null) {
+                return a == null ? (b == null ? 0 : -1) : 1;
+            }
+            return a.compareTo(b);
+        }
+
+        /**
+         * Adds a row during the initial load; {@link #sortAll} builds the permutations afterwards.
+         */
+        private void append(Row row) {
+            if (size == ids.length) {
+                grow();
+            }
+            set(size++, row);
+        }
+
+        private void sortAll() {
+            for (ProductSortKey key : ProductSortKey.values()) {
+                int[] order = new int[ids.length];
+                for (int i = 0; i < size; i++) {
+                    order[i] = i;
+                }
+                sort(order, size, comparators[key.ordinal()]);
+                orders[key.ordinal()] = order;
+            }
+        }
+
+        /**
+         * Adds a row with a higher id than every loaded row after the initial load.
+         */
+        private void insert(Row row) {
+            if (size == ids.length) {
+                grow();
+            }
+            int index = size++;
+            set(index, row);
+            for (ProductSortKey key : ProductSortKey.values()) {
+                int[] order = orders[key.ordinal()];
+                int position = -search(order, size - 1, index, comparators[key.ordinal()]) - 1;
+                System.arraycopy(order, position, order, position + 1, size - 1 - position);
+                order[position] = index;
+            }
+        }
+
+        /**
+         * Replaces a loaded row and moves it within each permutation whose sort values changed.
+         */
+        private void update(int index, Row row) {
+            long oldReviewCount = reviewCount[index];
+            double oldAverageRating = averageRating[index];
+            long oldPrice = priceCents[index];
+            long oldCreatedAt = createdAt[index];
+            String oldName = names[index];
+
+            List<ProductSortKey> moved = new ArrayList<>();
+            for (ProductSortKey key : ProductSortKey.values()) {
+                boolean changed = switch (key) {
+                    case REVIEW_COUNT, AVERAGE_RATING -> oldReviewCount != row.reviewCount()
+                            || Double.compare(oldAverageRating, row.averageRating()) != 0;
+                    case PRICE -> oldPrice != row.priceCents();
+                    case CREATED_AT -> oldCreatedAt != row.createdAt();
+                    case NAME -> compareNullsFirst(oldName, row.name()) != 0;
+                };
+                if (changed) {
+                    moved.add(key);
+                    // Found with the old values still in place.
+                    int[] order = orders[key.ordinal()];
+                    int position = search(order, size, index, comparators[key.ordinal()]);
+                    System.arraycopy(order, position + 1, order, position, size - 1 - position);
+                }
+            }
+
+            categoryCounts[category[index]]--;
+            set(index, row);
+
+            for (ProductSortKey key : moved) {
+                int[] order = orders[key.ordinal()];
+                int position = -search(order, size - 1, index, comparators[key.ordinal()]) - 1;
+                System.arraycopy(order, position, order, position + 1, size - 1 - position);
+                order[position] = index;
+            }
+        }
+
+        private void set(int index, Row row) {
+            ids[index] = row.id();
+            names[index] = row.name();
+            descriptions[index] = row.description();
+            category[index] = categoryCode(row.category());
+            priceCents[index] = row.priceCents();
+            imageUrls[index] = row.imageUrls();
+            averageRating[index] = row.averageRating();
+            reviewCount[index] = row.reviewCount();
+            createdAt[index] = row.createdAt();
+            facetCell[index] = (byte) FacetCube.cell(FacetCube.band(row.priceCents()), FacetCube.stars(row.averageRating()));
+            categoryCounts[category[index]]++;
+        }
+
+        private int categoryCode(String name) {
+            Integer code = categoryCodes.get(name);
+            if (code == null) {
+                code = categoryNames.size();
+                categoryCodes.put(name, code);
+                categoryNames.add(name);
+                categoryCounts = Arrays.copyOf(categoryCounts, categoryNames.size());
+            }
+            return code;
+        }
+
+        private void grow() {
+            int capacity = Math.max(16, ids.length + (ids.length >> 1));
+            ids = Arrays.copyOf(ids, capacity);
+            names = Arrays.copyOf(names, capacity);
+            descriptions = Arrays.copyOf(descriptions, capacity);
+            category = Arrays.copyOf(category, capacity);
+            priceCents = Arrays.copyOf(priceCents, capacity);
+            imageUrls = Arrays.copyOf(imageUrls, capacity);
+            averageRating = Arrays.copyOf(averageRating, capacity);
+            reviewCount = Arrays.copyOf(reviewCount, capacity);
+            createdAt = Arrays.copyOf(createdAt, capacity);
+            facetCell = Arrays.copyOf(facetCell, capacity);
+            for (int k = 0; k < orders.length; k++) {
+                if (orders[k] != null) {
+                    orders[k] = Arrays.copyOf(orders[k], capacity);
+                }
+            }
+        }
+
+        private ProductDTO toDto(int row) {
+            return new ProductDTO(
+                    ids[row],
+                    names[row],
+                    descriptions[row],
+                    categoryNames.get(category[row]),
+                    BigDecimal.valueOf(priceCents[row], 2),
+                    imageUrls[row],
+                    Math.round(averageRating[row] * 10.0) / 10.0,
+                    reviewCount[row]
+            );
+        }
+
+        /**
+         * Binary search for {@code row} in the first {@code length} entries of {@code order};
+         * returns its position, or {@code -(insertion point) - 1} like {@link Arrays#binarySearch}.
+         */
+        private static int search(int[] order, int length, int row, RowOrder comparator) {
+            int low = 0;
+            int high = length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int c = comparator.compare(order[mid], row);
+                if (c < 0) {
+                    low = mid + 1;
+                } else if (c > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        /**
+         * Merge sort of the first {@code length} row indexes, avoiding boxed comparators.
+         */
+        private static void sort(int[] order, int length, RowOrder comparator) {
+            int[] buffer = new int[length];
+            for (int width = 1; width < length; width <<= 1) {
+                for (int low = 0; low < length - width; low += width << 1) {
+                    int mid = low + width;
+                    int high = Math.min(low + (width << 1), length);
+                    if (comparator.compare(order[mid - 1], order[mid]) <= 0) {
+                        continue;
+                    }
+                    System.arraycopy(order, low, buffer, low, high - low);
+                    int i = low;
+                    int j = mid;
+                    int k = low;
+                    while (i < mid && j < high) {
+                        order[k++] = comparator.compare(buffer[i], buffer[j]) <= 0 ? buffer[i++] : buffer[j++];
+                    }
+                    while (i < mid) {
+                        order[k++] = buffer[i++];
+                    }
+                    while (j < high) {
+                        order[k++] = buffer[j++];
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,15 +1,14 @@
 package com.productreview.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.productreview.dto.ProductBatchDTO;
 import com.productreview.dto.ProductDTO;
 import com.productreview.dto.ProductDetailDTO;
 import com.productreview.entity.Product;
 import com.productreview.entity.Review;
+import com.productreview.exception.ProductNotFoundException;
 import com.productreview.repository.ProductRepository;
 import com.productreview.repository.ReviewRepository;
 import com.productreview.spec.ProductSpecifications;
-import com.productreview.util.ProductNameUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Page;
@@ -22,6 +21,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,7 +31,8 @@ public class ProductService {
     
     private final ProductRepository productRepository;
     private final ReviewRepository reviewRepository;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ProductFullTextSearch productFullTextSearch;
+    private final MissingIdCache missingIdCache;
     
     public Page<ProductDTO> getAllProducts(Pageable pageable, String category, String search, Integer minRating, BigDecimal minPrice, BigDecimal maxPrice) {
         Page<Product> products;
@@ -42,18 +43,8 @@ public class ProductService {
         boolean hasMinPrice = minPrice != null;
         boolean hasMaxPrice = maxPrice != null;
         
-        boolean isSortByReviewCount = pageable.getSort().getOrderFor("reviewCount") != null;
-        boolean isSortByAverageRating = pageable.getSort().getOrderFor("averageRating") != null;
-
-        boolean isReviewAggregateSort = isSortByReviewCount || isSortByAverageRating;
-        boolean hasAnyNonCategoryFilters = hasSearch || hasMinRating || hasMinPrice || hasMaxPrice;
-
-        if (isReviewAggregateSort && !hasAnyNonCategoryFilters) {
-            if (hasCategory) {
-                products = productRepository.findByCategoryOrderByReviewAggregates(category, pageable);
-            } else {
-                products = productRepository.findAllOrderByReviewAggregates(pageable);
-            }
+        if (hasSearch && productFullTextSearch.isReady() && !ProductSpecifications.searchTerms(search).isEmpty()) {
+            products = productFullTextSearch.search(pageable, hasCategory ? category : null, search, minRating, minPrice, maxPrice);
         } else if (hasSearch || hasMinRating || hasMinPrice || hasMaxPrice) {
             products = productRepository.findAll(
                     ProductSpecifications.categoryAndMultiTermSearch(
@@ -73,8 +64,47 @@ public class ProductService {
         }
         
         List<Product> content = products.getContent();
-        List<Long> productIds = content.stream().map(Product::getId).toList();
+        Map<Long, Aggregate> aggregates = findAggregates(content.stream().map(Product::getId).toList());
+
+        List<ProductDTO> dtoList = content.stream()
+                .map(product -> convertToDTO(product, aggregates.get(product.getId())))
+                .toList();
 
+        return new PageImpl<>(dtoList, pageable, products.getTotalElements());
+    }
+    
+    /**
+     * Products by id with one IN query plus one aggregate query, in the order of {@code ids}
+     * (duplicates dropped); ids with no product are reported as missing.
+     */
+    public ProductBatchDTO getProductsByIds(List<Long> ids) {
+        List<Long> uniqueIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        MissingIdCache.Ids missingProducts = missingIdCache.products();
+        List<Long> lookupIds = uniqueIds.stream().filter(id -> !missingProducts.contains(id)).toList();
+        long lookupGeneration = missingProducts.generation();
+        Map<Long, Product> byId = new HashMap<>();
+        if (!lookupIds.isEmpty()) {
+            for (Product product : productRepository.findAllById(lookupIds)) {
+                byId.put(product.getId(), product);
+            }
+        }
+        Map<Long, Aggregate> aggregates = findAggregates(List.copyOf(byId.keySet()));
+
+        List<ProductDTO> found = new ArrayList<>(byId.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : uniqueIds) {
+            Product product = byId.get(id);
+            if (product == null) {
+                missing.add(id);
+                missingProducts.add(id, lookupGeneration);
+            } else {
+                found.add(convertToDTO(product, aggregates.get(id)));
+            }
+        }
+        return new ProductBatchDTO(found, missing);
+    }
+
+    private Map<Long, Aggregate> findAggregates(List<Long> productIds) {
         Map<Long, Aggregate> aggregates = new HashMap<>();
         if (!productIds.isEmpty()) {
             for (Object[] row : reviewRepository.findAggregatesByProductIds(productIds)) {
@@ -84,41 +114,29 @@ public class ProductService {
                 aggregates.put(productId, new Aggregate(avg, cnt));
             }
         }
-
-        List<ProductDTO> dtoList = content.stream()
-                .map(product -> convertToDTO(product, aggregates.get(product.getId())))
-                .toList();
-
-        return new PageImpl<>(dtoList, pageable, products.getTotalElements());
+        return aggregates;
     }
-    
+
     public ProductDetailDTO getProductById(Long id) {
-        Product product = productRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
+        Product product = missingIdCache.products().find(id, () -> productRepository.findById(id))
+                .orElseThrow(() -> new ProductNotFoundException(id));
         
         return convertToDetailDTO(product);
     }
     
-    private List<String> parseImageUrls(String imageUrlsJson) {
-        if (imageUrlsJson == null || imageUrlsJson.trim().isEmpty()) {
-            return new ArrayList<>();
-        }
-        try {
-            return objectMapper.readValue(imageUrlsJson, new TypeReference<List<String>>() {});
-        } catch (Exception e) {
-            return new ArrayList<>();
-        }
+    private static List<String> imageUrls(Product product) {
+        return product.getImageUrls() == null ? List.of() : product.getImageUrls();
     }
     
-    private ProductDTO convertToDTO(Product product, Aggregate aggregate) {
-        List<String> imageUrls = parseImageUrls(product.getImageUrls());
+    ProductDTO convertToDTO(Product product, Aggregate aggregate) {
+        List<String> imageUrls = imageUrls(product);
 
         Double avgRating = aggregate != null ? aggregate.avgRating : 0.0;
         Long reviewCount = aggregate != null ? aggregate.reviewCount : 0L;
         
         return new ProductDTO(
                 product.getId(),
-                ProductNameUtil.normalizeProductName(product.getName()),
+                product.getName(),
                 product.getDescription(),
                 product.getCategory(),
                 product.getPrice(),
@@ -130,7 +148,7 @@ public class ProductService {
     
     private ProductDetailDTO convertToDetailDTO(Product product) {
         List<Review> reviews = reviewRepository.findByProductId(product.getId());
-        List<String> imageUrls = parseImageUrls(product.getImageUrls());
+        List<String> imageUrls = imageUrls(product);
 
         Double avgRating = reviewRepository.findAverageRatingByProductId(product.getId());
         Long reviewCount = reviewRepository.countByProductId(product.getId());
@@ -150,7 +168,7 @@ public class ProductService {
         
         return new ProductDetailDTO(
                 product.getId(),
-                ProductNameUtil.normalizeProductName(product.getName()),
+                product.getName(),
                 product.getDescription(),
                 product.getCategory(),
                 product.getPrice(),
@@ -161,7 +179,7 @@ public class ProductService {
         );
     }
 
-    private record Aggregate(Double avgRating, Long reviewCount) {}
+    record Aggregate(Double avgRating, Long reviewCount) {}
 }
 
 
@@ -0,0 +1,261 @@
+package com.productreview.service;
+
+import com.productreview.entity.Product;
+import com.productreview.entity.ProductTopicCount;
+import com.productreview.event.ReviewChangedEvent;
+import com.productreview.repository.ProductRepository;
+import com.productreview.repository.ProductTopicCountRepository;
+import com.productreview.repository.ReviewRepository;
+import com.productreview.util.ReviewTopics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Maintains per-product topic mention counters. Review writes publish a {@link ReviewChangedEvent};
+ * after the write commits, the delta between the old and new comment is applied on the
+ * single-threaded {@code topicCounterExecutor}, so readers get counts over all reviews
+ * without scanning comments.
+ * <p>
+ * Deltas are the fast path only. A delta that cannot be queued or fails marks its product dirty
+ * instead of failing the review write, and {@link #reconcile} recounts dirty products from their
+ * reviews, plus a few more on each run in id order, so a delta lost at shutdown is also repaired
+ * eventually. A recount remembers the recently created reviews it saw, and a create delta for one
+ * of them is skipped, so a review committed while its product was being recounted is not counted
+ * twice. An update or delete racing with a recount marks the product dirty again.
+ */
+@Service
+public class ProductTopicCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductTopicCounterService.class);
+    // How long a delta may trail its commit; reviews created this long before a recount are remembered
+    private static final Duration IN_FLIGHT = Duration.ofMinutes(1);
+
+    private final ProductTopicCountRepository productTopicCountRepository;
+    private final ReviewRepository reviewRepository;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+    private final int reconcileBatch;
+
+    private final Set<Long> dirtyProducts = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Recount> recounts = new ConcurrentHashMap<>();
+    private volatile long reconcileCursor;
+
+    public ProductTopicCounterService(
+            ProductTopicCountRepository productTopicCountRepository,
+            ReviewRepository reviewRepository,
+            ProductRepository productRepository,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("topicCounterExecutor") Executor executor,
+            @Value("${topic-counters.reconcile-batch:50}") int reconcileBatch
+    ) {
+        this.productTopicCountRepository = productTopicCountRepository;
+        this.reviewRepository = reviewRepository;
+        this.productRepository = productRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.reconcileBatch = reconcileBatch;
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Long> getCounts(Long productId) {
+        Map<String, Long> counts = new HashMap<>();
+        for (ProductTopicCount c : productTopicCountRepository.findByProductId(productId)) {
+            if (c.getMentionCount() != null && c.getMentionCount() > 0) {
+                counts.put(c.getTopicKey(), c.getMentionCount());
+            }
+        }
+        return counts;
+    }
+
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        try {
+            executor.execute(() -> applyDelta(event));
+        } catch (RejectedExecutionException e) {
+            dirtyProducts.add(event.productId());
+            log.debug("Topic counter queue full, product {} will be recounted", event.productId());
+        }
+    }
+
+    /**
+     * Queues a recount of the dirty products and the next {@code topic-counters.reconcile-batch}
+     * products after the last one recounted this way.
+     */
+    @Scheduled(fixedDelayString = "${topic-counters.reconcile-interval:PT1M}",
+            initialDelayString = "${topic-counters.reconcile-interval:PT1M}")
+    public void reconcile() {
+        try {
+            executor.execute(this::reconcileNow);
+        } catch (RejectedExecutionException e) {
+            log.debug("Topic counter queue full, reconcile skipped");
+        }
+    }
+
+    /**
+     * Counts every product once for databases that already had reviews before counters existed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (productTopicCountRepository.count() > 0 || reviewRepository.count() == 0) {
+            return;
+        }
+        executor.execute(() -> {
+            int products = 0;
+            List<Long> ids;
+            long after = 0;
+            do {
+                ids = productRepository.findIdsAfter(after, PageRequest.of(0, 500));
+                for (Long id : ids) {
+                    recount(id);
+                    after = id;
+                }
+                products += ids.size();
+            } while (!ids.isEmpty());
+            log.info("Backfilled topic counters for {} products", products);
+        });
+    }
+
+    /**
+     * Orders topics by count, breaking ties by {@link ReviewTopics#keys()} order, and returns
+     * at most {@code limit} topic keys with a positive count.
+     */
+    public static List<String> topTopicKeys(Map<String, Long> counts, int limit) {
+        List<String> keys = new ArrayList<>(ReviewTopics.keys());
+        Set<String> known = new HashSet<>(keys);
+        for (String k : counts.keySet()) {
+            if (!known.contains(k)) keys.add(k);
+        }
+        return keys.stream()
+                .filter(k -> counts.getOrDefault(k, 0L) > 0)
+                .sorted((a, b) -> Long.compare(counts.getOrDefault(b, 0L), counts.getOrDefault(a, 0L)))
+                .limit(limit)
+                .toList();
+    }
+
+    boolean isDirty(Long productId) {
+        return dirtyProducts.contains(productId);
+    }
+
+    void applyDelta(ReviewChangedEvent event) {
+        Long productId = event.productId();
+        Recount recount = recounts.get(productId);
+        boolean create = event.previousComment() == null;
+        if (recount != null && !recount.isExpired()) {
+            if (create && recount.reviewIds().contains(event.reviewId())) {
+                return;
+            }
+            if (!create) {
+                dirtyProducts.add(productId);
+            }
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Set<String> before = ReviewTopics.mentionedTopics(event.category(), event.previousComment());
+                Set<String> after = ReviewTopics.mentionedTopics(event.category(), event.currentComment());
+                for (String topic : before) {
+                    if (!after.contains(topic)) {
+                        addToCount(productId, topic, -1L);
+                    }
+                }
+                for (String topic : after) {
+                    if (!before.contains(topic)) {
+                        addToCount(productId, topic, 1L);
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            dirtyProducts.add(productId);
+            log.warn("Topic counter delta for product {} failed, will recount: {}", productId, e.getMessage());
+        }
+    }
+
+    void reconcileNow() {
+        recounts.values().removeIf(Recount::isExpired);
+        Set<Long> ids = new HashSet<>(dirtyProducts);
+        List<Long> next = productRepository.findIdsAfter(reconcileCursor, PageRequest.of(0, Math.max(1, reconcileBatch)));
+        reconcileCursor = next.size() < reconcileBatch ? 0 : next.get(next.size() - 1);
+        ids.addAll(next);
+        for (Long id : ids) {
+            dirtyProducts.remove(id);
+            try {
+                recount(id);
+            } catch (RuntimeException e) {
+                dirtyProducts.add(id);
+                log.warn("Topic counter recount for product {} failed: {}", id, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Replaces the product's counters with counts over its current reviews.
+     */
+    void recount(Long productId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Optional<Product> product = productRepository.findById(productId);
+            Map<String, Long> counts = new HashMap<>();
+            Set<Long> recent = new HashSet<>();
+            if (product.isPresent()) {
+                LocalDateTime recentSince = LocalDateTime.now().minus(IN_FLIGHT);
+                for (Object[] row : reviewRepository.findTopicSourceRowsByProductId(productId)) {
+                    for (String topic : ReviewTopics.mentionedTopics(product.get().getCategory(), (String) row[1])) {
+                        counts.merge(topic, 1L, Long::sum);
+                    }
+                    LocalDateTime createdAt = (LocalDateTime) row[2];
+                    if (createdAt == null || createdAt.isAfter(recentSince)) {
+                        recent.add((Long) row[0]);
+                    }
+                }
+            }
+
+            List<ProductTopicCount> changed = new ArrayList<>();
+            for (ProductTopicCount existing : productTopicCountRepository.findByProductId(productId)) {
+                Long count = counts.remove(existing.getTopicKey());
+                long value = count == null ? 0L : count;
+                if (existing.getMentionCount() == null || existing.getMentionCount() != value) {
+                    existing.setMentionCount(value);
+                    changed.add(existing);
+                }
+            }
+            counts.forEach((topic, count) -> changed.add(new ProductTopicCount(null, productId, topic, count)));
+            productTopicCountRepository.saveAll(changed);
+            recounts.put(productId, new Recount(recent, System.nanoTime() + IN_FLIGHT.toNanos()));
+        });
+    }
+
+    private void addToCount(Long productId, String topic, long delta) {
+        int updated = productTopicCountRepository.addToCount(productId, topic, delta);
+        if (updated == 0 && delta > 0) {
+            productTopicCountRepository.save(new ProductTopicCount(null, productId, topic, delta));
+        }
+    }
+
+    private record Recount(Set<Long> reviewIds, long expiresAt) {
+        boolean isExpired() {
+            return expiresAt - System.nanoTime() <= 0;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.productreview.service;
+
+import com.productreview.dto.CreateReviewDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accept-and-queue path for {@code POST /api/reviews} ({@code review-ingest.enabled}, off by
+ * default). A review is checked as {@link ReviewService#createReview} would check it, given an
+ * ingestion id and put on a bounded queue; the request returns without touching the product row.
+ * One writer thread drains the queue into batches of up to {@code review-ingest.batch-size} and
+ * writes each with {@link ReviewService#createReviews}, so a burst of reviews for one product
+ * costs one aggregate update per batch instead of one per review, all in one transaction.
+ * <p>
+ * When the queue is full new reviews are refused with 503 rather than waiting. If a batch fails
+ * (a product deleted after its review was accepted) its reviews are retried one by one and the
+ * ones that still fail are logged with their ingestion id and dropped. Reviews still queued at
+ * shutdown are written before the writer stops.
+ */
+@Component
+public class ReviewIngestQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewIngestQueue.class);
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final BlockingQueue<Pending> queue;
+    private final ReviewService reviewService;
+    private final Counter accepted;
+    private final Counter rejected;
+    private final Counter written;
+    private final Counter failed;
+    private final DistributionSummary batches;
+    private volatile boolean running;
+    private Thread writer;
+
+    public ReviewIngestQueue(
+            @Value("${review-ingest.enabled:false}") boolean enabled,
+            @Value("${review-ingest.capacity:10000}") int capacity,
+            @Value("${review-ingest.batch-size:200}") int batchSize,
+            ReviewService reviewService,
+            MeterRegistry registry
+    ) {
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.reviewService = reviewService;
+        this.accepted = outcome(registry, "accepted");
+        this.rejected = outcome(registry, "rejected");
+        this.written = outcome(registry, "written");
+        this.failed = outcome(registry, "failed");
+        this.batches = DistributionSummary.builder("review.ingest.batch.size")
+                .description("Reviews written per batch by the ingest writer").register(registry);
+        Gauge.builder("review.ingest.queue.size", queue, BlockingQueue::size)
+                .description("Reviews accepted and not yet written").register(registry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Checks and queues a review, returning its ingestion id. Invalid reviews throw as in
+     * {@link ReviewService#createReview}; a full queue throws 503.
+     */
+    public String accept(CreateReviewDTO createReviewDTO) {
+        reviewService.checkNewReview(createReviewDTO);
+        Pending pending = new Pending(UUID.randomUUID().toString(), createReviewDTO);
+        if (!queue.offer(pending)) {
+            rejected.increment();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Review queue is full, try again shortly");
+        }
+        accepted.increment();
+        return pending.ingestionId();
+    }
+
+    /**
+     * Reviews accepted and not yet written.
+     */
+    public int pending() {
+        return queue.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || writer != null) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::drain, "review-ingest");
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        Thread thread;
+        synchronized (this) {
+            running = false;
+            thread = writer;
+        }
+        if (thread != null) {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        }
+    }
+
+    private void drain() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Review ingest writer failed on a batch of {}", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        batches.record(batch.size());
+        try {
+            written.increment(reviewService.createReviews(batch.stream().map(Pending::review).toList()));
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Review batch of {} failed, writing one by one: {}", batch.size(), e.getMessage());
+        }
+        for (Pending pending : batch) {
+            try {
+                reviewService.createReview(pending.review());
+                written.increment();
+            } catch (RuntimeException e) {
+                failed.increment();
+                log.warn("Dropped queued review {} for product {}: {}", pending.ingestionId(),
+                        pending.review().getProductId(), e.getMessage());
+            }
+        }
+    }
+
+    private static Counter outcome(MeterRegistry registry, String outcome) {
+        return Counter.builder("review.ingest.reviews").tag("outcome", outcome)
+                .description("Reviews through the ingest queue").register(registry);
+    }
+
+    private record Pending(String ingestionId, CreateReviewDTO review) {
+    }
+}
@@ -7,15 +7,27 @@ import com.productreview.dto.UpdateReviewDTO;
 import com.productreview.entity.Product;
 import com.productreview.entity.Review;
 import com.productreview.entity.ReviewHelpfulVote;
+import com.productreview.event.ProductAggregatesChangedEvent;
+import com.productreview.event.ReviewChangedEvent;
+import com.productreview.event.ReviewVoteChangedEvent;
+import com.productreview.exception.ProductNotFoundException;
+import com.productreview.exception.ReviewNotFoundException;
 import com.productreview.repository.ProductRepository;
 import com.productreview.repository.ReviewHelpfulVoteRepository;
 import com.productreview.repository.ReviewRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -24,57 +36,60 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final ReviewHelpfulVoteRepository reviewHelpfulVoteRepository;
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MissingIdCache missingIdCache;
     
     public ReviewDTO createReview(CreateReviewDTO createReviewDTO) {
-        Product product = productRepository.findById(createReviewDTO.getProductId())
-                .orElseThrow(() -> new RuntimeException("Product not found with id: " + createReviewDTO.getProductId()));
-        
-        String rawComment = createReviewDTO.getComment();
-        String trimmedComment = rawComment == null ? "" : rawComment.trim();
-        if (rawComment != null && !rawComment.isEmpty() && trimmedComment.isEmpty()) {
-            throw new IllegalArgumentException("Comment must be at least 10 characters");
-        }
-        if (!trimmedComment.isEmpty() && trimmedComment.length() < 10) {
-            throw new IllegalArgumentException("Comment must be at least 10 characters");
-        }
+        Product product = findProduct(createReviewDTO.getProductId());
+        Review savedReview = reviewRepository.save(newReview(createReviewDTO, product));
 
-        Review review = new Review();
-        review.setProduct(product);
-        review.setComment(trimmedComment);
-        review.setRating(createReviewDTO.getRating());
-        review.setReviewerName(createReviewDTO.getReviewerName() != null && !createReviewDTO.getReviewerName().isEmpty() 
-                ? createReviewDTO.getReviewerName() 
-                : "Anonymous");
-        review.setDeviceId(createReviewDTO.getDeviceId());
-        
-        Review savedReview = reviewRepository.save(review);
-
-        Double avgRating = reviewRepository.findAverageRatingByProductId(product.getId());
-        Long reviewCount = reviewRepository.countByProductId(product.getId());
-        product.setAverageRating(avgRating != null ? Math.round(avgRating * 10.0) / 10.0 : 0.0);
-        product.setReviewCount(reviewCount != null ? reviewCount : 0L);
-        productRepository.save(product);
+        recalculateAggregates(product.getId());
+        eventPublisher.publishEvent(new ReviewChangedEvent(savedReview.getId(), product.getId(), product.getCategory(), null, savedReview.getComment()));
         
         return convertToDTO(savedReview);
     }
 
+    /**
+     * Runs the checks {@link #createReview} would, without writing anything.
+     */
+    @Transactional(readOnly = true)
+    public void checkNewReview(CreateReviewDTO createReviewDTO) {
+        findProduct(createReviewDTO.getProductId());
+        normalizeComment(createReviewDTO.getComment());
+    }
+
+    /**
+     * Inserts reviews in one transaction and recalculates each product's aggregates once, however
+     * many of its reviews are in the batch. Used by {@link ReviewIngestQueue}; if any review fails
+     * the whole batch is rolled back.
+     */
+    public int createReviews(List<CreateReviewDTO> createReviewDTOs) {
+        Map<Long, Product> products = new LinkedHashMap<>();
+        List<Review> reviews = new ArrayList<>(createReviewDTOs.size());
+        for (CreateReviewDTO dto : createReviewDTOs) {
+            Product product = products.computeIfAbsent(dto.getProductId(), this::findProduct);
+            reviews.add(newReview(dto, product));
+        }
+        List<Review> saved = reviewRepository.saveAll(reviews);
+
+        products.keySet().forEach(this::recalculateAggregates);
+        for (Review review : saved) {
+            Product product = review.getProduct();
+            eventPublisher.publishEvent(new ReviewChangedEvent(review.getId(), product.getId(), product.getCategory(), null, review.getComment()));
+        }
+        return saved.size();
+    }
+
     public ReviewDTO updateReview(Long reviewId, UpdateReviewDTO updateReviewDTO) {
-        Review review = reviewRepository.findById(reviewId)
-                .orElseThrow(() -> new RuntimeException("Review not found with id: " + reviewId));
+        Review review = findReview(reviewId);
 
         if (review.getDeviceId() == null || !review.getDeviceId().equals(updateReviewDTO.getDeviceId())) {
             throw new IllegalStateException("FORBIDDEN");
         }
 
-        String rawComment = updateReviewDTO.getComment();
-        String trimmedComment = rawComment == null ? "" : rawComment.trim();
-        if (rawComment != null && !rawComment.isEmpty() && trimmedComment.isEmpty()) {
-            throw new IllegalArgumentException("Comment must be at least 10 characters");
-        }
-        if (!trimmedComment.isEmpty() && trimmedComment.length() < 10) {
-            throw new IllegalArgumentException("Comment must be at least 10 characters");
-        }
+        String trimmedComment = normalizeComment(updateReviewDTO.getComment());
 
+        String previousComment = review.getComment();
         review.setComment(trimmedComment);
         review.setRating(updateReviewDTO.getRating());
         review.setReviewerName(updateReviewDTO.getReviewerName() != null && !updateReviewDTO.getReviewerName().isEmpty()
@@ -82,21 +97,23 @@ public class ReviewService {
                 : "Anonymous");
 
         Review saved = reviewRepository.save(review);
-        recalculateAggregates(review.getProduct().getId());
+        Product product = recalculateAggregates(review.getProduct().getId());
+        eventPublisher.publishEvent(new ReviewChangedEvent(saved.getId(), product.getId(), product.getCategory(), previousComment, saved.getComment()));
         return convertToDTO(saved);
     }
 
     public void deleteReview(Long reviewId, String deviceId) {
-        Review review = reviewRepository.findById(reviewId)
-                .orElseThrow(() -> new RuntimeException("Review not found with id: " + reviewId));
+        Review review = findReview(reviewId);
 
         if (review.getDeviceId() == null || !review.getDeviceId().equals(deviceId)) {
             throw new IllegalStateException("FORBIDDEN");
         }
 
         Long productId = review.getProduct().getId();
+        String previousComment = review.getComment();
         reviewRepository.delete(review);
-        recalculateAggregates(productId);
+        Product product = recalculateAggregates(productId);
+        eventPublisher.publishEvent(new ReviewChangedEvent(reviewId, productId, product.getCategory(), previousComment, null));
     }
     
     public Page<ReviewDTO> getReviewsByProductId(Long productId, Pageable pageable, Integer minRating) {
@@ -109,8 +126,7 @@ public class ReviewService {
             throw new IllegalArgumentException("deviceId is required");
         }
 
-        Review review = reviewRepository.findById(reviewId)
-                .orElseThrow(() -> new RuntimeException("Review not found with id: " + reviewId));
+        Review review = findReview(reviewId);
 
         var existing = reviewHelpfulVoteRepository.findByReviewIdAndDeviceId(reviewId, deviceId);
         boolean helpfulByMe;
@@ -130,6 +146,7 @@ public class ReviewService {
         }
 
         Review saved = reviewRepository.save(review);
+        eventPublisher.publishEvent(new ReviewVoteChangedEvent(review.getProduct().getId(), saved.getId()));
         return new HelpfulVoteResponseDTO(saved.getId(), saved.getHelpfulCount() == null ? 0L : saved.getHelpfulCount(), helpfulByMe);
     }
     
@@ -146,16 +163,55 @@ public class ReviewService {
         );
     }
 
-    private void recalculateAggregates(Long productId) {
+    private Review newReview(CreateReviewDTO createReviewDTO, Product product) {
+        Review review = new Review();
+        review.setProduct(product);
+        review.setComment(normalizeComment(createReviewDTO.getComment()));
+        review.setRating(createReviewDTO.getRating());
+        review.setReviewerName(createReviewDTO.getReviewerName() != null && !createReviewDTO.getReviewerName().isEmpty() 
+                ? createReviewDTO.getReviewerName() 
+                : "Anonymous");
+        review.setDeviceId(createReviewDTO.getDeviceId());
+        return review;
+    }
+
+    private static String normalizeComment(String rawComment) {
+        String trimmedComment = rawComment == null ? "" : rawComment.trim();
+        if (rawComment != null && !rawComment.isEmpty() && trimmedComment.isEmpty()) {
+            throw new IllegalArgumentException("Comment must be at least 10 characters");
+        }
+        if (!trimmedComment.isEmpty() && trimmedComment.length() < 10) {
+            throw new IllegalArgumentException("Comment must be at least 10 characters");
+        }
+        return trimmedComment;
+    }
+
+    private Product findProduct(Long productId) {
+        return missingIdCache.products().find(productId, () -> productRepository.findById(productId))
+                .orElseThrow(() -> new ProductNotFoundException(productId));
+    }
+
+    private Review findReview(Long reviewId) {
+        return missingIdCache.reviews().find(reviewId, () -> reviewRepository.findById(reviewId))
+                .orElseThrow(() -> new ReviewNotFoundException(reviewId));
+    }
+
+    private Product recalculateAggregates(Long productId) {
         Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new RuntimeException("Product not found with id: " + productId));
+                .orElseThrow(() -> new ProductNotFoundException(productId));
 
         Double avgRating = reviewRepository.findAverageRatingByProductId(productId);
         Long reviewCount = reviewRepository.countByProductId(productId);
+        Double previousAverage = product.getAverageRating();
+        Long previousCount = product.getReviewCount();
 
         product.setAverageRating(avgRating != null ? Math.round(avgRating * 10.0) / 10.0 : 0.0);
         product.setReviewCount(reviewCount != null ? reviewCount : 0L);
-        productRepository.save(product);
+        Product saved = productRepository.save(product);
+        if (!Objects.equals(previousAverage, saved.getAverageRating()) || !Objects.equals(previousCount, saved.getReviewCount())) {
+            eventPublisher.publishEvent(new ProductAggregatesChangedEvent(saved.getId(), saved.getCategory()));
+        }
+        return saved;
     }
 }
 
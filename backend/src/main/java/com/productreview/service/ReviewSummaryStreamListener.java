@@ -0,0 +1,12 @@
+package com.productreview.service;
+
+import java.io.IOException;
+
+/**
+ * Receives named summary events while an AI summary is being streamed.
+ * Throwing {@link IOException} (e.g. the client disconnected) aborts the stream.
+ */
+@FunctionalInterface
+public interface ReviewSummaryStreamListener {
+    void onEvent(String name, Object data) throws IOException;
+}
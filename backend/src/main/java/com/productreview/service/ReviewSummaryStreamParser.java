@@ -0,0 +1,101 @@
+package com.productreview.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incrementally parses the summary JSON object while the model is still generating it.
+ * Content deltas are fed as they arrive; each top-level field is reported as soon as its
+ * value is complete. Text before the opening brace and after the closing brace is ignored.
+ */
+final class ReviewSummaryStreamParser {
+
+    interface FieldHandler {
+        void onText(String field, String value) throws IOException;
+
+        void onList(String field, List<String> values) throws IOException;
+    }
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final FieldHandler handler;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    private boolean started;
+    private boolean finished;
+    private int depth;
+    private String currentField;
+    private List<String> currentList;
+
+    ReviewSummaryStreamParser(FieldHandler handler) throws IOException {
+        this.handler = handler;
+        this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    boolean isFinished() {
+        return finished;
+    }
+
+    void feed(String chunk) throws IOException {
+        if (finished || chunk == null || chunk.isEmpty()) return;
+        String text = chunk;
+        if (!started) {
+            int start = text.indexOf('{');
+            if (start < 0) return;
+            text = text.substring(start);
+            started = true;
+        }
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        feeder.feedInput(bytes, 0, bytes.length);
+        drain();
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while (!finished && (token = parser.nextToken()) != JsonToken.NOT_AVAILABLE) {
+            if (token == null) {
+                finished = true;
+                break;
+            }
+            switch (token) {
+                case START_OBJECT, START_ARRAY -> {
+                    depth++;
+                    if (token == JsonToken.START_ARRAY && depth == 2 && currentField != null) {
+                        currentList = new ArrayList<>();
+                    }
+                }
+                case END_OBJECT, END_ARRAY -> {
+                    if (token == JsonToken.END_ARRAY && depth == 2 && currentList != null) {
+                        handler.onList(currentField, currentList);
+                        currentList = null;
+                    }
+                    depth--;
+                    if (depth == 0) {
+                        finished = true;
+                    }
+                }
+                case FIELD_NAME -> {
+                    if (depth == 1) currentField = parser.currentName();
+                }
+                case VALUE_STRING -> {
+                    if (depth == 1 && currentField != null) {
+                        handler.onText(currentField, parser.getText());
+                    } else if (depth == 2 && currentList != null) {
+                        currentList.add(parser.getText());
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+    }
+}
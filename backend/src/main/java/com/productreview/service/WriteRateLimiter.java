@@ -0,0 +1,145 @@
+package com.productreview.service;
+
+import com.productreview.exception.RateLimitedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets for review writes, one per {@code deviceId} and one per client IP, so a single
+ * client looping on a write cannot turn into unbounded transactional load. A request takes a
+ * token from its IP's bucket and then its device's; when either is empty it is rejected with
+ * {@link RateLimitedException} before any query runs.
+ * <p>
+ * A bucket is one {@link AtomicLong} holding the time at which it will be full again (GCRA): a
+ * request moves that time one refill interval forward with a CAS, and is rejected when the time
+ * would be more than {@code capacity} intervals ahead. Buckets live in striped maps; every
+ * {@value #SWEEP_EVERY} requests one stripe is swept of buckets that are full again, which are
+ * indistinguishable from new ones. A request that races with the sweep may charge a bucket that
+ * was just dropped, which at most gives that client one extra token.
+ */
+@Component
+public class WriteRateLimiter {
+
+    private static final int STRIPES = 16;
+    private static final int SWEEP_EVERY = 256;
+
+    private final boolean enabled;
+    private final Limit devices;
+    private final Limit ips;
+    private final LongSupplier nanoTime;
+    private final AtomicLong requests = new AtomicLong();
+
+    @Autowired
+    public WriteRateLimiter(
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.device.capacity:20}") int deviceCapacity,
+            @Value("${rate-limit.device.per-minute:60}") int devicePerMinute,
+            @Value("${rate-limit.ip.capacity:200}") int ipCapacity,
+            @Value("${rate-limit.ip.per-minute:1200}") int ipPerMinute,
+            MeterRegistry registry
+    ) {
+        this(enabled, deviceCapacity, devicePerMinute, ipCapacity, ipPerMinute, registry, System::nanoTime);
+    }
+
+    WriteRateLimiter(boolean enabled, int deviceCapacity, int devicePerMinute, int ipCapacity, int ipPerMinute,
+                     MeterRegistry registry, LongSupplier nanoTime) {
+        this.enabled = enabled;
+        this.devices = new Limit("device", deviceCapacity, devicePerMinute, registry);
+        this.ips = new Limit("ip", ipCapacity, ipPerMinute, registry);
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Takes a token for one write, or throws {@link RateLimitedException} with the seconds until
+     * the emptier bucket has one again. A blank {@code deviceId} is limited by IP only.
+     */
+    public void acquire(String deviceId, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        long now = nanoTime.getAsLong();
+        if ((requests.incrementAndGet() & (SWEEP_EVERY - 1)) == 0) {
+            int stripe = (int) ((requests.get() / SWEEP_EVERY) % STRIPES);
+            devices.sweep(stripe, now);
+            ips.sweep(stripe, now);
+        }
+
+        long waitNanos = clientIp == null ? 0 : ips.tryAcquire(clientIp, now);
+        if (waitNanos == 0 && deviceId != null && !deviceId.isBlank()) {
+            waitNanos = devices.tryAcquire(deviceId, now);
+        }
+        if (waitNanos > 0) {
+            throw new RateLimitedException(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)));
+        }
+    }
+
+    private static final class Limit {
+
+        @SuppressWarnings("unchecked")
+        private final ConcurrentHashMap<String, AtomicLong>[] stripes = new ConcurrentHashMap[STRIPES];
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final Counter allowed;
+        private final Counter rejected;
+
+        Limit(String name, int capacity, int perMinute, MeterRegistry registry) {
+            for (int i = 0; i < STRIPES; i++) {
+                stripes[i] = new ConcurrentHashMap<>();
+            }
+            this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, perMinute);
+            this.toleranceNanos = intervalNanos * Math.max(1, capacity);
+            this.allowed = Counter.builder("rate.limit.requests").tag("limit", name).tag("outcome", "allowed")
+                    .description("Review writes checked against the rate limiter").register(registry);
+            this.rejected = Counter.builder("rate.limit.requests").tag("limit", name).tag("outcome", "rejected")
+                    .register(registry);
+            Gauge.builder("rate.limit.buckets", this, Limit::size).tag("limit", name)
+                    .description("Clients with a partly used bucket").register(registry);
+        }
+
+        /**
+         * 0 if a token was taken, otherwise the nanoseconds until one is available.
+         */
+        long tryAcquire(String key, long now) {
+            AtomicLong fullAt = stripe(key).computeIfAbsent(key, k -> new AtomicLong(now));
+            while (true) {
+                long current = fullAt.get();
+                long next = Math.max(current, now) + intervalNanos;
+                long wait = next - now - toleranceNanos;
+                if (wait > 0) {
+                    rejected.increment();
+                    return wait;
+                }
+                if (fullAt.compareAndSet(current, next)) {
+                    allowed.increment();
+                    return 0;
+                }
+            }
+        }
+
+        void sweep(int stripe, long now) {
+            stripes[stripe].values().removeIf(fullAt -> fullAt.get() - now <= 0);
+        }
+
+        private ConcurrentHashMap<String, AtomicLong> stripe(String key) {
+            int h = key.hashCode();
+            return stripes[(h ^ (h >>> 16)) & (STRIPES - 1)];
+        }
+
+        private double size() {
+            long size = 0;
+            for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+                size += stripe.size();
+            }
+            return size;
+        }
+    }
+}
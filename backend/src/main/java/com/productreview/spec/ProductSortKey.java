@@ -0,0 +1,63 @@
+package com.productreview.spec;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Sort keys accepted by the product listing. Each key orders by the columns of one composite
+ * index on {@code products} (and its {@code category}-prefixed twin), ending with {@code id} so
+ * pages are stable. Every column uses the requested direction, letting the database walk the
+ * index forwards or backwards instead of sorting the matching rows.
+ * <p>
+ * Unreviewed products have an {@code averageRating} of 0, so they come last in a descending
+ * {@link #AVERAGE_RATING} sort and first in an ascending one. Keeping them last in both directions
+ * would need a mixed-direction order that no index here can serve.
+ */
+public enum ProductSortKey {
+
+    REVIEW_COUNT("reviewCount", true, "reviewCount", "averageRating"),
+    AVERAGE_RATING("averageRating", true, "averageRating", "reviewCount"),
+    PRICE("price", false, "price"),
+    CREATED_AT("createdAt", false, "createdAt"),
+    NAME("name", false, "name");
+
+    private final String param;
+    private final boolean aggregateSort;
+    private final List<String> properties;
+
+    ProductSortKey(String param, boolean aggregateSort, String... properties) {
+        this.param = param;
+        this.aggregateSort = aggregateSort;
+        this.properties = List.of(properties);
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    /**
+     * Whether the order depends on review aggregates, i.e. can change when a review is written.
+     */
+    public boolean isAggregateSort() {
+        return aggregateSort;
+    }
+
+    public Sort toSort(Sort.Direction direction) {
+        return Sort.by(direction, properties.toArray(String[]::new)).and(Sort.by(direction, "id"));
+    }
+
+    public static ProductSortKey from(String sortBy) {
+        for (ProductSortKey key : values()) {
+            if (key.param.equals(sortBy)) {
+                return key;
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported sortBy '" + sortBy + "', expected one of "
+                + Arrays.stream(values()).map(ProductSortKey::getParam).collect(Collectors.joining(", ")));
+    }
+}
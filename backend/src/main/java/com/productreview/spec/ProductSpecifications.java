@@ -20,18 +20,7 @@ public final class ProductSpecifications {
             BigDecimal minPrice,
             BigDecimal maxPrice
     ) {
-        final String trimmed = search == null ? "" : search.trim();
-        final String[] rawTerms = trimmed.split("\\s+");
-
-        final List<String> terms = new ArrayList<>();
-        for (String t : rawTerms) {
-            if (t != null) {
-                String tt = t.trim();
-                if (!tt.isEmpty()) {
-                    terms.add(tt.toLowerCase());
-                }
-            }
-        }
+        final List<String> terms = searchTerms(search);
 
         return (root, query, cb) -> {
             List<Predicate> andPredicates = new ArrayList<>();
@@ -66,6 +55,25 @@ public final class ProductSpecifications {
         };
     }
 
+    /**
+     * Lower-cased search terms; a product matches when every term occurs in its name or description.
+     */
+    public static List<String> searchTerms(String search) {
+        final String trimmed = search == null ? "" : search.trim();
+        final String[] rawTerms = trimmed.split("\\s+");
+
+        final List<String> terms = new ArrayList<>();
+        for (String t : rawTerms) {
+            if (t != null) {
+                String tt = t.trim();
+                if (!tt.isEmpty()) {
+                    terms.add(tt.toLowerCase());
+                }
+            }
+        }
+        return terms;
+    }
+
     public static Specification<Product> categoryAndMultiTermSearch(String category, String search) {
         return categoryAndMultiTermSearch(category, search, null, null, null);
     }
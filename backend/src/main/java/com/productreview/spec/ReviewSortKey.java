@@ -0,0 +1,47 @@
+package com.productreview.spec;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Sort keys accepted by the reviews listing. Reviews are always read for one product, so each key
+ * follows an index that starts with {@code product_id} and continues with the sort columns in the
+ * same order and direction.
+ */
+public enum ReviewSortKey {
+
+    CREATED_AT("createdAt", "createdAt"),
+    HELPFUL_COUNT("helpfulCount", "helpfulCount", "createdAt"),
+    RATING("rating", "rating", "createdAt");
+
+    private final String param;
+    private final List<String> properties;
+
+    ReviewSortKey(String param, String... properties) {
+        this.param = param;
+        this.properties = List.of(properties);
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public Sort toSort(Sort.Direction direction) {
+        return Sort.by(direction, properties.toArray(String[]::new));
+    }
+
+    public static ReviewSortKey from(String sortBy) {
+        for (ReviewSortKey key : values()) {
+            if (key.param.equals(sortBy)) {
+                return key;
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported sortBy '" + sortBy + "', expected one of "
+                + Arrays.stream(values()).map(ReviewSortKey::getParam).collect(Collectors.joining(", ")));
+    }
+}
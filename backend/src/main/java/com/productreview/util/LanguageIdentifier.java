@@ -0,0 +1,131 @@
+package com.productreview.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Small character-trigram language identifier for the languages the app supports (en, tr, es).
+ * Profiles are trained once from the samples in {@code langid/*.txt}; detection is a naive Bayes
+ * score over the text's trigrams and does not allocate per character.
+ */
+public final class LanguageIdentifier {
+
+    public static final List<String> LANGUAGES = List.of("en", "tr", "es");
+
+    private static final int MIN_TRIGRAMS = 8;
+    private static final double MIN_MARGIN_PER_TRIGRAM = 0.15;
+
+    private static final long[] KEYS;
+    private static final float[] LOG_PROBS;
+
+    static {
+        int langs = LANGUAGES.size();
+        List<Map<Long, Integer>> counts = new ArrayList<>();
+        int[] totals = new int[langs];
+        Set<Long> vocabulary = new HashSet<>();
+        for (int l = 0; l < langs; l++) {
+            Map<Long, Integer> c = new HashMap<>();
+            String sample = loadSample(LANGUAGES.get(l));
+            char p1 = ' ';
+            char p2 = ' ';
+            for (int i = 0; i <= sample.length(); i++) {
+                char ch = i < sample.length() ? normalize(sample.charAt(i)) : ' ';
+                if (ch == ' ' && p2 == ' ') continue;
+                long key = pack(p1, p2, ch);
+                c.merge(key, 1, Integer::sum);
+                totals[l]++;
+                vocabulary.add(key);
+                p1 = p2;
+                p2 = ch;
+            }
+            counts.add(c);
+        }
+
+        KEYS = vocabulary.stream().mapToLong(Long::longValue).sorted().toArray();
+        LOG_PROBS = new float[KEYS.length * langs];
+        for (int k = 0; k < KEYS.length; k++) {
+            for (int l = 0; l < langs; l++) {
+                int n = counts.get(l).getOrDefault(KEYS[k], 0);
+                LOG_PROBS[k * langs + l] = (float) Math.log((n + 1.0) / (totals[l] + KEYS.length));
+            }
+        }
+    }
+
+    private LanguageIdentifier() {
+    }
+
+    /**
+     * Returns "en", "tr" or "es", or null when the text is too short or the scores are too close
+     * to call (callers should then treat the language as unknown).
+     */
+    public static String detect(String text) {
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+
+        int langs = LANGUAGES.size();
+        double[] scores = new double[langs];
+        int matched = 0;
+        char p1 = ' ';
+        char p2 = ' ';
+        int len = text.length();
+        for (int i = 0; i <= len; i++) {
+            char ch = i < len ? normalize(text.charAt(i)) : ' ';
+            if (ch == ' ' && p2 == ' ') continue;
+            int idx = Arrays.binarySearch(KEYS, pack(p1, p2, ch));
+            if (idx >= 0) {
+                int base = idx * langs;
+                for (int l = 0; l < langs; l++) {
+                    scores[l] += LOG_PROBS[base + l];
+                }
+                matched++;
+            }
+            p1 = p2;
+            p2 = ch;
+        }
+
+        if (matched < MIN_TRIGRAMS) {
+            return null;
+        }
+
+        int best = 0;
+        for (int l = 1; l < langs; l++) {
+            if (scores[l] > scores[best]) best = l;
+        }
+        double second = Double.NEGATIVE_INFINITY;
+        for (int l = 0; l < langs; l++) {
+            if (l != best && scores[l] > second) second = scores[l];
+        }
+        if ((scores[best] - second) / matched < MIN_MARGIN_PER_TRIGRAM) {
+            return null;
+        }
+        return LANGUAGES.get(best);
+    }
+
+    private static char normalize(char c) {
+        return Character.isLetter(c) ? Character.toLowerCase(c) : ' ';
+    }
+
+    private static long pack(char a, char b, char c) {
+        return ((long) a << 32) | ((long) b << 16) | c;
+    }
+
+    private static String loadSample(String lang) {
+        try (InputStream in = LanguageIdentifier.class.getResourceAsStream("/langid/" + lang + ".txt")) {
+            if (in == null) {
+                throw new IllegalStateException("Missing language sample: langid/" + lang + ".txt");
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read language sample: langid/" + lang + ".txt", e);
+        }
+    }
+}
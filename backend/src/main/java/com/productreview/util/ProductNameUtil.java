@@ -3,58 +3,126 @@ package com.productreview.util;
 public class ProductNameUtil {
     
     private static final String TURKISH_CHARS = "çğıöşüÇĞİÖŞÜ";
-    private static final String ENGLISH_CHARS = "cgiosuCGIOSU";
     
+    /**
+     * Trims the name, replaces Turkish characters with their ASCII counterparts, collapses
+     * whitespace runs to single spaces and capitalizes each word (first letter upper case, the
+     * rest lower case). Works in one pass over the characters without regexes; a name that is
+     * already normalized is returned as the same instance.
+     */
     public static String normalizeProductName(String name) {
-        if (name == null || name.trim().isEmpty()) {
+        if (name == null) {
+            return null;
+        }
+        int start = 0;
+        int end = name.length();
+        while (start < end && name.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && name.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
             return name;
         }
-        
-        // Remove Turkish characters
-        String normalized = replaceTurkishChars(name.trim());
-        
-        // Capitalize first letter of each word
-        return capitalizeWords(normalized);
-    }
-    
-    private static String replaceTurkishChars(String text) {
-        StringBuilder result = new StringBuilder();
-        for (int i = 0; i < text.length(); i++) {
-            char c = text.charAt(i);
-            int index = TURKISH_CHARS.indexOf(c);
-            if (index != -1) {
-                result.append(ENGLISH_CHARS.charAt(index));
+
+        // Output is a copy of the trimmed input until the first character that changes, so the
+        // buffer is only allocated from that point on.
+        char[] out = null;
+        int length = 0;
+        boolean wordStart = true;
+        boolean afterSeparator = false;
+        for (int i = start; i < end; i++) {
+            char c = name.charAt(i);
+            char mapped;
+            if (isSeparator(c)) {
+                if (afterSeparator) {
+                    if (out == null) {
+                        out = copyOf(name, start, length);
+                    }
+                    continue;
+                }
+                afterSeparator = true;
+                wordStart = true;
+                mapped = ' ';
             } else {
-                result.append(c);
+                afterSeparator = false;
+                mapped = toEnglish(c);
+                mapped = wordStart ? Character.toUpperCase(mapped) : Character.toLowerCase(mapped);
+                wordStart = false;
+            }
+            if (out == null && mapped != c) {
+                out = copyOf(name, start, length);
             }
+            if (out != null) {
+                out[length] = mapped;
+            }
+            length++;
+        }
+        if (out != null) {
+            return new String(out, 0, length);
         }
-        return result.toString();
+        return start == 0 && end == name.length() ? name : name.substring(start, end);
+    }
+
+    private static char[] copyOf(String name, int start, int length) {
+        char[] out = new char[name.length() - start];
+        name.getChars(start, start + length, out, 0);
+        return out;
+    }
+
+    // The whitespace characters matched by the regex \s.
+    private static boolean isSeparator(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static char toEnglish(char c) {
+        return switch (c) {
+            case 'ç' -> 'c';
+            case 'ğ' -> 'g';
+            case 'ı' -> 'i';
+            case 'ö' -> 'o';
+            case 'ş' -> 's';
+            case 'ü' -> 'u';
+            case 'Ç' -> 'C';
+            case 'Ğ' -> 'G';
+            case 'İ' -> 'I';
+            case 'Ö' -> 'O';
+            case 'Ş' -> 'S';
+            case 'Ü' -> 'U';
+            default -> c;
+        };
     }
     
-    private static String capitalizeWords(String text) {
-        if (text.isEmpty()) {
-            return text;
+    /**
+     * Search form of a name or query: Turkish characters replaced as in
+     * {@link #normalizeProductName}, lower case, whitespace runs collapsed to one space and
+     * leading whitespace removed. A trailing space is kept, so "pro " only matches the whole word.
+     */
+    public static String foldForSearch(String text) {
+        if (text == null) {
+            return "";
         }
-        
-        String[] words = text.split("\\s+");
-        StringBuilder result = new StringBuilder();
-        
-        for (int i = 0; i < words.length; i++) {
-            String word = words[i];
-            if (!word.isEmpty()) {
-                result.append(Character.toUpperCase(word.charAt(0)));
-                if (word.length() > 1) {
-                    result.append(word.substring(1).toLowerCase());
-                }
-                if (i < words.length - 1) {
-                    result.append(" ");
-                }
+        StringBuilder folded = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSeparator(c)) {
+                pendingSpace = folded.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                folded.append(' ');
+                pendingSpace = false;
             }
+            folded.append(Character.toLowerCase(toEnglish(c)));
         }
-        
-        return result.toString();
+        if (pendingSpace) {
+            folded.append(' ');
+        }
+        return folded.toString();
     }
-    
+
     public static boolean containsTurkishChars(String text) {
         if (text == null) {
             return false;
@@ -0,0 +1,105 @@
+package com.productreview.util;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Topic keyword tables shared by the local review summary and the per-product topic counters.
+ * The maps are built once; callers must treat them as read-only.
+ */
+public final class ReviewTopics {
+
+    private static final Map<String, Map<String, String>> LABELS = new LinkedHashMap<>();
+    private static final Map<String, List<String>> ELECTRONICS = new LinkedHashMap<>();
+    private static final Map<String, List<String>> CLOTHING = new LinkedHashMap<>();
+    private static final Map<String, List<String>> BOOKS = new LinkedHashMap<>();
+    private static final Map<String, List<String>> GENERAL = new LinkedHashMap<>();
+
+    static {
+        LABELS.put("battery", Map.of("en", "Battery", "tr", "Batarya", "es", "Batería"));
+        LABELS.put("performance", Map.of("en", "Performance", "tr", "Performans", "es", "Rendimiento"));
+        LABELS.put("price", Map.of("en", "Price", "tr", "Fiyat", "es", "Precio"));
+        LABELS.put("build", Map.of("en", "Build quality", "tr", "Malzeme kalitesi", "es", "Calidad de construcción"));
+        LABELS.put("camera", Map.of("en", "Camera", "tr", "Kamera", "es", "Cámara"));
+        LABELS.put("delivery", Map.of("en", "Delivery", "tr", "Kargo", "es", "Envío"));
+        LABELS.put("packaging", Map.of("en", "Packaging", "tr", "Paketleme", "es", "Embalaje"));
+        LABELS.put("comfort", Map.of("en", "Comfort", "tr", "Konfor", "es", "Comodidad"));
+        LABELS.put("usability", Map.of("en", "Usability", "tr", "Kullanım", "es", "Usabilidad"));
+
+        ELECTRONICS.put("battery", List.of("battery", "batarya", "pil", "charge", "şarj", "bateria", "carga"));
+        ELECTRONICS.put("performance", List.of("performance", "speed", "fast", "performans", "hız", "rapido", "rendimiento"));
+        ELECTRONICS.put("camera", List.of("camera", "kamera", "cámara", "photo", "foto"));
+        ELECTRONICS.put("build", List.of("build", "quality", "malzeme", "kalite", "construction", "construcción"));
+        ELECTRONICS.put("price", List.of("price", "fiyat", "precio", "expensive", "pahalı", "caro"));
+        ELECTRONICS.put("delivery", List.of("delivery", "shipping", "kargo", "envío"));
+        ELECTRONICS.put("packaging", List.of("package", "packaging", "paket", "embalaje"));
+        ELECTRONICS.put("usability", List.of("usability", "easy", "kullanım", "kolay", "usabilidad"));
+
+        CLOTHING.put("comfort", List.of("comfortable", "comfort", "konfor", "rahat", "comodidad"));
+        CLOTHING.put("build", List.of("fabric", "quality", "kumaş", "kalite", "tela", "calidad"));
+        CLOTHING.put("price", List.of("price", "fiyat", "precio", "expensive", "pahalı", "caro"));
+        CLOTHING.put("delivery", List.of("delivery", "shipping", "kargo", "envío"));
+        CLOTHING.put("packaging", List.of("package", "packaging", "paket", "embalaje"));
+        CLOTHING.put("usability", List.of("fit", "size", "beden", "uyum", "talla", "ajuste"));
+
+        BOOKS.put("usability", List.of("translation", "çeviri", "traducción", "writing", "yazım", "prose", "estilo"));
+        BOOKS.put("build", List.of("cover", "kapak", "paper", "kağıt", "portada", "papel"));
+        BOOKS.put("price", List.of("price", "fiyat", "precio", "expensive", "pahalı", "caro"));
+        BOOKS.put("delivery", List.of("delivery", "shipping", "kargo", "envío"));
+        BOOKS.put("packaging", List.of("package", "packaging", "paket", "embalaje"));
+
+        GENERAL.put("build", List.of("quality", "kalite", "calidad", "material", "malzeme"));
+        GENERAL.put("price", List.of("price", "fiyat", "precio", "expensive", "pahalı", "caro"));
+        GENERAL.put("delivery", List.of("delivery", "shipping", "kargo", "envío"));
+        GENERAL.put("packaging", List.of("package", "packaging", "paket", "embalaje"));
+        GENERAL.put("usability", List.of("easy", "kolay", "usabilidad", "usable"));
+    }
+
+    private ReviewTopics() {
+    }
+
+    /**
+     * Topic keys in their display priority order (used to break ties between equal counts).
+     */
+    public static Set<String> keys() {
+        return Collections.unmodifiableSet(LABELS.keySet());
+    }
+
+    public static String label(String lang, String topicKey) {
+        Map<String, String> m = LABELS.get(topicKey);
+        if (m == null) return topicKey;
+        return m.getOrDefault(lang, m.get("en"));
+    }
+
+    public static Map<String, List<String>> keywords(String category) {
+        String c = category == null ? "" : category.toLowerCase();
+        if (c.contains("electronics")) return ELECTRONICS;
+        if (c.contains("clothing")) return CLOTHING;
+        if (c.contains("books")) return BOOKS;
+        return GENERAL;
+    }
+
+    /**
+     * Returns the topics a single comment mentions; each topic counts at most once per comment.
+     */
+    public static Set<String> mentionedTopics(String category, String comment) {
+        if (comment == null || comment.trim().isEmpty()) {
+            return Set.of();
+        }
+        String text = comment.toLowerCase();
+        Set<String> out = new LinkedHashSet<>();
+        for (Map.Entry<String, List<String>> e : keywords(category).entrySet()) {
+            for (String kw : e.getValue()) {
+                if (text.contains(kw)) {
+                    out.add(e.getKey());
+                    break;
+                }
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,95 @@
+package com.productreview.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits review text into sentences for the translation memory. Each piece keeps the whitespace
+ * that followed it, so joining {@code text + separator} reproduces the input exactly.
+ */
+public final class SentenceSplitter {
+
+    private SentenceSplitter() {
+    }
+
+    public record Sentence(String text, String separator) {
+    }
+
+    public static List<Sentence> split(String text) {
+        List<Sentence> out = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return out;
+        }
+
+        int len = text.length();
+        int start = 0;
+        int i = 0;
+        while (i < len) {
+            char c = text.charAt(i);
+            boolean boundary = false;
+            int end = i + 1;
+            if (c == '\n') {
+                boundary = true;
+                end = i;
+            } else if (isTerminator(c)) {
+                while (end < len && (isTerminator(text.charAt(end)) || isCloser(text.charAt(end)))) {
+                    end++;
+                }
+                boundary = end == len || Character.isWhitespace(text.charAt(end));
+            }
+
+            if (!boundary) {
+                i++;
+                continue;
+            }
+
+            int next = end;
+            while (next < len && Character.isWhitespace(text.charAt(next))) {
+                next++;
+            }
+            if (end > start) {
+                out.add(new Sentence(text.substring(start, end), text.substring(end, next)));
+            } else if (!out.isEmpty()) {
+                Sentence last = out.remove(out.size() - 1);
+                out.add(new Sentence(last.text(), last.separator() + text.substring(end, next)));
+            } else {
+                // Leading whitespace stays attached to the first sentence.
+                i = next;
+                continue;
+            }
+            start = next;
+            i = next;
+        }
+        if (start < len) {
+            out.add(new Sentence(text.substring(start), ""));
+        }
+        return out;
+    }
+
+    /**
+     * Cache key form of a sentence: surrounding whitespace trimmed and inner runs collapsed.
+     */
+    public static String normalize(String sentence) {
+        StringBuilder sb = new StringBuilder(sentence.length());
+        boolean space = false;
+        for (int i = 0; i < sentence.length(); i++) {
+            char c = sentence.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = sb.length() > 0;
+            } else {
+                if (space) sb.append(' ');
+                sb.append(c);
+                space = false;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean isTerminator(char c) {
+        return c == '.' || c == '!' || c == '?' || c == '…';
+    }
+
+    private static boolean isCloser(char c) {
+        return c == '"' || c == '\'' || c == ')' || c == '»' || c == '”' || c == '’';
+    }
+}
@@ -0,0 +1,39 @@
+package com.productreview.util;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Samples ranks {@code 0..n-1} with probability proportional to {@code 1 / (rank + 1)^exponent}.
+ * Used by the synthetic data seeder and the load generator to give a few products most of the
+ * reviews and most of the traffic, as real catalogs do.
+ */
+public final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    public ZipfSampler(int n, double exponent) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n must be positive");
+        }
+        cumulative = new double[n];
+        double sum = 0.0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    public int next(Random random) {
+        int idx = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = idx >= 0 ? idx : -idx - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+
+    public int size() {
+        return cumulative.length;
+    }
+}
@@ -0,0 +1,68 @@
+package com.productreview.config;
+
+import com.productreview.entity.Product;
+import com.productreview.repository.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "llm.provider=stub")
+@ActiveProfiles("dev")
+class ImageUrlsMigrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CommandLineRunner migrateLegacyImageUrls;
+
+    @AfterEach
+    void dropLegacyColumn() {
+        jdbcTemplate.execute("ALTER TABLE products DROP COLUMN IF EXISTS image_urls");
+    }
+
+    @Test
+    void migratesValidAndMalformedLegacyRowsOnce() throws Exception {
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM products ORDER BY id LIMIT 3", Long.class);
+        jdbcTemplate.execute("ALTER TABLE products ADD COLUMN image_urls TEXT");
+        jdbcTemplate.update("UPDATE products SET image_urls = ? WHERE id = ?",
+                "[\"https://img.example/a.jpg\", \"https://img.example/b.jpg\"]", ids.get(0));
+        jdbcTemplate.update("UPDATE products SET image_urls = ? WHERE id = ?",
+                "[\"https://img.example/c.jpg\", https://img.example/d.jpg", ids.get(1));
+        jdbcTemplate.update("UPDATE products SET image_urls = ? WHERE id = ?", "", ids.get(2));
+
+        migrateLegacyImageUrls.run();
+
+        assertEquals(List.of("https://img.example/a.jpg", "https://img.example/b.jpg"), imageUrls(ids.get(0)));
+        assertEquals(List.of("https://img.example/c.jpg", "https://img.example/d.jpg"), imageUrls(ids.get(1)));
+        assertEquals(List.of(), imageUrls(ids.get(2)));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products WHERE image_urls IS NOT NULL", Integer.class));
+
+        // A second start finds nothing left to migrate and leaves the new column alone.
+        jdbcTemplate.update("UPDATE products SET images = ARRAY['https://img.example/e.jpg'] WHERE id = ?", ids.get(0));
+        migrateLegacyImageUrls.run();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        assertEquals(List.of("https://img.example/e.jpg"), imageUrls(ids.get(0)));
+    }
+
+    private List<String> imageUrls(Long id) {
+        Product product = productRepository.findById(id).orElseThrow();
+        return product.getImageUrls();
+    }
+}
@@ -0,0 +1,98 @@
+package com.productreview.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.productreview.repository.ProductRepository;
+import com.productreview.support.QueryCounter;
+import com.productreview.support.QueryCountingDataSourceConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * ETags on the catalog and review endpoints: an unchanged resource is answered with 304 and no
+ * SQL, and a review write changes the ETag.
+ */
+@SpringBootTest(properties = "llm.provider=stub")
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+@Import(QueryCountingDataSourceConfig.class)
+class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private long productId;
+
+    @BeforeEach
+    void setUp() {
+        productId = productRepository.findAll().get(0).getId();
+    }
+
+    @Test
+    void productDetail() throws Exception {
+        expectRevalidation(get("/api/products/{id}", productId));
+    }
+
+    @Test
+    void productListing() throws Exception {
+        expectRevalidation(get("/api/products").param("sortBy", "reviewCount"));
+    }
+
+    @Test
+    void reviewPage() throws Exception {
+        expectRevalidation(get("/api/reviews/product/{id}", productId));
+    }
+
+    private void expectRevalidation(MockHttpServletRequestBuilder request) throws Exception {
+        MockHttpServletResponse first = mockMvc.perform(request).andReturn().getResponse();
+        assertEquals(200, first.getStatus());
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag, "No ETag on " + request);
+
+        QueryCounter.reset();
+        MockHttpServletResponse unchanged = mockMvc.perform(request.header(HttpHeaders.IF_NONE_MATCH, etag)).andReturn().getResponse();
+        assertEquals(304, unchanged.getStatus());
+        assertEquals(0, QueryCounter.count(), "304 still ran:\n  " + String.join("\n  ", QueryCounter.statements()));
+
+        createReview();
+
+        MockHttpServletResponse changed = mockMvc.perform(request.header(HttpHeaders.IF_NONE_MATCH, etag)).andReturn().getResponse();
+        assertEquals(200, changed.getStatus());
+        assertNotEquals(etag, changed.getHeader(HttpHeaders.ETAG));
+    }
+
+    private void createReview() throws Exception {
+        int status = mockMvc.perform(post("/api/reviews")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "productId", productId,
+                                "comment", "Exactly as pictured, would buy again.",
+                                "rating", 2,
+                                "deviceId", "etag-" + System.nanoTime()))))
+                .andReturn().getResponse().getStatus();
+        assertEquals(201, status);
+    }
+}
@@ -0,0 +1,51 @@
+package com.productreview.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Behind the load balancer every request comes from its address; the per-IP write limit must key
+ * on the client address in {@code X-Forwarded-For} instead. Runs on a real server because the
+ * header is applied by Tomcat's remote IP valve, not by a servlet filter.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "llm.provider=stub",
+        "rate-limit.ip.capacity=2",
+        "rate-limit.ip.per-minute=1"})
+@ActiveProfiles("dev")
+class ForwardedClientIpTest {
+
+    private final AtomicInteger devices = new AtomicInteger();
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void limitsEachForwardedClientSeparately() {
+        assertEquals(404, deleteMissingReview("203.0.113.7"));
+        assertEquals(404, deleteMissingReview("203.0.113.7"));
+        assertEquals(429, deleteMissingReview("203.0.113.7"));
+
+        // Another client behind the same proxy, and the original client behind a second proxy hop
+        assertEquals(404, deleteMissingReview("203.0.113.8"));
+        assertEquals(429, deleteMissingReview("203.0.113.7, 10.0.0.5"));
+    }
+
+    private int deleteMissingReview(String forwardedFor) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Forwarded-For", forwardedFor);
+        // A new device each time, so only the IP bucket can run out
+        return restTemplate.exchange("/api/reviews/999999999?deviceId=forwarded-" + devices.incrementAndGet(),
+                HttpMethod.DELETE, new HttpEntity<>(headers), String.class).getStatusCode().value();
+    }
+}
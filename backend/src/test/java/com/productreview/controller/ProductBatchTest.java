@@ -0,0 +1,63 @@
+package com.productreview.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.productreview.entity.Product;
+import com.productreview.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@code GET /api/products/batch}: requested order, duplicates and unknown ids, and the id limit.
+ */
+@SpringBootTest(properties = "llm.provider=stub")
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class ProductBatchTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void returnsProductsInRequestedOrderAndReportsMissingIds() throws Exception {
+        List<Product> products = productRepository.findAll();
+        long first = products.get(0).getId();
+        long second = products.get(1).getId();
+
+        String body = mockMvc.perform(get("/api/products/batch").param("ids", second + ",999999," + first + "," + second))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode batch = objectMapper.readTree(body);
+
+        assertEquals(2, batch.get("products").size());
+        assertEquals(second, batch.get("products").get(0).get("id").asLong());
+        assertEquals(first, batch.get("products").get(1).get("id").asLong());
+        assertEquals(products.get(0).getName(), batch.get("products").get(1).get("name").asText());
+        assertEquals(1, batch.get("missingIds").size());
+        assertEquals(999999L, batch.get("missingIds").get(0).asLong());
+    }
+
+    @Test
+    void rejectsTooManyIds() throws Exception {
+        String ids = LongStream.rangeClosed(1, 101).mapToObj(Long::toString).collect(Collectors.joining(","));
+        mockMvc.perform(get("/api/products/batch").param("ids", ids)).andExpect(status().isBadRequest());
+    }
+}
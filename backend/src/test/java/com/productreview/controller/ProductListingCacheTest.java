@@ -0,0 +1,106 @@
+package com.productreview.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.productreview.entity.Product;
+import com.productreview.repository.ProductRepository;
+import com.productreview.support.QueryCounter;
+import com.productreview.support.QueryCountingDataSourceConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Listing pages are served from {@code ProductListingCache} until a review write changes
+ * something they show.
+ */
+@SpringBootTest(properties = "llm.provider=stub")
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+@Import(QueryCountingDataSourceConfig.class)
+class ProductListingCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void repeatedListingRunsNoSql() throws Exception {
+        RequestBuilder listing = get("/api/products").param("category", "Books").param("sortBy", "price");
+        String first = body(listing);
+
+        QueryCounter.reset();
+        String second = body(listing);
+        assertEquals(0, QueryCounter.count(), "Cached listing still ran:\n  " + String.join("\n  ", QueryCounter.statements()));
+        assertEquals(first, second);
+    }
+
+    @Test
+    void reviewWriteRefreshesPagesShowingTheProduct() throws Exception {
+        RequestBuilder listing = get("/api/products").param("sortBy", "reviewCount");
+        long productId = objectMapper.readTree(body(listing)).path("content").get(0).path("id").asLong();
+        long before = reviewCount(body(listing), productId);
+
+        createReview(productId, "listing-refresh");
+
+        assertEquals(before + 1, reviewCount(body(listing), productId));
+    }
+
+    @Test
+    void reviewWriteKeepsUnrelatedPages() throws Exception {
+        List<Product> products = productRepository.findAll();
+        Product other = products.stream().filter(p -> !"Clothing".equals(p.getCategory())).findFirst().orElseThrow();
+        RequestBuilder listing = get("/api/products").param("category", "Clothing").param("sortBy", "name").param("sortDir", "ASC");
+        body(listing);
+
+        createReview(other.getId(), "listing-unrelated");
+
+        QueryCounter.reset();
+        body(listing);
+        assertEquals(0, QueryCounter.count(), "Unrelated page was dropped:\n  " + String.join("\n  ", QueryCounter.statements()));
+    }
+
+    private String body(RequestBuilder request) throws Exception {
+        return mockMvc.perform(request).andReturn().getResponse().getContentAsString();
+    }
+
+    private long reviewCount(String listing, long productId) throws Exception {
+        for (JsonNode product : objectMapper.readTree(listing).path("content")) {
+            if (product.path("id").asLong() == productId) {
+                return product.path("reviewCount").asLong();
+            }
+        }
+        throw new AssertionError("Product " + productId + " not on the page");
+    }
+
+    private void createReview(long productId, String deviceId) throws Exception {
+        int status = mockMvc.perform(post("/api/reviews")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "productId", productId,
+                                "comment", "Arrived quickly and works as described.",
+                                "rating", 5,
+                                "deviceId", deviceId))))
+                .andReturn().getResponse().getStatus();
+        assertTrue(status == 201, "Review was not created: " + status);
+    }
+}
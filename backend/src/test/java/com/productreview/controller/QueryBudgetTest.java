@@ -0,0 +1,201 @@
+package com.productreview.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.productreview.entity.Review;
+import com.productreview.repository.ProductRepository;
+import com.productreview.repository.ReviewHelpfulVoteRepository;
+import com.productreview.repository.ReviewRepository;
+import com.productreview.service.ReviewService;
+import com.productreview.support.QueryCounter;
+import com.productreview.support.QueryCountingDataSourceConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Per-endpoint SQL budgets. Each test issues one request and fails when it executes more
+ * statements than its budget, listing the statements that ran; lower a budget when an endpoint
+ * gets cheaper so the gain is locked in. Reviews and votes a test writes are removed after it,
+ * so budgets do not depend on test order.
+ */
+@SpringBootTest(properties = "llm.provider=stub")
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+@Import(QueryCountingDataSourceConfig.class)
+class QueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ReviewHelpfulVoteRepository reviewHelpfulVoteRepository;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    private long productId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        productId = productRepository.findAll().get(0).getId();
+        for (int i = 0; i < 3; i++) {
+            createReview("budget-seed-" + i);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Through the service, so the product's aggregates and the caches follow
+        for (Review review : reviewRepository.findByProductId(productId)) {
+            if (review.getDeviceId() == null || !review.getDeviceId().startsWith("budget-")) {
+                continue;
+            }
+            if (reviewHelpfulVoteRepository.findByReviewIdAndDeviceId(review.getId(), "budget-voter").isPresent()) {
+                reviewService.toggleHelpful(review.getId(), "budget-voter");
+            }
+            reviewService.deleteReview(review.getId(), review.getDeviceId());
+        }
+    }
+
+    @Test
+    void listProducts() throws Exception {
+        expectQueries(3, get("/api/products"));
+    }
+
+    @Test
+    void listProductsSortedByPrice() throws Exception {
+        expectQueries(3, get("/api/products").param("sortBy", "price").param("sortDir", "ASC"));
+    }
+
+    @Test
+    void listProductsFiltered() throws Exception {
+        expectQueries(3, get("/api/products").param("category", "Electronics").param("search", "pro").param("minRating", "1"));
+    }
+
+    @Test
+    void productFacets() throws Exception {
+        expectQueries(1, get("/api/products/facets").param("search", "pro").param("minPrice", "10"));
+    }
+
+    @Test
+    void productDetail() throws Exception {
+        expectQueries(3, get("/api/products/{id}", productId));
+    }
+
+    @Test
+    void unknownProductAgain() throws Exception {
+        mockMvc.perform(get("/api/products/{id}", 999_999L)).andExpect(status().isNotFound());
+        QueryCounter.reset();
+        mockMvc.perform(get("/api/products/{id}", 999_999L)).andExpect(status().isNotFound());
+        assertEquals(0, QueryCounter.count(), String.join("\n  ", QueryCounter.statements()));
+    }
+
+    @Test
+    void productBatch() throws Exception {
+        expectQueries(2, get("/api/products/batch").param("ids", productId + ",999999," + productId));
+    }
+
+    @Test
+    void reviewSummary() throws Exception {
+        expectQueries(3, get("/api/products/{id}/review-summary", productId).param("lang", "en"));
+    }
+
+    @Test
+    void reviewsByProduct() throws Exception {
+        expectQueries(2, get("/api/reviews/product/{id}", productId));
+    }
+
+    @Test
+    void createReview() throws Exception {
+        expectQueries(4, post("/api/reviews")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of(
+                        "productId", productId,
+                        "comment", "Battery lasts all day.",
+                        "rating", 4,
+                        "deviceId", "budget-create"))));
+    }
+
+    @Test
+    void updateReview() throws Exception {
+        long reviewId = createReview("budget-update");
+        expectQueries(5, put("/api/reviews/{id}", reviewId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of(
+                        "comment", "Battery is fine, camera is great.",
+                        "rating", 5,
+                        "deviceId", "budget-update"))));
+    }
+
+    @Test
+    void deleteReview() throws Exception {
+        long reviewId = createReview("budget-delete");
+        expectQueries(5, delete("/api/reviews/{id}", reviewId).param("deviceId", "budget-delete"));
+    }
+
+    @Test
+    void toggleHelpful() throws Exception {
+        long reviewId = createReview("budget-helpful");
+        expectQueries(4, post("/api/reviews/{id}/helpful", reviewId).param("deviceId", "budget-voter"));
+    }
+
+    @Test
+    void translate() throws Exception {
+        expectQueries(0, post("/api/translate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"lang\":\"tr\",\"texts\":[\"Great value for the money.\"]}"));
+    }
+
+    private long createReview(String deviceId) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/reviews")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "productId", productId,
+                                "comment", "Good product, delivery was fast.",
+                                "rating", 4,
+                                "deviceId", deviceId))))
+                .andReturn();
+        JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+        return body.path("id").asLong();
+    }
+
+    private void expectQueries(int budget, RequestBuilder request) throws Exception {
+        QueryCounter.reset();
+        MvcResult result = mockMvc.perform(request).andReturn();
+        int status = result.getResponse().getStatus();
+        assertTrue(status >= 200 && status < 300, "Unexpected status " + status + ": " + result.getResponse().getContentAsString());
+
+        int count = QueryCounter.count();
+        assertTrue(count <= budget, "Expected at most " + budget + " statements but " + count + " ran:\n  "
+                + String.join("\n  ", QueryCounter.statements()));
+    }
+}
@@ -0,0 +1,104 @@
+package com.productreview.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.productreview.entity.Product;
+import com.productreview.repository.ProductRepository;
+import com.productreview.repository.ReviewRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@code POST /api/reviews} with {@code Prefer: respond-async}: accepted with 202, checked before
+ * queueing, and written with the product's aggregates by the writer thread.
+ */
+@SpringBootTest(properties = {"llm.provider=stub", "review-ingest.enabled=true"})
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class ReviewIngestQueueTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Test
+    void queuesReviewsAndWritesThemWithAggregates() throws Exception {
+        Product product = productRepository.findAll().get(0);
+        long before = reviewRepository.countByProductId(product.getId());
+
+        for (int i = 0; i < 5; i++) {
+            String body = mockMvc.perform(post("/api/reviews")
+                            .header("Prefer", "respond-async")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(review(product.getId(), "Queued review number " + i)))
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().string("Preference-Applied", "respond-async"))
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode accepted = objectMapper.readTree(body);
+            assertFalse(accepted.get("ingestionId").asText().isEmpty());
+            assertEquals("QUEUED", accepted.get("status").asText());
+        }
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (reviewRepository.countByProductId(product.getId()) < before + 5 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(before + 5, reviewRepository.countByProductId(product.getId()));
+        // Inserts and the aggregate update commit together
+        assertEquals(before + 5, productRepository.findById(product.getId()).orElseThrow().getReviewCount());
+    }
+
+    @Test
+    void checksReviewsBeforeQueueing() throws Exception {
+        mockMvc.perform(post("/api/reviews")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(review(999_999L, "A review for nothing at all")))
+                .andExpect(status().isNotFound());
+
+        Product product = productRepository.findAll().get(0);
+        mockMvc.perform(post("/api/reviews")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(review(product.getId(), "short")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void writesSynchronouslyWithoutPreferHeader() throws Exception {
+        Product product = productRepository.findAll().get(0);
+        mockMvc.perform(post("/api/reviews")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(review(product.getId(), "Written before the response")))
+                .andExpect(status().isCreated());
+    }
+
+    private String review(long productId, String comment) throws Exception {
+        return objectMapper.writeValueAsString(Map.of(
+                "productId", productId,
+                "comment", comment,
+                "rating", 4,
+                "deviceId", "ingest-test"));
+    }
+}
@@ -0,0 +1,90 @@
+package com.productreview.llm;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Server-sent event lines of a streamed completion, and stopping the stream once the listener
+ * has what it needs.
+ */
+class GroqLlmClientTest {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    @Test
+    void extractsContentFromStreamedLines() throws IOException {
+        assertEquals("Solid", content("data: {\"id\":\"c1\",\"choices\":[{\"index\":0,\"delta\":{\"content\":\"Solid\"},\"finish_reason\":null}]}"));
+        assertEquals(" \"pro\"\n", content("data:{\"choices\":[{\"delta\":{\"content\":\" \\\"pro\\\"\\n\"}}]}"));
+
+        // Role-only first delta, empty final delta with usage, comments and blank lines carry no content
+        assertEquals("", content("data: {\"choices\":[{\"index\":0,\"delta\":{\"role\":\"assistant\"}}]}"));
+        assertEquals("", content("data: {\"choices\":[{\"index\":0,\"delta\":{},\"finish_reason\":\"stop\"}],\"x_groq\":{\"usage\":{\"total_tokens\":9}}}"));
+        assertEquals("", content("data: {\"choices\":[{\"delta\":{\"content\":null}}]}"));
+        assertEquals("", content(": keep-alive"));
+        assertEquals("", content(""));
+
+        assertNull(content("data: [DONE]"));
+    }
+
+    @Test
+    void stopsReadingWhenTheListenerIsDone() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/chat/completions", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (String delta : List.of("{\\\"takeaway\\\"", ":\\\"Fine\\\"}", "trailing text")) {
+                    out.write(("data: {\"choices\":[{\"delta\":{\"content\":\"" + delta + "\"}}]}\n\n").getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+                }
+                // The rest of the completion only arrives once the test is over
+                release.await(10, TimeUnit.SECONDS);
+                out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                // The client closed the stream
+            }
+        });
+        server.start();
+        try {
+            GroqLlmClient client = new GroqLlmClient(new ObjectMapper(), new LlmCallMetrics(new SimpleMeterRegistry()), "key",
+                    "model", "http://127.0.0.1:" + server.getAddress().getPort(), Duration.ofSeconds(2));
+            List<String> deltas = new ArrayList<>();
+
+            long start = System.nanoTime();
+            client.stream(new LlmRequest("summary", "system", "user", 0.2, Duration.ofSeconds(5)), delta -> {
+                deltas.add(delta);
+                return !delta.endsWith("}");
+            });
+
+            assertEquals(List.of("{\"takeaway\"", ":\"Fine\"}"), deltas);
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5), "stream waited for [DONE]");
+        } finally {
+            release.countDown();
+            server.stop(0);
+        }
+    }
+
+    private static String content(String line) throws IOException {
+        return GroqLlmClient.extractStreamedContent(JSON, line);
+    }
+}
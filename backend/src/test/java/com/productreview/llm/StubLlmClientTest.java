@@ -0,0 +1,29 @@
+package com.productreview.llm;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Payload sizes recorded by the stub are UTF-8 bytes, the unit {@link GroqLlmClient} records.
+ */
+class StubLlmClientTest {
+
+    @Test
+    void recordsSizesInUtf8Bytes() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        StubLlmClient client = new StubLlmClient(new LlmCallMetrics(registry), Duration.ZERO);
+        String prompt = "Translate:\n[\"Şarjı çabuk bitiyor\",\"Muy pequeño\"]";
+
+        String content = client.complete(new LlmRequest("translate", "Output language: es.", prompt, 0.0, Duration.ofSeconds(1)));
+
+        assertEquals(prompt.getBytes(StandardCharsets.UTF_8).length,
+                registry.get("llm.request.size").tag("operation", "translate").summary().totalAmount());
+        assertEquals(content.getBytes(StandardCharsets.UTF_8).length,
+                registry.get("llm.response.size").tag("operation", "translate").summary().totalAmount());
+    }
+}
@@ -0,0 +1,95 @@
+package com.productreview.repository;
+
+import com.productreview.dto.CreateReviewDTO;
+import com.productreview.entity.Product;
+import com.productreview.service.ReviewService;
+import com.productreview.support.QueryCounter;
+import com.productreview.support.QueryCountingDataSourceConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Second-level and query cache behaviour for products: repeat reads are served without SQL,
+ * and a review write is visible to the next read instead of a stale cached copy.
+ */
+@SpringBootTest(properties = "llm.provider=stub")
+@ActiveProfiles("dev")
+@Import(QueryCountingDataSourceConfig.class)
+class ProductCacheTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private long productId;
+
+    @BeforeEach
+    void setUp() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        productId = productRepository.findAll(PageRequest.of(0, 1, Sort.by("id"))).getContent().get(0).getId();
+    }
+
+    @Test
+    void findByIdIsServedFromTheSecondLevelCache() {
+        productRepository.findById(productId);
+
+        QueryCounter.reset();
+        productRepository.findById(productId);
+        assertEquals(0, QueryCounter.count(), "Cached product still ran:\n  " + String.join("\n  ", QueryCounter.statements()));
+    }
+
+    @Test
+    void reviewWriteUpdatesTheCachedProduct() {
+        long before = productRepository.findById(productId).orElseThrow().getReviewCount();
+
+        reviewService.createReview(review("cache-write"));
+
+        Product after = productRepository.findById(productId).orElseThrow();
+        assertEquals(before + 1, after.getReviewCount());
+    }
+
+    @Test
+    void categoryListingIsCachedUntilAProductChanges() {
+        String category = productRepository.findById(productId).orElseThrow().getCategory();
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "reviewCount", "averageRating", "id"));
+        productRepository.findByCategory(category, pageable);
+
+        QueryCounter.reset();
+        productRepository.findByCategory(category, pageable);
+        assertEquals(0, QueryCounter.count(), "Cached listing still ran:\n  " + String.join("\n  ", QueryCounter.statements()));
+
+        reviewService.createReview(review("cache-listing"));
+
+        QueryCounter.reset();
+        Page<Product> page = productRepository.findByCategory(category, pageable);
+        assertTrue(QueryCounter.count() > 0, "Listing was served from the cache after a product changed");
+        assertTrue(page.getContent().stream().anyMatch(p -> p.getId() == productId && p.getReviewCount() > 0));
+    }
+
+    private CreateReviewDTO review(String deviceId) {
+        CreateReviewDTO dto = new CreateReviewDTO();
+        dto.setProductId(productId);
+        dto.setComment("Solid build quality and fast delivery.");
+        dto.setRating(5);
+        dto.setDeviceId(deviceId);
+        return dto;
+    }
+}
@@ -0,0 +1,344 @@
+package com.productreview.repository;
+
+import com.productreview.service.ProductFullTextSearch;
+import com.productreview.spec.ProductSortKey;
+import com.productreview.spec.ProductSpecifications;
+import com.productreview.spec.ReviewSortKey;
+import com.productreview.support.QueryCounter;
+import com.productreview.support.QueryCountingDataSourceConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ActiveProfilesResolver;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Runs every repository query (and, on PostgreSQL, the ranked full-text search) with
+ * representative parameters, captures the SQL issued and EXPLAINs it, failing when the plan scans the whole {@code reviews} or
+ * {@code products} table. Runs against H2 by default; use a local PostgreSQL with
+ * {@code -Dqueryplan.profile=postgres}. Data size is set with {@code -Dqueryplan.products}
+ * and {@code -Dqueryplan.reviews}.
+ */
+@SpringBootTest(properties = "llm.provider=stub")
+@ActiveProfiles(resolver = QueryPlanTest.ProfileResolver.class)
+@Import(QueryCountingDataSourceConfig.class)
+class QueryPlanTest {
+
+    private static final int PRODUCTS = Integer.getInteger("queryplan.products", 2_000);
+    private static final int REVIEWS = Integer.getInteger("queryplan.reviews", 20_000);
+
+    private static final Set<String> GUARDED_TABLES = Set.of("reviews", "products");
+
+    private static final Pattern SEQ_SCAN = Pattern.compile("Seq Scan on (\\w+)");
+    private static final Pattern TABLE_SCAN = Pattern.compile("/\\* PUBLIC\\.(\\w+)\\.tableScan \\*/");
+    private static final Pattern UNBOUNDED_INDEX_SCAN = Pattern.compile("/\\* PUBLIC\\.(\\w+) \\*/");
+    private static final Pattern ORDER_BY = Pattern.compile("\\border by\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern PG_SORT = Pattern.compile("\\bSort Key:");
+    private static final String H2_INDEX_SORTED = "/* index sorted */";
+    private static final String H2_DIRECT_LOOKUP = "/* direct lookup */";
+
+    /**
+     * Queries that are expected to read the whole table, with the reason.
+     */
+    private static final Map<String, String> FULL_SCAN_ALLOWED = Map.ofEntries(
+            Map.entry("ProductRepository.searchProducts", "leading-wildcard LIKE cannot use a b-tree index"),
+            Map.entry("ProductRepository.findByCategoryAndSearch", "leading-wildcard LIKE cannot use a b-tree index"),
+            Map.entry("ProductRepository.findAll[search spec]", "leading-wildcard LIKE cannot use a b-tree index"),
+            Map.entry("ProductRepository.count", "total for the unfiltered listing page")
+    );
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ProductTopicCountRepository productTopicCountRepository;
+
+    @Autowired
+    private ReviewHelpfulVoteRepository reviewHelpfulVoteRepository;
+
+    @Autowired
+    private ProductFullTextSearch productFullTextSearch;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private boolean postgres;
+    private long productId;
+    private long reviewId;
+
+    public static class ProfileResolver implements ActiveProfilesResolver {
+        @Override
+        public String[] resolve(Class<?> testClass) {
+            return new String[]{System.getProperty("queryplan.profile", "dev")};
+        }
+    }
+
+    @BeforeEach
+    void seed() {
+        postgres = "PostgreSQL".equals(jdbcTemplate.execute(
+                (ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName()));
+        seedProducts();
+        seedReviews();
+        if (postgres) {
+            jdbcTemplate.execute("ANALYZE products");
+            jdbcTemplate.execute("ANALYZE reviews");
+        }
+        productId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM products", Long.class);
+        reviewId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM reviews WHERE product_id = ?", Long.class, productId);
+    }
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueriesAvoidFullTableScans() {
+        return cases().stream().map(c -> DynamicTest.dynamicTest(c.name(), () -> verifyPlan(c)));
+    }
+
+    @Test
+    void everyRepositoryQueryHasAPlanCase() {
+        Set<String> covered = cases().stream()
+                .map(c -> c.name().replaceAll("\\[.*]$", ""))
+                .collect(Collectors.toCollection(TreeSet::new));
+        Set<String> declared = new TreeSet<>();
+        for (Class<?> repo : List.of(ProductRepository.class, ReviewRepository.class,
+                ProductTopicCountRepository.class, ReviewHelpfulVoteRepository.class)) {
+            for (Method m : repo.getDeclaredMethods()) {
+                if (!m.isSynthetic()) declared.add(repo.getSimpleName() + "." + m.getName());
+            }
+        }
+        declared.removeAll(covered);
+        assertEquals(Set.of(), declared, "Repository queries without a plan case");
+    }
+
+    private List<PlanCase> cases() {
+        Pageable page = PageRequest.of(0, 20);
+        List<PlanCase> cases = new ArrayList<>();
+
+        cases.add(new PlanCase("ProductRepository.findById", () -> productRepository.findById(productId)));
+        cases.add(new PlanCase("ProductRepository.count", () -> productRepository.count()));
+        // H2 only reads an index in order when the ORDER BY starts at its first column and runs in
+        // the index's own direction, so the category-prefixed and descending cases are checked for
+        // a sort step on PostgreSQL only.
+        List<Sort.Direction> directions = postgres ? List.of(Sort.Direction.values()) : List.of(Sort.Direction.ASC);
+        for (ProductSortKey key : ProductSortKey.values()) {
+            for (Sort.Direction direction : directions) {
+                String variant = "[sort " + key.getParam() + " " + direction + "]";
+                Pageable sorted = PageRequest.of(0, 20, key.toSort(direction));
+                cases.add(new PlanCase("ProductRepository.findAll" + variant, true,
+                        () -> productRepository.findAll(sorted)));
+                cases.add(new PlanCase("ProductRepository.findByCategory" + variant, postgres,
+                        () -> productRepository.findByCategory("Electronics", sorted)));
+            }
+        }
+        cases.add(new PlanCase("ProductRepository.findAll[category spec]",
+                () -> productRepository.findAll(ProductSpecifications.categoryAndMultiTermSearch("Electronics", null, 4, null, null), page)));
+        cases.add(new PlanCase("ProductRepository.findAll[search spec]",
+                () -> productRepository.findAll(ProductSpecifications.categoryAndMultiTermSearch(null, "phone pro"), page)));
+        cases.add(new PlanCase("ProductRepository.searchProducts", () -> productRepository.searchProducts("phone", page)));
+        cases.add(new PlanCase("ProductRepository.findByCategoryAndSearch",
+                () -> productRepository.findByCategoryAndSearch("Electronics", "phone", page)));
+        if (productFullTextSearch.isReady()) {
+            // Ranked tsvector/trigram search; only set up on PostgreSQL
+            cases.add(new PlanCase("ProductFullTextSearch.search", () -> productFullTextSearch.search(
+                    PageRequest.of(0, 20, ProductSortKey.REVIEW_COUNT.toSort(Sort.Direction.DESC)), null, "phone", null, null, null)));
+            cases.add(new PlanCase("ProductFullTextSearch.search[category]", () -> productFullTextSearch.search(
+                    PageRequest.of(0, 20, ProductSortKey.PRICE.toSort(Sort.Direction.ASC)), "Electronics", "wireless phne", 3, null, null)));
+        }
+        cases.add(new PlanCase("ProductRepository.findIdsAfter", true, () -> productRepository.findIdsAfter(productId, PageRequest.of(0, 50))));
+        cases.add(new PlanCase("ProductRepository.findByIdWithReviews", () -> productRepository.findByIdWithReviews(productId)));
+
+        cases.add(new PlanCase("ReviewRepository.findById", () -> reviewRepository.findById(reviewId)));
+        cases.add(new PlanCase("ReviewRepository.findByProductId[paged]",
+                () -> reviewRepository.findByProductId(productId, PageRequest.of(0, 10, Sort.by("createdAt").descending()))));
+        cases.add(new PlanCase("ReviewRepository.findByProductId[all]", () -> reviewRepository.findByProductId(productId)));
+        cases.add(new PlanCase("ReviewRepository.findLatestByProductId", () -> reviewRepository.findLatestByProductId(productId, PageRequest.of(0, 30))));
+        for (ReviewSortKey key : ReviewSortKey.values()) {
+            for (Sort.Direction direction : directions) {
+                Pageable sorted = PageRequest.of(0, 10, key.toSort(direction));
+                cases.add(new PlanCase("ReviewRepository.findByProductIdFiltered[sort " + key.getParam() + " " + direction + "]", postgres,
+                        () -> reviewRepository.findByProductIdFiltered(productId, null, sorted)));
+            }
+        }
+        cases.add(new PlanCase("ReviewRepository.findByProductIdFiltered[minRating]",
+                () -> reviewRepository.findByProductIdFiltered(productId, 4, PageRequest.of(0, 10, ReviewSortKey.CREATED_AT.toSort(Sort.Direction.DESC)))));
+        cases.add(new PlanCase("ReviewRepository.findAverageRatingByProductId", () -> reviewRepository.findAverageRatingByProductId(productId)));
+        cases.add(new PlanCase("ReviewRepository.countByProductId", () -> reviewRepository.countByProductId(productId)));
+        cases.add(new PlanCase("ReviewRepository.findLatestCreatedAtByProductId", () -> reviewRepository.findLatestCreatedAtByProductId(productId)));
+        cases.add(new PlanCase("ReviewRepository.findAggregatesByProductIds",
+                () -> reviewRepository.findAggregatesByProductIds(List.of(productId, productId + 1, productId + 2))));
+        cases.add(new PlanCase("ReviewRepository.findTopicSourceRowsByProductId", () -> reviewRepository.findTopicSourceRowsByProductId(productId)));
+
+        cases.add(new PlanCase("ProductTopicCountRepository.findByProductId", () -> productTopicCountRepository.findByProductId(productId)));
+        cases.add(new PlanCase("ProductTopicCountRepository.addToCount",
+                () -> transactionTemplate.executeWithoutResult(s -> productTopicCountRepository.addToCount(productId, "price", 0))));
+        cases.add(new PlanCase("ReviewHelpfulVoteRepository.findByReviewIdAndDeviceId",
+                () -> reviewHelpfulVoteRepository.findByReviewIdAndDeviceId(reviewId, "device-1")));
+        cases.add(new PlanCase("ReviewHelpfulVoteRepository.countByReviewId", () -> reviewHelpfulVoteRepository.countByReviewId(reviewId)));
+        cases.add(new PlanCase("ReviewHelpfulVoteRepository.findReviewIdsByProductIdAndDeviceId",
+                () -> reviewHelpfulVoteRepository.findReviewIdsByProductIdAndDeviceId(productId, "device-1")));
+        return cases;
+    }
+
+    private void verifyPlan(PlanCase c) {
+        // A second-level or query cache hit would leave nothing to EXPLAIN.
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        QueryCounter.reset();
+        c.query().run();
+        List<QueryCounter.Statement> executed = QueryCounter.executed();
+        if (executed.isEmpty()) {
+            fail(c.name() + " executed no SQL");
+        }
+
+        StringBuilder report = new StringBuilder();
+        boolean scans = false;
+        for (QueryCounter.Statement statement : executed) {
+            String plan = explain(statement);
+            if (c.indexSorted() && ORDER_BY.matcher(statement.sql()).find() && !isIndexSorted(plan)) {
+                fail(c.name() + " sorts its rows instead of reading them in index order:\n    " + statement.sql()
+                        + "\n    plan: " + plan.replace("\n", "\n          "));
+            }
+            List<String> scanned = fullyScannedTables(plan);
+            scanned.retainAll(GUARDED_TABLES);
+            if (!scanned.isEmpty()) {
+                scans = true;
+                report.append("\n  full scan of ").append(scanned).append(":\n    ").append(statement.sql())
+                        .append("\n    plan: ").append(plan.replace("\n", "\n          "));
+            }
+        }
+
+        if (scans && !FULL_SCAN_ALLOWED.containsKey(c.name())) {
+            fail(c.name() + " reads a whole table at " + PRODUCTS + " products / " + REVIEWS + " reviews:" + report);
+        }
+    }
+
+    private String explain(QueryCounter.Statement statement) {
+        List<String> rows = jdbcTemplate.query("EXPLAIN " + statement.sql(), ps -> {
+            List<Object> params = statement.parameters();
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+        }, (rs, n) -> rs.getString(1));
+        return String.join("\n", rows);
+    }
+
+    /**
+     * PostgreSQL reports {@code Seq Scan on <table>}. H2 reports {@code PUBLIC.<TABLE>.tableScan},
+     * or {@code PUBLIC.<INDEX>} with no condition when it walks a whole index instead; an in-order
+     * walk that stops after a page and a count taken from the index itself are not scans.
+     */
+    private List<String> fullyScannedTables(String plan) {
+        if (postgres) {
+            return SEQ_SCAN.matcher(plan).results()
+                    .map(m -> m.group(1).toLowerCase(Locale.ROOT))
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+        List<String> tables = new ArrayList<>();
+        TABLE_SCAN.matcher(plan).results().forEach(m -> tables.add(m.group(1).toLowerCase(Locale.ROOT)));
+        if (plan.contains(H2_DIRECT_LOOKUP) || (plan.contains(H2_INDEX_SORTED) && plan.contains("FETCH NEXT"))) {
+            // Answered from index metadata, or stops after one page of an in-order index walk.
+            return tables;
+        }
+        UNBOUNDED_INDEX_SCAN.matcher(plan).results().forEach(m -> tables.addAll(jdbcTemplate.queryForList(
+                "SELECT LOWER(TABLE_NAME) FROM INFORMATION_SCHEMA.INDEXES WHERE INDEX_NAME = ?", String.class, m.group(1))));
+        return tables;
+    }
+
+    /**
+     * PostgreSQL adds a {@code Sort} node (with a {@code Sort Key:} line) when it cannot use an
+     * index for the ORDER BY; H2 marks plans that read rows in index order with {@code index sorted}.
+     */
+    private boolean isIndexSorted(String plan) {
+        return postgres ? !PG_SORT.matcher(plan).find() : plan.contains(H2_INDEX_SORTED);
+    }
+
+    private void seedProducts() {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Integer.class);
+        int missing = PRODUCTS - (existing == null ? 0 : existing);
+        if (missing <= 0) return;
+
+        String[] categories = {"Electronics", "Clothing", "Books", "Home & Kitchen", "Sports & Outdoors"};
+        Random random = new Random(1);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < missing; i++) {
+            rows.add(new Object[]{
+                    "Plan Product " + i,
+                    "Product used for query plan checks.",
+                    categories[i % categories.length],
+                    BigDecimal.valueOf(5 + random.nextInt(2000)),
+                    Timestamp.valueOf(LocalDateTime.now().minusMinutes(random.nextInt(500_000)))
+            });
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO products (name, description, category, price, created_at, average_rating, review_count) VALUES (?, ?, ?, ?, ?, 0, 0)",
+                rows);
+    }
+
+    private void seedReviews() {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reviews", Integer.class);
+        int missing = REVIEWS - (existing == null ? 0 : existing);
+        if (missing <= 0) return;
+
+        List<Long> productIds = jdbcTemplate.queryForList("SELECT id FROM products", Long.class);
+        Random random = new Random(2);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < missing; i++) {
+            rows.add(new Object[]{
+                    productIds.get(random.nextInt(productIds.size())),
+                    "Review " + i + " about price and delivery.",
+                    1 + random.nextInt(5),
+                    "device-" + i,
+                    (long) random.nextInt(20),
+                    Timestamp.valueOf(LocalDateTime.now().minusMinutes(random.nextInt(500_000)))
+            });
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO reviews (product_id, comment, rating, device_id, helpful_count, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+                rows);
+    }
+
+    /**
+     * @param indexSorted whether the paged SELECT must return rows in index order without a sort step
+     */
+    private record PlanCase(String name, boolean indexSorted, Runnable query) {
+        PlanCase(String name, Runnable query) {
+            this(name, false, query);
+        }
+    }
+}
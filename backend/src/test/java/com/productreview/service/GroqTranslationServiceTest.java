@@ -0,0 +1,168 @@
+package com.productreview.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.productreview.dto.TranslateResponseDTO;
+import com.productreview.llm.LlmClient;
+import com.productreview.llm.LlmContentListener;
+import com.productreview.llm.LlmRequest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroqTranslationServiceTest {
+
+    private static final List<String> COMMON = List.of(
+            "Highly recommend!", "Fast shipping.", "Great value for the money.", "Works as described.",
+            "Would buy again.", "Five stars.", "The packaging was fine.", "Not worth the price.",
+            "Customer service was helpful.", "Arrived on time.", "Battery life is excellent.",
+            "The quality is better than expected.", "Easy to set up.", "It stopped working after a week.",
+            "Exactly what I needed.", "The size runs small.", "Love it!", "Very comfortable.",
+            "Delivery took longer than expected.", "Good product overall."
+    );
+
+    @Test
+    void translatesSentenceBySentenceAndReassembles() {
+        EchoLlmClient llm = new EchoLlmClient();
+        GroqTranslationService service = new GroqTranslationService(llm, new ObjectMapper());
+
+        TranslateResponseDTO first = service.translateBatch(List.of("Fast shipping. Love it!\nWould buy again."), "tr");
+        assertEquals("AI", first.getSource());
+        assertEquals(List.of("<Fast shipping.> <Love it!>\n<Would buy again.>"), first.getTranslations());
+
+        // An edited review only sends its new sentence upstream.
+        long before = service.getUpstreamChars();
+        TranslateResponseDTO edited = service.translateBatch(List.of("Fast shipping. Love it!  The case is sturdy."), "tr");
+        assertEquals(List.of("<Fast shipping.> <Love it!>  <The case is sturdy.>"), edited.getTranslations());
+        assertEquals("The case is sturdy.".length(), service.getUpstreamChars() - before);
+    }
+
+    @Test
+    void identifiesLanguageOnlyForTextsWithUntranslatedSentences() {
+        GroqTranslationService service = new GroqTranslationService(new EchoLlmClient(), new ObjectMapper());
+
+        service.translateBatch(List.of("Fast shipping. Love it!"), "tr");
+        assertEquals(1, service.getLanguageChecks());
+        service.translateBatch(List.of("Fast shipping. Love it!"), "tr");
+        assertEquals(1, service.getLanguageChecks());
+
+        TranslateResponseDTO turkish = service.translateBatch(List.of("Kargo çok hızlıydı, teşekkürler"), "tr");
+        assertEquals(List.of("Kargo çok hızlıydı, teşekkürler"), turkish.getTranslations());
+        assertEquals("LOCAL", turkish.getSource());
+        assertEquals(2, service.getLanguageChecks());
+        assertEquals(1, service.getLanguageSkips());
+    }
+
+    /**
+     * Replays a synthetic browsing session (Zipf-skewed product views, reviews mixing common
+     * phrases with unique sentences, a share of reviews edited over time) and compares the
+     * previous whole-text cache with the sentence-level translation memory.
+     */
+    @Test
+    void sentenceMemoryRaisesHitRateOnReviewCorpus() {
+        Random random = new Random(42);
+        int products = 200;
+        List<List<String>> reviewsByProduct = new ArrayList<>();
+        int unique = 0;
+        for (int p = 0; p < products; p++) {
+            List<String> reviews = new ArrayList<>();
+            int count = 3 + random.nextInt(12);
+            for (int r = 0; r < count; r++) {
+                StringBuilder sb = new StringBuilder();
+                int sentences = 1 + random.nextInt(4);
+                for (int s = 0; s < sentences; s++) {
+                    if (s > 0) sb.append(' ');
+                    if (random.nextDouble() < 0.55) {
+                        sb.append(COMMON.get(zipf(random, COMMON.size())));
+                    } else {
+                        sb.append("Product ").append(p).append(" detail number ").append(unique++).append(" was noted by this reviewer.");
+                    }
+                }
+                reviews.add(sb.toString());
+            }
+            reviewsByProduct.add(reviews);
+        }
+
+        EchoLlmClient llm = new EchoLlmClient();
+        GroqTranslationService service = new GroqTranslationService(llm, new ObjectMapper());
+        Set<String> wholeTextCache = new HashSet<>();
+        long wholeLookups = 0;
+        long wholeHits = 0;
+        long wholeUpstreamChars = 0;
+
+        for (int view = 0; view < 3000; view++) {
+            List<String> reviews = reviewsByProduct.get(zipf(random, products));
+            if (random.nextDouble() < 0.05) {
+                int idx = random.nextInt(reviews.size());
+                reviews.set(idx, reviews.get(idx) + " Update: " + COMMON.get(zipf(random, COMMON.size())));
+            }
+            List<String> page = reviews.subList(0, Math.min(10, reviews.size()));
+
+            for (String text : page) {
+                wholeLookups++;
+                if (wholeTextCache.add(text)) {
+                    wholeUpstreamChars += text.length();
+                } else {
+                    wholeHits++;
+                }
+            }
+            service.translateBatch(new ArrayList<>(page), "tr");
+        }
+
+        double wholeHitRate = (double) wholeHits / wholeLookups;
+        double sentenceHitRate = (double) service.getSentenceHits() / service.getSentenceLookups();
+        String rates = String.format("hit rate %.3f vs %.3f, upstream chars %d vs %d",
+                sentenceHitRate, wholeHitRate, service.getUpstreamChars(), wholeUpstreamChars);
+
+        // Seeded corpus: about 0.96 vs 0.94 hit rate and a third fewer characters upstream
+        assertTrue(1 - sentenceHitRate < 0.7 * (1 - wholeHitRate), rates);
+        assertTrue(service.getUpstreamChars() < 0.75 * wholeUpstreamChars, rates);
+    }
+
+    private static int zipf(Random random, int n) {
+        double u = random.nextDouble();
+        return (int) Math.min(n - 1, Math.floor(Math.pow(n + 1, u)) - 1);
+    }
+
+    private static final class EchoLlmClient implements LlmClient {
+        private final ObjectMapper mapper = new ObjectMapper();
+
+        @Override
+        public boolean isAvailable() {
+            return true;
+        }
+
+        @Override
+        public String complete(LlmRequest request) {
+            try {
+                String prompt = request.userPrompt();
+                List<?> inputs = mapper.readValue(prompt.substring(prompt.lastIndexOf("\n[") + 1), List.class);
+                List<String> out = new ArrayList<>();
+                for (Object in : inputs) {
+                    out.add("<" + in + ">");
+                }
+                return mapper.writeValueAsString(Map.of("translations", out));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void stream(LlmRequest request, LlmContentListener listener) throws IOException {
+            String content = complete(request);
+            for (int i = 0; i < content.length(); i += 16) {
+                if (!listener.onContent(content.substring(i, Math.min(content.length(), i + 16)))) {
+                    break;
+                }
+            }
+        }
+    }
+}
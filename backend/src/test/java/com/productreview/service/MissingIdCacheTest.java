@@ -0,0 +1,63 @@
+package com.productreview.service;
+
+import com.productreview.event.ProductChangedEvent;
+import com.productreview.event.ReviewChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MissingIdCacheTest {
+
+    @Test
+    void answersRepeatedMissesWithoutTheLoader() {
+        MissingIdCache cache = new MissingIdCache();
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            Optional<String> found = cache.products().find(42L, () -> {
+                loads.incrementAndGet();
+                return Optional.empty();
+            });
+            assertTrue(found.isEmpty());
+        }
+        assertEquals(1, loads.get());
+        assertEquals(2, cache.products().getHits());
+        assertFalse(cache.reviews().contains(42L));
+    }
+
+    @Test
+    void insertsRemoveTheirIds() {
+        MissingIdCache cache = new MissingIdCache();
+        cache.products().add(1L, cache.products().generation());
+        cache.products().add(2L, cache.products().generation());
+        cache.reviews().add(7L, cache.reviews().generation());
+
+        cache.onProductChanged(new ProductChangedEvent(2L, "Phone", 0L, true));
+        assertTrue(cache.products().contains(2L));
+        cache.onProductChanged(new ProductChangedEvent(2L, "Phone", 0L, false));
+        assertFalse(cache.products().contains(2L));
+        assertTrue(cache.products().contains(1L));
+
+        cache.onReviewChanged(new ReviewChangedEvent(7L, 1L, "Books", "old", "new"));
+        assertTrue(cache.reviews().contains(7L));
+        cache.onReviewChanged(new ReviewChangedEvent(7L, 1L, "Books", null, "new"));
+        assertFalse(cache.reviews().contains(7L));
+    }
+
+    @Test
+    void doesNotRecordAMissThatRacedWithAnInsert() {
+        MissingIdCache cache = new MissingIdCache();
+        Optional<String> found = cache.products().find(5L, () -> {
+            // The row is committed and its insert event handled while this lookup is in flight.
+            cache.onProductChanged(new ProductChangedEvent(5L, "Lamp", 0L, false));
+            return Optional.empty();
+        });
+        assertTrue(found.isEmpty());
+        assertFalse(cache.products().contains(5L));
+    }
+}
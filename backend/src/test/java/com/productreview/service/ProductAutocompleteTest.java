@@ -0,0 +1,140 @@
+package com.productreview.service;
+
+import com.productreview.dto.ProductSuggestionDTO;
+import com.productreview.event.ProductChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Suggestions from the trie against a linear scan over the same names, before and after review
+ * counts change, and changes that arrive while the index is rebuilt.
+ */
+class ProductAutocompleteTest {
+
+    private static final String[] WORDS = {
+            "pro", "max", "probe", "prodigy", "galaxy", "gala", "buds", "sik", "celik", "tencere", "s24", "15", "air"
+    };
+
+    private final ProductAutocomplete autocomplete = new ProductAutocomplete(new DriverManagerDataSource(), null, Runnable::run);
+
+    @Test
+    void matchesWordPrefixesWithTurkishFolding() {
+        autocomplete.load(new long[]{1, 2, 3, 4}, new String[]{"Samsung Galaxy S24", "Galaxy Buds", "Sik Celik Tencere", "Iphone 15 Pro"},
+                new long[]{10, 30, 5, 20});
+
+        assertEquals(List.of(2L, 1L), ids(autocomplete.suggest("GAL", 8)));
+        assertEquals(List.of(3L), ids(autocomplete.suggest("  şık  çe", 8)));
+        assertEquals(List.of(1L), ids(autocomplete.suggest("samsung gal", 8)));
+        assertEquals(List.of(), ids(autocomplete.suggest("alaxy", 8)));
+        assertEquals(List.of(2L), ids(autocomplete.suggest("galaxy b", 8)));
+        assertEquals(List.of(2L), ids(autocomplete.suggest("gal", 1)));
+    }
+
+    @Test
+    void ranksLikeALinearScan() {
+        Random random = new Random(7);
+        int size = 3_000;
+        long[] ids = new long[size];
+        String[] names = new String[size];
+        long[] reviewCounts = new long[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = i + 1;
+            names[i] = IntStream.range(0, 1 + random.nextInt(4))
+                    .mapToObj(w -> WORDS[random.nextInt(WORDS.length)])
+                    .reduce((a, b) -> a + " " + b).orElseThrow();
+            reviewCounts[i] = random.nextInt(50);
+        }
+        autocomplete.load(ids, names, reviewCounts.clone());
+        assertSameAsScan(ids, names, reviewCounts);
+
+        for (int k = 0; k < 200; k++) {
+            int slot = random.nextInt(size);
+            reviewCounts[slot] = random.nextInt(100);
+            autocomplete.updateReviewCount(ids[slot], reviewCounts[slot]);
+        }
+        assertSameAsScan(ids, names, reviewCounts);
+    }
+
+    @Test
+    void changesDuringReloadDoNotWaitForItAndAreReplayed() throws Exception {
+        DriverManagerDataSource database = new DriverManagerDataSource("jdbc:h2:mem:autocomplete-reload;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(database);
+        jdbc.execute("CREATE TABLE products (id BIGINT PRIMARY KEY, name VARCHAR(255), review_count BIGINT)");
+        jdbc.update("INSERT INTO products VALUES (1, 'Galaxy Buds', 3), (2, 'Galaxy Tab', 5)");
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // Holds the reload inside its scan until the test lets it go.
+        DelegatingDataSource blocking = new DelegatingDataSource(database) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                loading.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.getConnection();
+            }
+        };
+        List<Runnable> rebuilds = new ArrayList<>();
+        ProductAutocomplete reloading = new ProductAutocomplete(blocking, new DataSourceTransactionManager(blocking), rebuilds::add);
+        reloading.load(new long[]{1, 2}, new String[]{"Galaxy Buds", "Galaxy Tab"}, new long[]{3, 5});
+
+        CompletableFuture<Void> reload = CompletableFuture.runAsync(reloading::reload);
+        try {
+            assertTrue(loading.await(10, TimeUnit.SECONDS));
+            // Committed after the scan read the row: the event carries the new count.
+            CompletableFuture.runAsync(() -> reloading.onProductChanged(new ProductChangedEvent(1L, "Galaxy Buds", 9L, false)))
+                    .get(2, TimeUnit.SECONDS);
+            CompletableFuture.runAsync(() -> reloading.onProductChanged(new ProductChangedEvent(3L, "Galaxy Watch", 0L, false)))
+                    .get(2, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+        }
+        reload.get(10, TimeUnit.SECONDS);
+
+        assertEquals(List.of(1L, 2L), ids(reloading.suggest("gal", 8)));
+        // The new product was not in the scan, so another rebuild is queued.
+        assertEquals(1, rebuilds.size());
+        jdbc.execute("DROP TABLE products");
+    }
+
+    private void assertSameAsScan(long[] ids, String[] names, long[] reviewCounts) {
+        List<String> queries = new ArrayList<>(List.of("p", "pr", "pro", "pro ", "pro m", "g", "gala", "galaxy", "s", "1", "air pro", "x"));
+        for (String word : WORDS) {
+            queries.add(word.substring(0, 1 + word.length() / 2));
+        }
+        for (String query : queries) {
+            List<Long> expected = IntStream.range(0, ids.length)
+                    .filter(i -> (" " + names[i]).contains(" " + query))
+                    .boxed()
+                    .sorted(Comparator.<Integer>comparingLong(i -> -reviewCounts[i]).thenComparingLong(i -> ids[i]))
+                    .limit(ProductAutocomplete.MAX_SUGGESTIONS)
+                    .map(i -> ids[i])
+                    .toList();
+            assertEquals(expected, ids(autocomplete.suggest(query, ProductAutocomplete.MAX_SUGGESTIONS)), query);
+        }
+    }
+
+    private static List<Long> ids(List<ProductSuggestionDTO> suggestions) {
+        return suggestions.stream().map(ProductSuggestionDTO::getId).toList();
+    }
+}
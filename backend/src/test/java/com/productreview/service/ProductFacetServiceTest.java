@@ -0,0 +1,73 @@
+package com.productreview.service;
+
+import com.productreview.dto.FacetCountDTO;
+import com.productreview.dto.PriceRangeCountDTO;
+import com.productreview.dto.ProductFacetsDTO;
+import com.productreview.spec.ProductSortKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Every facet count equals the total of the listing with that facet value applied, for counts
+ * taken from {@link ProductReadModel} and from the grouped query used for searches.
+ */
+@SpringBootTest(properties = {"llm.provider=stub", "catalog.read-model.enabled=true"})
+@ActiveProfiles("dev")
+class ProductFacetServiceTest {
+
+    @Autowired
+    private ProductFacetService productFacetService;
+
+    @Autowired
+    private ProductReadModel productReadModel;
+
+    @Autowired
+    private ProductService productService;
+
+    @BeforeEach
+    void setUp() {
+        // Other test classes write to the shared in-memory database with plain SQL.
+        productReadModel.reload();
+    }
+
+    @Test
+    void countsFromTheReadModelMatchTheListing() {
+        assertFacetsMatchListing(null, null, null, null, null);
+        assertFacetsMatchListing("Electronics", null, 3, null, null);
+        assertFacetsMatchListing(null, null, null, new BigDecimal("20"), new BigDecimal("300"));
+    }
+
+    @Test
+    void countsFromTheGroupedQueryMatchTheListing() {
+        assertFacetsMatchListing(null, "pro", null, null, null);
+        assertFacetsMatchListing("Books", "e", 1, new BigDecimal("5.5"), null);
+    }
+
+    private void assertFacetsMatchListing(String category, String search, Integer minRating, BigDecimal minPrice, BigDecimal maxPrice) {
+        ProductFacetsDTO facets = productFacetService.getFacets(category, search, minRating, minPrice, maxPrice);
+        assertEquals(total(category, search, minRating, minPrice, maxPrice), facets.getTotal());
+        for (FacetCountDTO c : facets.getCategories()) {
+            assertEquals(total(c.getValue(), search, minRating, minPrice, maxPrice), c.getCount(), "category " + c.getValue());
+        }
+        for (FacetCountDTO r : facets.getRatings()) {
+            assertEquals(total(category, search, Integer.valueOf(r.getValue()), minPrice, maxPrice), r.getCount(), "rating " + r.getValue());
+        }
+        for (PriceRangeCountDTO p : facets.getPriceRanges()) {
+            assertEquals(total(category, search, minRating, p.getMinPrice(), p.getMaxPrice()), p.getCount(), "price " + p.getMinPrice());
+        }
+    }
+
+    private long total(String category, String search, Integer minRating, BigDecimal minPrice, BigDecimal maxPrice) {
+        return productService.getAllProducts(PageRequest.of(0, 1, ProductSortKey.PRICE.toSort(Sort.Direction.ASC)),
+                category, search, minRating, minPrice, maxPrice).getTotalElements();
+    }
+}
@@ -0,0 +1,30 @@
+package com.productreview.service;
+
+import com.productreview.spec.ProductSpecifications;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * tsquery strings built from search input; the ranked query itself needs PostgreSQL.
+ */
+class ProductFullTextSearchTest {
+
+    @Test
+    void requiresEveryWordAsPrefixInPlainAndFoldedForm() {
+        assertEquals("(çay:* | cay:*) & set:*", tsQuery("Çay  SET", false));
+        assertEquals("(çay:*A | cay:*A) & set:*A", tsQuery("çay set", true));
+        assertEquals("iphone:* & 15:*", tsQuery("iphone 15", false));
+    }
+
+    @Test
+    void dropsTsQuerySyntax() {
+        assertEquals("wi:* & fi:* & a:* & b:*", tsQuery("wi-fi a&b", false));
+        assertEquals("", tsQuery("!:* ()", false));
+        assertEquals("", tsQuery("   ", false));
+    }
+
+    private static String tsQuery(String search, boolean nameOnly) {
+        return ProductFullTextSearch.toTsQuery(ProductSpecifications.searchTerms(search), nameOnly);
+    }
+}
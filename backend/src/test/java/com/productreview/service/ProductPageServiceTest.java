@@ -0,0 +1,85 @@
+package com.productreview.service;
+
+import com.productreview.dto.ProductPageDTO;
+import com.productreview.entity.Review;
+import com.productreview.exception.ProductNotFoundException;
+import com.productreview.repository.ReviewHelpfulVoteRepository;
+import com.productreview.repository.ReviewRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The composite product page: all parts when they finish in time, partial parts when they don't.
+ */
+@SpringBootTest(properties = "llm.provider=stub")
+@ActiveProfiles("dev")
+class ProductPageServiceTest {
+
+    @Autowired
+    private ProductPageService productPageService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private GroqReviewSummaryService groqReviewSummaryService;
+
+    @Autowired
+    private ReviewHelpfulVoteRepository reviewHelpfulVoteRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Test
+    void returnsEveryPartInOneCall() {
+        Review review = reviewRepository.findAll().get(0);
+        Long productId = review.getProduct().getId();
+        reviewService.toggleHelpful(review.getId(), "page-test-device");
+
+        ProductPageDTO page = productPageService.getProductPage(productId, "page-test-device", 5, "helpfulCount", "en");
+
+        assertEquals(List.of(), page.getPartial());
+        assertEquals(productId, page.getProduct().getId());
+        assertTrue(page.getReviews().getContent().size() <= 5);
+        assertEquals(page.getProduct().getReviewCount(), page.getReviews().getTotalElements());
+        assertEquals(productId, page.getSummary().getProductId());
+        assertEquals(List.of(review.getId()), page.getHelpfulReviewIds());
+    }
+
+    @Test
+    void unknownProductIsNotFound() {
+        assertThrows(ProductNotFoundException.class,
+                () -> productPageService.getProductPage(999_999L, null, 10, "helpfulCount", "en"));
+    }
+
+    @Test
+    void partsPastTheDeadlineAreReportedAsPartial() {
+        // An executor that never runs anything: every part misses the deadline.
+        ProductPageService stalled = new ProductPageService(productService, reviewService, groqReviewSummaryService,
+                reviewHelpfulVoteRepository, new MissingIdCache(), task -> { }, Duration.ofMillis(20), new SimpleMeterRegistry());
+
+        ProductPageDTO page = stalled.getProductPage(1L, "page-test-device", 10, "helpfulCount", "en");
+
+        assertEquals(List.of("product", "reviews", "summary", "helpfulReviewIds"), page.getPartial());
+        assertNull(page.getProduct());
+        assertNull(page.getReviews());
+        assertNull(page.getSummary());
+        assertNull(page.getHelpfulReviewIds());
+        assertNotNull(page.getPartial());
+    }
+}
@@ -0,0 +1,205 @@
+package com.productreview.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.productreview.dto.CreateReviewDTO;
+import com.productreview.dto.ProductDTO;
+import com.productreview.entity.Product;
+import com.productreview.repository.ProductRepository;
+import com.productreview.spec.ProductSortKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Pages answered by {@link ProductReadModel} match the database path for every sort key,
+ * direction and filter, including after a review write changed a product's aggregates, and
+ * cached listing pages and the catalog ETag follow the model rather than the commit.
+ */
+@SpringBootTest(properties = {"llm.provider=stub", "catalog.read-model.enabled=true"})
+@ActiveProfiles("dev")
+class ProductReadModelTest {
+
+    private static final int PAGE_SIZE = 4;
+
+    @Autowired
+    private ProductReadModel productReadModel;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductListingCache productListingCache;
+
+    @Autowired
+    private CatalogVersions catalogVersions;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        // Other test classes write to the shared in-memory database with plain SQL.
+        productReadModel.reload();
+    }
+
+    @Test
+    void pagesMatchTheDatabase() {
+        for (ProductSortKey sortKey : ProductSortKey.values()) {
+            for (Sort.Direction direction : Sort.Direction.values()) {
+                assertSamePages(sortKey, direction, null, null, null, null);
+                assertSamePages(sortKey, direction, "Electronics", null, null, null);
+                assertSamePages(sortKey, direction, null, 3, null, null);
+                assertSamePages(sortKey, direction, "Books", null, new BigDecimal("10.005"), new BigDecimal("500"));
+            }
+        }
+        assertSamePages(ProductSortKey.PRICE, Sort.Direction.ASC, "No Such Category", null, null, null);
+    }
+
+    @Test
+    void reviewWriteMovesTheProduct() {
+        long productId = productRepository.findAll(PageRequest.of(0, 1, Sort.by("id"))).getContent().get(0).getId();
+        CreateReviewDTO review = new CreateReviewDTO();
+        review.setProductId(productId);
+        review.setComment("Sturdy, quiet and easy to clean.");
+        review.setRating(1);
+        review.setDeviceId("read-model-" + System.nanoTime());
+        reviewService.createReview(review);
+
+        long stored = productRepository.findById(productId).orElseThrow().getReviewCount();
+        Page<ProductDTO> page = productReadModel.find(null, null, null, null, ProductSortKey.REVIEW_COUNT, Sort.Direction.DESC, 0, 1000);
+        assertNotNull(page);
+        assertEquals(stored, page.getContent().stream().filter(p -> p.getId() == productId).findFirst().orElseThrow().getReviewCount());
+        for (Sort.Direction direction : Sort.Direction.values()) {
+            assertSamePages(ProductSortKey.REVIEW_COUNT, direction, null, null, null, null);
+            assertSamePages(ProductSortKey.AVERAGE_RATING, direction, null, null, null, null);
+        }
+    }
+
+    @Test
+    void averageRatingPutsUnreviewedProductsFirstWhenAscending() {
+        String category = "Sort Probe " + System.nanoTime();
+        Product unreviewed = productRepository.save(probe("Unreviewed Probe", category));
+        Product reviewed = productRepository.save(probe("Reviewed Probe", category));
+        CreateReviewDTO review = new CreateReviewDTO();
+        review.setProductId(reviewed.getId());
+        review.setComment("Did not live up to the description.");
+        review.setRating(1);
+        review.setDeviceId("read-model-" + System.nanoTime());
+        Long reviewId = reviewService.createReview(review).getId();
+        try {
+            productReadModel.reload();
+            // Rating 0 sorts below every reviewed product, even one rated 1
+            List<Long> ascending = List.of(unreviewed.getId(), reviewed.getId());
+            List<Long> descending = List.of(reviewed.getId(), unreviewed.getId());
+            for (Sort.Direction direction : Sort.Direction.values()) {
+                List<Long> expected = direction == Sort.Direction.ASC ? ascending : descending;
+                assertEquals(expected, ids(productService.getAllProducts(PageRequest.of(0, PAGE_SIZE,
+                        ProductSortKey.AVERAGE_RATING.toSort(direction)), category, null, null, null, null)), direction.name());
+                assertEquals(expected, ids(productReadModel.find(category, null, null, null,
+                        ProductSortKey.AVERAGE_RATING, direction, 0, PAGE_SIZE)), direction.name());
+            }
+        } finally {
+            reviewService.deleteReview(reviewId, review.getDeviceId());
+            productRepository.deleteAllById(List.of(unreviewed.getId(), reviewed.getId()));
+            productReadModel.reload();
+        }
+    }
+
+    @Test
+    void listingReadBeforeTheModelRefreshIsNotCachedUnderTheNewEtag() throws Exception {
+        String category = "Etag Probe " + System.nanoTime();
+        Product product = productRepository.save(probe("Etag Probe", category));
+        ProductListingCache.Key key = ProductListingCache.Key.of(category, ProductSortKey.REVIEW_COUNT, Sort.Direction.DESC, 0, PAGE_SIZE);
+        Supplier<Page<ProductDTO>> loader = () -> productReadModel.find(category, null, null, null,
+                ProductSortKey.REVIEW_COUNT, Sort.Direction.DESC, 0, PAGE_SIZE);
+        assertEquals(0, reviewCount(productListingCache.get(key, loader)));
+
+        CreateReviewDTO review = new CreateReviewDTO();
+        review.setProductId(product.getId());
+        review.setComment("Lighter than it looks and well packed.");
+        review.setRating(4);
+        review.setDeviceId("read-model-" + System.nanoTime());
+        String[] interleavedEtag = new String[1];
+        byte[][] interleavedPage = new byte[1][];
+        Long reviewId = new TransactionTemplate(transactionManager).execute(status -> {
+            Long id = reviewService.createReview(review).getId();
+            // Transactional event listeners run in afterCompletion in the order they were registered:
+            // this runs after the aggregates event's and before the read model's, whose event is
+            // only published when the commit flushes the product.
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int completionStatus) {
+                    interleavedEtag[0] = catalogVersions.catalogEtag();
+                    interleavedPage[0] = productListingCache.get(key, loader);
+                }
+            });
+            return id;
+        });
+        try {
+            assertEquals(0, reviewCount(interleavedPage[0]), "listing read did not run before the model refresh");
+            assertNotEquals(interleavedEtag[0], catalogVersions.catalogEtag());
+            assertEquals(1, reviewCount(productListingCache.get(key, loader)));
+        } finally {
+            reviewService.deleteReview(reviewId, review.getDeviceId());
+            productRepository.deleteById(product.getId());
+            productReadModel.reload();
+        }
+    }
+
+    private void assertSamePages(ProductSortKey sortKey, Sort.Direction direction, String category,
+                                 Integer minRating, BigDecimal minPrice, BigDecimal maxPrice) {
+        for (int page = 0; page < 3; page++) {
+            String label = sortKey + " " + direction + " category=" + category + " minRating=" + minRating
+                    + " price=" + minPrice + ".." + maxPrice + " page=" + page;
+            Page<ProductDTO> expected = productService.getAllProducts(PageRequest.of(page, PAGE_SIZE, sortKey.toSort(direction)),
+                    category, null, minRating, minPrice, maxPrice);
+            Page<ProductDTO> actual = productReadModel.find(category, minRating, minPrice, maxPrice, sortKey, direction, page, PAGE_SIZE);
+            assertNotNull(actual, label);
+            assertEquals(expected.getTotalElements(), actual.getTotalElements(), label);
+            assertEquals(ids(expected), ids(actual), label);
+        }
+    }
+
+    private static Product probe(String name, String category) {
+        Product product = new Product();
+        product.setName(name);
+        product.setCategory(category);
+        product.setPrice(new BigDecimal("9.99"));
+        return product;
+    }
+
+    private long reviewCount(byte[] page) throws IOException {
+        return objectMapper.readTree(page).path("content").get(0).path("reviewCount").asLong();
+    }
+
+    private static List<Long> ids(Page<ProductDTO> page) {
+        return page.getContent().stream().map(ProductDTO::getId).toList();
+    }
+}
@@ -0,0 +1,134 @@
+package com.productreview.service;
+
+import com.productreview.dto.CreateReviewDTO;
+import com.productreview.dto.ReviewDTO;
+import com.productreview.dto.UpdateReviewDTO;
+import com.productreview.entity.Product;
+import com.productreview.entity.ProductTopicCount;
+import com.productreview.entity.Review;
+import com.productreview.event.ReviewChangedEvent;
+import com.productreview.repository.ProductRepository;
+import com.productreview.repository.ProductTopicCountRepository;
+import com.productreview.repository.ReviewRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Topic counters through review create, update and delete, and the recount that repairs them.
+ */
+@SpringBootTest(properties = "llm.provider=stub")
+@ActiveProfiles("dev")
+class ProductTopicCounterServiceTest {
+
+    @Autowired
+    private ProductTopicCounterService counters;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ProductTopicCountRepository productTopicCountRepository;
+
+    @Test
+    void appliesDeltasForCreateUpdateAndDelete() throws Exception {
+        Product product = productRepository.findAll().get(0);
+        Long productId = product.getId();
+        counters.recount(productId);
+        long price = count(productId, "price");
+        long delivery = count(productId, "delivery");
+
+        CreateReviewDTO create = new CreateReviewDTO();
+        create.setProductId(productId);
+        create.setComment("The price was fair for what you get");
+        create.setRating(4);
+        create.setDeviceId("topic-test");
+        ReviewDTO review = reviewService.createReview(create);
+        awaitCounts(productId, c -> c.getOrDefault("price", 0L) == price + 1);
+
+        UpdateReviewDTO update = new UpdateReviewDTO();
+        update.setComment("Slow delivery, otherwise as described");
+        update.setRating(3);
+        update.setDeviceId("topic-test");
+        reviewService.updateReview(review.getId(), update);
+        awaitCounts(productId, c -> c.getOrDefault("price", 0L) == price
+                && c.getOrDefault("delivery", 0L) == delivery + 1);
+
+        reviewService.deleteReview(review.getId(), "topic-test");
+        awaitCounts(productId, c -> c.getOrDefault("delivery", 0L) == delivery);
+    }
+
+    @Test
+    void recountRepairsDriftedCounters() {
+        Long productId = productRepository.findAll().get(1).getId();
+        counters.recount(productId);
+        Map<String, Long> expected = counters.getCounts(productId);
+
+        productTopicCountRepository.save(new ProductTopicCount(null, productId, "camera-drift", 7L));
+        for (ProductTopicCount c : productTopicCountRepository.findByProductId(productId)) {
+            c.setMentionCount(c.getMentionCount() + 3);
+            productTopicCountRepository.save(c);
+        }
+
+        counters.recount(productId);
+        assertEquals(expected, counters.getCounts(productId));
+    }
+
+    @Test
+    void skipsCreateDeltaForReviewAlreadyRecounted() {
+        Product product = productRepository.findAll().get(2);
+        Review review = new Review();
+        review.setProduct(product);
+        review.setComment("Great price and quick delivery");
+        review.setRating(5);
+        review.setDeviceId("topic-test");
+        review = reviewRepository.save(review);
+
+        // The review commits while its product is recounted, and its delta arrives afterwards.
+        counters.recount(product.getId());
+        Map<String, Long> recounted = counters.getCounts(product.getId());
+        counters.applyDelta(new ReviewChangedEvent(review.getId(), product.getId(), product.getCategory(), null, review.getComment()));
+
+        assertEquals(recounted, counters.getCounts(product.getId()));
+        reviewRepository.delete(review);
+        counters.recount(product.getId());
+    }
+
+    @Test
+    void rejectedDeltaMarksProductDirtyInsteadOfFailing() {
+        ProductTopicCounterService rejecting = new ProductTopicCounterService(null, null, null, null,
+                task -> {
+                    throw new RejectedExecutionException("full");
+                }, 50);
+
+        assertDoesNotThrow(() -> rejecting.onReviewChanged(new ReviewChangedEvent(1L, 42L, "Books", null, "Nice cover")));
+        assertTrue(rejecting.isDirty(42L));
+    }
+
+    private long count(Long productId, String topic) {
+        return counters.getCounts(productId).getOrDefault(topic, 0L);
+    }
+
+    private void awaitCounts(Long productId, Predicate<Map<String, Long>> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.test(counters.getCounts(productId)) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(condition.test(counters.getCounts(productId)), () -> "counts: " + counters.getCounts(productId));
+    }
+}
@@ -0,0 +1,86 @@
+package com.productreview.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Fields reported by {@link ReviewSummaryStreamParser} as the summary JSON arrives in arbitrary chunks.
+ */
+class ReviewSummaryStreamParserTest {
+
+    private static final String SUMMARY = "{\"takeaway\":\"Solid \\\"pro\\\" sound, şarj lasts\","
+            + "\"pros\":[\"Bass\",\"Fit \\\\ comfort\"],\"cons\":[],\"score\":4,\"meta\":{\"takeaway\":\"nested\"}}";
+
+    @Test
+    void reportsEachFieldOnceComplete() throws IOException {
+        Recorder recorder = new Recorder();
+        ReviewSummaryStreamParser parser = new ReviewSummaryStreamParser(recorder);
+
+        parser.feed("Here is the summary:\n{\"takeaway\":\"Solid");
+        assertEquals(List.of(), recorder.events);
+        parser.feed(" \\\"pro\\\" sound, şarj lasts\",\"pros\":[\"Bass\"");
+        assertEquals(List.of("takeaway=Solid \"pro\" sound, şarj lasts"), recorder.events);
+        parser.feed(",\"Fit \\\\ comfort\"],\"cons\":[]}\nHope this helps!");
+
+        assertEquals(List.of(
+                "takeaway=Solid \"pro\" sound, şarj lasts",
+                "pros=[Bass, Fit \\ comfort]",
+                "cons=[]"), recorder.events);
+        assertTrue(parser.isFinished());
+    }
+
+    @Test
+    void parsesValuesSplitAtEveryCharacter() throws IOException {
+        Recorder recorder = new Recorder();
+        ReviewSummaryStreamParser parser = new ReviewSummaryStreamParser(recorder);
+
+        // Escape sequences, field names and values are split across chunks
+        for (int i = 0; i < SUMMARY.length(); i++) {
+            parser.feed(SUMMARY.substring(i, i + 1));
+        }
+
+        // Nested objects and non-string values are skipped
+        assertEquals(List.of(
+                "takeaway=Solid \"pro\" sound, şarj lasts",
+                "pros=[Bass, Fit \\ comfort]",
+                "cons=[]"), recorder.events);
+        assertTrue(parser.isFinished());
+    }
+
+    @Test
+    void ignoresInputAfterTheObjectAndBeforeItStarts() throws IOException {
+        Recorder recorder = new Recorder();
+        ReviewSummaryStreamParser parser = new ReviewSummaryStreamParser(recorder);
+
+        parser.feed("");
+        parser.feed(null);
+        parser.feed("```json\n");
+        assertFalse(parser.isFinished());
+        parser.feed("{\"takeaway\":\"Fine\"}");
+        parser.feed("{\"takeaway\":\"Ignored\"}");
+
+        assertEquals(List.of("takeaway=Fine"), recorder.events);
+        assertTrue(parser.isFinished());
+    }
+
+    private static final class Recorder implements ReviewSummaryStreamParser.FieldHandler {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onText(String field, String value) {
+            events.add(field + "=" + value);
+        }
+
+        @Override
+        public void onList(String field, List<String> values) {
+            events.add(field + "=" + values);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.productreview.service;
+
+import com.productreview.exception.RateLimitedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WriteRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    // 3 writes per device in a burst, then one every 10 seconds
+    private final WriteRateLimiter limiter = new WriteRateLimiter(true, 3, 6, 100, 600, registry, clock::get);
+
+    @Test
+    void allowsBurstThenRejectsWithRetryAfter() {
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire("device-1", "10.0.0.1");
+        }
+        RateLimitedException e = assertThrows(RateLimitedException.class, () -> limiter.acquire("device-1", "10.0.0.1"));
+        assertEquals(10, e.getRetryAfterSeconds());
+
+        // Other devices behind the same IP have their own bucket
+        assertDoesNotThrow(() -> limiter.acquire("device-2", "10.0.0.1"));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(4));
+        assertEquals(6, assertThrows(RateLimitedException.class,
+                () -> limiter.acquire("device-1", "10.0.0.1")).getRetryAfterSeconds());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(6));
+        assertDoesNotThrow(() -> limiter.acquire("device-1", "10.0.0.1"));
+
+        assertEquals(2, registry.get("rate.limit.requests").tag("limit", "device").tag("outcome", "rejected")
+                .counter().count());
+    }
+
+    @Test
+    void limitsByIpWhenDevicesRotate() {
+        WriteRateLimiter perIp = new WriteRateLimiter(true, 100, 600, 2, 60, registry, clock::get);
+        perIp.acquire("a", "10.0.0.1");
+        perIp.acquire("b", "10.0.0.1");
+        assertThrows(RateLimitedException.class, () -> perIp.acquire("c", "10.0.0.1"));
+        assertDoesNotThrow(() -> perIp.acquire("c", "10.0.0.2"));
+    }
+
+    @Test
+    void dropsBucketsOnceFullAgain() {
+        for (int i = 0; i < 255; i++) {
+            limiter.acquire("device-" + i, "10.0.0." + (i % 8));
+        }
+        assertEquals(255, registry.get("rate.limit.buckets").tag("limit", "device").gauge().value());
+
+        // Every bucket has refilled; the next sweeps take the stripes one at a time
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        for (int i = 0; i < 256 * 16; i++) {
+            limiter.acquire(null, "10.1." + (i / 256) + "." + (i % 256));
+        }
+        assertEquals(0, registry.get("rate.limit.buckets").tag("limit", "device").gauge().value());
+    }
+
+    @Test
+    void disabledLetsEverythingThrough() {
+        WriteRateLimiter disabled = new WriteRateLimiter(false, 1, 1, 1, 1, registry, clock::get);
+        for (int i = 0; i < 10; i++) {
+            disabled.acquire("device-1", "10.0.0.1");
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.productreview.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Records the SQL executed on the current thread. MockMvc requests run on the test thread, so
+ * statements issued by async listeners (topic counters, backfill) are not attributed to the
+ * request under test. A JDBC batch counts as one execution.
+ */
+public final class QueryCounter implements QueryExecutionListener {
+
+    private static final ThreadLocal<List<Statement>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    /**
+     * One execution: its SQL and, for a single prepared statement, the bound parameters in index order.
+     */
+    public record Statement(String sql, List<Object> parameters) {
+    }
+
+    public static void reset() {
+        STATEMENTS.get().clear();
+    }
+
+    public static List<String> statements() {
+        return STATEMENTS.get().stream().map(Statement::sql).toList();
+    }
+
+    public static List<Statement> executed() {
+        return List.copyOf(STATEMENTS.get());
+    }
+
+    public static int count() {
+        return STATEMENTS.get().size();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        StringBuilder sql = new StringBuilder();
+        for (QueryInfo q : queryInfoList) {
+            if (sql.length() > 0) sql.append("; ");
+            sql.append(q.getQuery());
+        }
+        List<Object> parameters = new ArrayList<>();
+        if (queryInfoList.size() == 1 && queryInfoList.get(0).getParametersList().size() == 1) {
+            queryInfoList.get(0).getParametersList().get(0).stream()
+                    .sorted(Comparator.comparingInt(op -> (Integer) op.getArgs()[0]))
+                    .forEach(op -> parameters.add(valueOf(op)));
+        }
+        STATEMENTS.get().add(new Statement(sql.toString(), parameters));
+    }
+
+    private static Object valueOf(ParameterSetOperation op) {
+        Object[] args = op.getArgs();
+        if ("setNull".equals(op.getMethod().getName()) || args.length < 2) {
+            return null;
+        }
+        return args[1];
+    }
+}
@@ -0,0 +1,32 @@
+package com.productreview.support;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource with datasource-proxy so {@link QueryCounter} sees every
+ * statement, whether it comes from Hibernate or a JdbcTemplate.
+ */
+@TestConfiguration
+public class QueryCountingDataSourceConfig {
+
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("query-counter")
+                            .listener(new QueryCounter())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
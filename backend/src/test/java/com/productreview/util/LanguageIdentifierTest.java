@@ -0,0 +1,58 @@
+package com.productreview.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Held-out review sentences (not among the {@code langid} sample sentences), six per language,
+ * and inputs too short or too close to call.
+ */
+class LanguageIdentifierTest {
+
+    @Test
+    void identifiesHeldOutSentences() {
+        assertDetected("en", List.of(
+                "Terrible product, broke after one use. Do not buy.",
+                "Works fine",
+                "Amazing sound, I love these headphones so much!",
+                "The shipping took forever and the seller never replied to me.",
+                "iPhone 15 Pro Max 256GB",
+                "Great value for the price, would buy again"));
+        assertDetected("tr", List.of(
+                "Ürün çok kaliteli, herkese tavsiye ederim.",
+                "Kargo çok hızlıydı, teşekkürler",
+                "Beklediğim gibi değil, iade edeceğim.",
+                "Fiyat performans ürünü, gayet memnunum",
+                "Telefonun ekranı çok güzel ama şarjı çabuk bitiyor",
+                "harika bir urun cok begendim"));
+        assertDetected("es", List.of(
+                "Muy buen producto, lo recomiendo a todos.",
+                "El envío fue rápido y llegó en perfecto estado",
+                "No me gustó nada, la calidad es pésima.",
+                "Me encanta, es justo lo que buscaba para mi casa",
+                "Funciona bien",
+                "Calidad precio excelente, volvería a comprar"));
+    }
+
+    @Test
+    void returnsNullForShortOrAmbiguousText() {
+        assertNull(LanguageIdentifier.detect(null));
+        assertNull(LanguageIdentifier.detect(""));
+        assertNull(LanguageIdentifier.detect("ok"));
+        assertNull(LanguageIdentifier.detect("Good"));
+        assertNull(LanguageIdentifier.detect("5/5 !!!"));
+        assertNull(LanguageIdentifier.detect("Super top"));
+        assertNull(LanguageIdentifier.detect("Samsung Galaxy S24"));
+        assertNull(LanguageIdentifier.detect("Xiaomi Redmi Note"));
+    }
+
+    private static void assertDetected(String lang, List<String> sentences) {
+        for (String sentence : sentences) {
+            assertEquals(lang, LanguageIdentifier.detect(sentence), sentence);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.productreview.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Outputs of the single-pass normalizer, matching what the earlier regex/split version produced.
+ */
+class ProductNameUtilTest {
+
+    @Test
+    void normalizesCaseWhitespaceAndTurkishCharacters() {
+        assertEquals("Iphone 15 Pro Max", ProductNameUtil.normalizeProductName("  ıPHONE   15 pro  MAX  "));
+        assertEquals("Sik Celik Duduklu Tencere Seti 6 Parca", ProductNameUtil.normalizeProductName("Şık Çelik Düdüklü Tencere Seti 6 Parça"));
+        assertEquals("Macbook Pro 16\"", ProductNameUtil.normalizeProductName("MacBook Pro 16\""));
+        assertEquals("Levi's 501 Jeans", ProductNameUtil.normalizeProductName("Levi's\t501\r\njeans"));
+        assertEquals("A", ProductNameUtil.normalizeProductName(" a "));
+    }
+
+    @Test
+    void returnsNormalizedAndBlankNamesUnchanged() {
+        String normalized = "Samsung Galaxy S24";
+        assertSame(normalized, ProductNameUtil.normalizeProductName(normalized));
+        String blank = "   ";
+        assertSame(blank, ProductNameUtil.normalizeProductName(blank));
+        assertNull(ProductNameUtil.normalizeProductName(null));
+    }
+}
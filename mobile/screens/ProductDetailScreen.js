@@ -245,6 +245,8 @@ const ProductDetailScreen = ({ route, navigation }) => {
 
   const [isFavorite, setIsFavorite] = useState(false);
   const [deviceId, setDeviceId] = useState(null);
+  // Reviews this device marked helpful, seeded by the product page request.
+  const [helpfulReviewIds, setHelpfulReviewIds] = useState(() => new Set());
 
   const [editVisible, setEditVisible] = useState(false);
   const [editingReviewId, setEditingReviewId] = useState(null);
@@ -270,7 +272,7 @@ const ProductDetailScreen = ({ route, navigation }) => {
     }
   }, [productId, t]);
 
-  const loadReviews = React.useCallback(async ({ page = 0, append = false } = {}) => {
+  const loadReviews = React.useCallback(async ({ page = 0, append = false, preloaded = null } = {}) => {
     if (!productId) {
       console.error(' [ProductDetail] Error: productId is undefined, cannot load reviews.');
       setReviewsError(t('review.invalidSelection'));
@@ -286,7 +288,7 @@ const ProductDetailScreen = ({ route, navigation }) => {
         setReviewsLoading(true);
       }
 
-      const response = await reviewService.getByProductId(productId, page, REVIEWS_PAGE_SIZE, 'helpfulCount', 'DESC');
+      const response = preloaded || await reviewService.getByProductId(productId, page, REVIEWS_PAGE_SIZE, 'helpfulCount', 'DESC');
       const newItems = response?.content || [];
 
       setReviews((prev) => {
@@ -343,6 +345,15 @@ const ProductDetailScreen = ({ route, navigation }) => {
     try {
       const result = await reviewService.toggleHelpful(reviewId, deviceId);
       console.log(' [Helpful] toggle result:', result);
+      setHelpfulReviewIds((prev) => {
+        const next = new Set(prev);
+        if (result?.helpfulByMe) {
+          next.add(Number(reviewId));
+        } else {
+          next.delete(Number(reviewId));
+        }
+        return next;
+      });
 
       // Always refresh first page so counts + ordering are correct.
       setReviewsPage(0);
@@ -432,16 +443,33 @@ const ProductDetailScreen = ({ route, navigation }) => {
     try {
       setReviewSummaryLoading(true);
       setReviewSummaryError(null);
-      const resp = await productService.getReviewSummary(productId, 30, currentLang);
+      const toSummary = (r) => ({
+        takeaway: r.takeaway || '',
+        pros: Array.isArray(r.pros) ? r.pros : [],
+        cons: Array.isArray(r.cons) ? r.cons : [],
+        topTopics: Array.isArray(r.topTopics) ? r.topTopics : [],
+      });
+      let resp;
+      try {
+        resp = await productService.streamReviewSummary(productId, 30, currentLang, (name, data) => {
+          if (name === 'placeholder' && data && typeof data.takeaway === 'string') {
+            // Show the LOCAL summary right away; AI fields replace it as they arrive.
+            setReviewSummary(toSummary(data));
+            setReviewSummarySource('local');
+            setReviewSummaryLoading(false);
+          } else if (name === 'takeaway' && typeof data === 'string') {
+            setReviewSummary((prev) => ({ ...(prev || {}), takeaway: data }));
+          } else if ((name === 'pros' || name === 'cons' || name === 'topTopics') && Array.isArray(data)) {
+            setReviewSummary((prev) => ({ ...(prev || {}), [name]: data }));
+          }
+        });
+      } catch (streamError) {
+        resp = await productService.getReviewSummary(productId, 30, currentLang);
+      }
       if (!resp || typeof resp.takeaway !== 'string') {
         throw new Error('Invalid summary');
       }
-      setReviewSummary({
-        takeaway: resp.takeaway || '',
-        pros: Array.isArray(resp.pros) ? resp.pros : [],
-        cons: Array.isArray(resp.cons) ? resp.cons : [],
-        topTopics: Array.isArray(resp.topTopics) ? resp.topTopics : [],
-      });
+      setReviewSummary(toSummary(resp));
       setReviewSummarySource((resp?.source || 'AI').toString());
       lastFetchedSummaryForReviewCountRef.current = currentCount;
       lastFetchedSummaryForLangRef.current = currentLang;
@@ -459,12 +487,48 @@ const ProductDetailScreen = ({ route, navigation }) => {
   const refreshAll = React.useCallback(async () => {
     try {
       setRefreshing(true);
-      await loadProductDetails();
-      await loadReviews({ page: 0, append: false });
+      // One round trip for product, first review page and cached summary; parts the server
+      // could not finish in time are loaded from their own endpoints.
+      let pageData = null;
+      try {
+        const id = await deviceService.getDeviceId();
+        pageData = await productService.getPage(productId, { deviceId: id, reviewSize: REVIEWS_PAGE_SIZE, lang: currentLang });
+      } catch (e) {
+        console.error('Error loading product page:', e);
+      }
+      const partial = new Set(pageData?.partial || []);
+
+      if (pageData?.product && !partial.has('product')) {
+        setProduct(pageData.product);
+        setLoading(false);
+      } else {
+        await loadProductDetails();
+      }
+
+      const summary = pageData?.summary;
+      if (summary && !partial.has('summary') && summary.source !== 'LOCAL' && typeof summary.takeaway === 'string') {
+        // A cached AI summary for the current reviews; no need to stream a new one.
+        setReviewSummary({
+          takeaway: summary.takeaway || '',
+          pros: Array.isArray(summary.pros) ? summary.pros : [],
+          cons: Array.isArray(summary.cons) ? summary.cons : [],
+          topTopics: Array.isArray(summary.topTopics) ? summary.topTopics : [],
+        });
+        setReviewSummarySource(summary.source.toString());
+        lastFetchedSummaryForReviewCountRef.current = Number(summary.reviewCount || 0);
+        lastFetchedSummaryForLangRef.current = currentLang;
+      }
+
+      if (Array.isArray(pageData?.helpfulReviewIds) && !partial.has('helpfulReviewIds')) {
+        setHelpfulReviewIds(new Set(pageData.helpfulReviewIds.map(Number)));
+      }
+
+      const preloaded = pageData?.reviews && !partial.has('reviews') ? pageData.reviews : null;
+      await loadReviews({ page: 0, append: false, preloaded });
     } finally {
       setRefreshing(false);
     }
-  }, [loadProductDetails, loadReviews]);
+  }, [productId, currentLang, loadProductDetails, loadReviews]);
 
   useEffect(() => {
     // Fetch AI summary only when reviewCount changes (e.g., new review added/deleted)
@@ -681,6 +745,7 @@ const ProductDetailScreen = ({ route, navigation }) => {
 
   const renderReview = ({ item }) => {
     const isOwn = deviceId && item?.deviceId && item.deviceId === deviceId;
+    const markedHelpful = helpfulReviewIds.has(Number(item.id));
     return (
     <View
       style={[
@@ -739,13 +804,14 @@ const ProductDetailScreen = ({ route, navigation }) => {
 
       <View style={styles.helpfulRow}>
         <TouchableOpacity
-          style={[styles.helpfulButton, { backgroundColor: theme.colors.surface, borderColor: theme.colors.border }]}
+          style={[styles.helpfulButton, { backgroundColor: theme.colors.surface, borderColor: markedHelpful ? theme.colors.primary : theme.colors.border }]}
           onPress={() => handleToggleHelpful(item.id)}
           activeOpacity={0.85}
           hitSlop={{ top: 8, left: 8, right: 8, bottom: 8 }}
+          accessibilityState={{ selected: markedHelpful }}
         >
-          <Ionicons name="thumbs-up-outline" size={16} color={theme.colors.text} />
-          <Text style={[styles.helpfulText, { color: theme.colors.text }]}>{t('review.helpful')}</Text>
+          <Ionicons name={markedHelpful ? 'thumbs-up' : 'thumbs-up-outline'} size={16} color={markedHelpful ? theme.colors.primary : theme.colors.text} />
+          <Text style={[styles.helpfulText, { color: markedHelpful ? theme.colors.primary : theme.colors.text }]}>{t('review.helpful')}</Text>
         </TouchableOpacity>
         <Text style={[styles.helpfulCount, { color: theme.colors.textSecondary }]}>
           {Number(item?.helpfulCount || 0)}
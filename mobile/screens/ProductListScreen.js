@@ -269,17 +269,7 @@ const ProductListScreen = ({ navigation }) => {
         return;
       }
 
-      const results = await Promise.all(
-        ids.map(async (id) => {
-          try {
-            return await productService.getById(id);
-          } catch {
-            return null;
-          }
-        })
-      );
-
-      const merged = results.filter(Boolean);
+      const { products: merged } = await productService.getByIds(ids);
       const validMerged = merged.filter(p => p.id !== null && p.id !== undefined);
       console.log('🔍 [ProductList] Favorite products with valid IDs:', validMerged.length);
       console.log('🔍 [ProductList] Favorite products with valid IDs data:', JSON.stringify(validMerged, null, 2));
@@ -95,6 +95,44 @@ export const productService = {
     return await fetchJsonWithTimeout(`${API_BASE_URL}${API_ENDPOINTS.PRODUCTS}/${id}`, { method: 'GET' }, 15000);
   },
 
+  // Listing cards for many products in one request per 100 ids (the server's limit), in the
+  // order given. Resolves with { products, missingIds }.
+  getByIds: async (ids) => {
+    const unique = Array.from(new Set((ids || []).filter((id) => id !== null && id !== undefined)));
+    const chunks = [];
+    for (let i = 0; i < unique.length; i += 100) {
+      chunks.push(unique.slice(i, i + 100));
+    }
+    const responses = await Promise.all(
+      chunks.map((chunk) =>
+        fetchJsonWithTimeout(
+          `${API_BASE_URL}${API_ENDPOINTS.PRODUCTS}/batch?ids=${chunk.map(encodeURIComponent).join(',')}`,
+          { method: 'GET' },
+          15000
+        )
+      )
+    );
+    return {
+      products: responses.flatMap((r) => r?.products || []),
+      missingIds: responses.flatMap((r) => r?.missingIds || []),
+    };
+  },
+
+  // The product screen in one request: { product, reviews, summary, helpfulReviewIds, partial }.
+  // Parts the server could not finish in time are null and named in `partial`.
+  getPage: async (productId, { deviceId = null, reviewSize = 10, reviewSortBy = 'helpfulCount', lang = 'en' } = {}) => {
+    if (!productId) {
+      throw new Error('Not found');
+    }
+    const params = { reviewSize, reviewSortBy, lang: (lang || 'en').toString() };
+    if (deviceId) params.deviceId = deviceId;
+    return await fetchJsonWithTimeout(
+      `${API_BASE_URL}${API_ENDPOINTS.PRODUCTS}/${productId}/page?${new URLSearchParams(params).toString()}`,
+      { method: 'GET' },
+      15000
+    );
+  },
+
   getReviewSummary: async (productId, limit = 30, lang = 'en') => {
     if (!productId) {
       throw new Error('Not found');
@@ -107,6 +145,70 @@ export const productService = {
       15000
     );
   },
+
+  // Streams the summary over Server-Sent Events. onEvent(name, data) receives 'placeholder'
+  // (LOCAL summary, sent immediately), then 'takeaway' / 'pros' / 'cons' / 'topTopics' as the
+  // AI generates them, and finally 'summary' with the complete response.
+  // Resolves with the final summary; rejects on network/HTTP errors.
+  streamReviewSummary: (productId, limit = 30, lang = 'en', onEvent = () => {}, timeoutMs = 30000) => {
+    if (!productId) {
+      return Promise.reject(new Error('Not found'));
+    }
+    const safeLimit = Number.isFinite(Number(limit)) ? Number(limit) : 30;
+    const safeLang = (lang || 'en').toString();
+    const url = `${API_BASE_URL}${API_ENDPOINTS.PRODUCTS}/${productId}/review-summary/stream?limit=${encodeURIComponent(safeLimit)}&lang=${encodeURIComponent(safeLang)}`;
+
+    return new Promise((resolve, reject) => {
+      const xhr = new XMLHttpRequest();
+      let consumed = 0;
+      let finalSummary = null;
+
+      const consume = () => {
+        const text = xhr.responseText || '';
+        let boundary = text.indexOf('\n\n', consumed);
+        while (boundary !== -1) {
+          const block = text.slice(consumed, boundary);
+          consumed = boundary + 2;
+          let name = 'message';
+          const dataLines = [];
+          block.split('\n').forEach((line) => {
+            if (line.startsWith('event:')) name = line.slice(6).trim();
+            else if (line.startsWith('data:')) dataLines.push(line.slice(5));
+          });
+          if (dataLines.length > 0) {
+            let data = dataLines.join('\n');
+            try {
+              data = JSON.parse(data);
+            } catch {
+              // keep raw text
+            }
+            if (name === 'summary') finalSummary = data;
+            onEvent(name, data);
+          }
+          boundary = text.indexOf('\n\n', consumed);
+        }
+      };
+
+      xhr.open('GET', url);
+      xhr.setRequestHeader('Accept', 'text/event-stream');
+      xhr.timeout = timeoutMs;
+      xhr.onprogress = consume;
+      xhr.onload = () => {
+        if (xhr.status < 200 || xhr.status >= 300) {
+          const err = new Error((xhr.responseText || '').trim() || `HTTP_${xhr.status}`);
+          err.status = xhr.status;
+          reject(err);
+          return;
+        }
+        consume();
+        if (finalSummary) resolve(finalSummary);
+        else reject(new Error('Stream ended without summary'));
+      };
+      xhr.onerror = () => reject(new Error('Network error'));
+      xhr.ontimeout = () => reject(new Error('Request timed out'));
+      xhr.send();
+    });
+  },
 };
 
 // Reviews API